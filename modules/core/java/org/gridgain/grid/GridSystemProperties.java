@@ -353,6 +353,27 @@ public final class GridSystemProperties {
      */
     public static final String GG_JOBS_HISTORY_SIZE = "GRIDGAIN_JOBS_HISTORY_SIZE";
 
+    /**
+     * If this system property is set to {@code true} and collision SPI is not configured, local jobs
+     * that do not require full task session support (attributes and checkpoints) are dispatched onto
+     * a work-stealing pool instead of the public executor service. Default is {@code false}.
+     * <p>
+     * Work-stealing pool has as many threads as maximum size of public executor service (or
+     * {@link GridConfiguration#DFLT_PUBLIC_MAX_THREAD_CNT} if it is not a
+     * {@link java.util.concurrent.ThreadPoolExecutor}) and never grows beyond that. Local jobs that block
+     * waiting for other local jobs (e.g. execute tasks synchronously from within jobs) may take all of its
+     * threads and deadlock, so this property should be enabled only if jobs do not block on each other.
+     */
+    public static final String GG_JOBS_WORK_STEALING_POOL = "GRIDGAIN_JOBS_WORK_STEALING_POOL";
+
+    /**
+     * If this system property is set to {@code true}, job responses that task can not process
+     * immediately keep counting towards communication SPI message queue limit until they are
+     * processed. This way remote nodes are throttled when task result processing falls behind.
+     * Default is {@code false}.
+     */
+    public static final String GG_TASK_RESPONSE_BACK_PRESSURE = "GRIDGAIN_TASK_RESPONSE_BACK_PRESSURE";
+
     /**
      * System property to override default job metrics processor property defining
      * concurrency level for structure holding job metrics snapshots.
@@ -438,6 +459,15 @@ public final class GridSystemProperties {
      */
     public static final String GG_ATOMIC_DEFERRED_ACK_TIMEOUT = "GRIDGAIN_ATOMIC_DEFERRED_ACK_TIMEOUT";
 
+    /**
+     * Maximum number of continuous query notifications sent to a subscriber node and not yet
+     * acknowledged by it. Notifications above this limit are buffered on sender node, and if
+     * buffer also exceeds this limit, subscriber is considered too slow and routine is
+     * stopped on all nodes. Default is {@code 65536}.
+     */
+    public static final String GG_CONTINUOUS_MAX_UNACKED_NOTIFICATIONS =
+        "GRIDGAIN_CONTINUOUS_MAX_UNACKED_NOTIFICATIONS";
+
     /**
      * Enforces singleton.
      */
@@ -135,6 +135,9 @@ public class GridCacheConfiguration {
     /** Default preload batch size in bytes. */
     public static final int DFLT_PRELOAD_BATCH_SIZE = 512 * 1024; // 512K
 
+    /** Default number of preload batches a supplier sends for a single demand request. */
+    public static final int DFLT_PRELOAD_BATCHES_PREFETCH_COUNT = 2;
+
     /** Default distributed garbage collection frequency. */
     public static final long DFLT_DGC_FREQUENCY = 10000;
 
@@ -165,6 +168,21 @@ public class GridCacheConfiguration {
     /** Default value for eager ttl flag. */
     public static final boolean DFLT_EAGER_TTL = true;
 
+    /**
+     * Default size of eager TTL thread pool is {@code 0} which means that expired entries are
+     * removed by a single thread tracking all entries in one ordered set.
+     */
+    public static final int DFLT_EAGER_TTL_THREAD_POOL_SIZE = 0;
+
+    /** Default value for 'readCoalescingEnabled' flag. */
+    public static final boolean DFLT_READ_COALESCING_ENABLED = false;
+
+    /** Default read coalescing window in milliseconds. */
+    public static final long DFLT_READ_COALESCING_WINDOW = 0;
+
+    /** Default maximum number of keys in a single coalesced read batch. */
+    public static final int DFLT_READ_COALESCING_BATCH_SIZE = 512;
+
     /** Default off-heap storage size is {@code -1} which means that off-heap storage is disabled. */
     public static final long DFLT_OFFHEAP_MEMORY = -1;
 
@@ -256,6 +274,18 @@ public class GridCacheConfiguration {
     /** Eager ttl flag. */
     private boolean eagerTtl = DFLT_EAGER_TTL;
 
+    /** Eager ttl thread pool size. */
+    private int eagerTtlPoolSize = DFLT_EAGER_TTL_THREAD_POOL_SIZE;
+
+    /** Read coalescing flag. */
+    private boolean readCoalescingEnabled = DFLT_READ_COALESCING_ENABLED;
+
+    /** Read coalescing window. */
+    private long readCoalescingWindow = DFLT_READ_COALESCING_WINDOW;
+
+    /** Read coalescing batch size. */
+    private int readCoalescingBatchSize = DFLT_READ_COALESCING_BATCH_SIZE;
+
     /** Transaction isolation. */
     private GridCacheTxIsolation dfltIsolation = DFLT_TX_ISOLATION;
 
@@ -334,6 +364,9 @@ public class GridCacheConfiguration {
     /** Preload batch size. */
     private int preloadBatchSize = DFLT_PRELOAD_BATCH_SIZE;
 
+    /** Preload batches prefetch count. */
+    private int preloadBatchesPrefetchCnt = DFLT_PRELOAD_BATCHES_PREFETCH_COUNT;
+
     /** Distributed garbage collection frequency. */
     private long dgcFreq = DFLT_DGC_FREQUENCY;
 
@@ -433,6 +466,7 @@ public class GridCacheConfiguration {
         drRcvCacheCfg = cc.getDrReceiverConfiguration() != null ?
             new GridDrReceiverCacheConfiguration(cc.getDrReceiverConfiguration()) : null;
         eagerTtl = cc.isEagerTtl();
+        eagerTtlPoolSize = cc.getEagerTtlThreadPoolSize();
         evictFilter = cc.getEvictionFilter();
         evictKeyBufSize = cc.getEvictSynchronizedKeyBufferSize();
         evictMaxOverflowRatio = cc.getEvictMaxOverflowRatio();
@@ -455,12 +489,16 @@ public class GridCacheConfiguration {
         pessimisticTxLogSize = cc.getPessimisticTxLogSize();
         preloadMode = cc.getPreloadMode();
         preloadBatchSize = cc.getPreloadBatchSize();
+        preloadBatchesPrefetchCnt = cc.getPreloadBatchesPrefetchCount();
         preloadDelay = cc.getPreloadPartitionedDelay();
         preloadOrder = cc.getPreloadOrder();
         preloadPoolSize = cc.getPreloadThreadPoolSize();
         preloadTimeout = cc.getPreloadTimeout();
         preloadThrottle = cc.getPreloadThrottle();
         qryIdxEnabled = cc.isQueryIndexEnabled();
+        readCoalescingBatchSize = cc.getReadCoalescingBatchSize();
+        readCoalescingEnabled = cc.isReadCoalescingEnabled();
+        readCoalescingWindow = cc.getReadCoalescingWindow();
         refreshAheadRatio = cc.getRefreshAheadRatio();
         seqReserveSize = cc.getAtomicSequenceReserveSize();
         startSize = cc.getStartSize();
@@ -819,6 +857,34 @@ public class GridCacheConfiguration {
         this.eagerTtl = eagerTtl;
     }
 
+    /**
+     * Gets size of thread pool used to eagerly remove expired entries. This setting only
+     * matters when {@link #isEagerTtl()} flag is set.
+     * <p>
+     * If value is {@code 0}, expired entries are tracked in a single ordered set and
+     * are removed by a single thread. If value is positive, expired entries are tracked
+     * in hierarchical timer wheels, one per partition, and partitions are expired in batches
+     * by the given number of threads. Timer wheels make entry tracking a constant-time
+     * operation, but expire entries with a granularity of a wheel tick (10 milliseconds).
+     * <p>
+     * Default value is {@link #DFLT_EAGER_TTL_THREAD_POOL_SIZE}.
+     *
+     * @return Size of eager TTL thread pool.
+     */
+    public int getEagerTtlThreadPoolSize() {
+        return eagerTtlPoolSize;
+    }
+
+    /**
+     * Sets size of thread pool used to eagerly remove expired entries.
+     *
+     * @param eagerTtlPoolSize Size of eager TTL thread pool.
+     * @see #getEagerTtlThreadPoolSize()
+     */
+    public void setEagerTtlThreadPoolSize(int eagerTtlPoolSize) {
+        this.eagerTtlPoolSize = eagerTtlPoolSize;
+    }
+
     /**
      * Default cache transaction concurrency to use when one is not explicitly
      * specified. Default value is defined by {@link #DFLT_TX_CONCURRENCY}.
@@ -1316,6 +1382,110 @@ public class GridCacheConfiguration {
         this.preloadBatchSize = preloadBatchSize;
     }
 
+    /**
+     * Gets number of preload batches a supplier node sends in response to a single demand
+     * request. Supplier does not wait for the demanding node to process a batch before sending
+     * the next one until this number of batches is sent. Demanding node requests the next
+     * portion of partitions as soon as the last batch of the previous portion arrives, so
+     * batches are applied while the next portion is being sent. Larger values increase
+     * preloading throughput on high-latency networks at the cost of memory on demanding node,
+     * which may need to hold up to this number of batches at once.
+     * <p>
+     * Default value is {@link #DFLT_PRELOAD_BATCHES_PREFETCH_COUNT}.
+     *
+     * @return Number of preload batches sent for a single demand request.
+     */
+    public int getPreloadBatchesPrefetchCount() {
+        return preloadBatchesPrefetchCnt;
+    }
+
+    /**
+     * Sets number of preload batches sent for a single demand request.
+     *
+     * @param preloadBatchesPrefetchCnt Number of preload batches sent for a single demand request.
+     * @see #getPreloadBatchesPrefetchCount()
+     */
+    public void setPreloadBatchesPrefetchCount(int preloadBatchesPrefetchCnt) {
+        this.preloadBatchesPrefetchCnt = preloadBatchesPrefetchCnt;
+    }
+
+    /**
+     * Gets flag indicating whether concurrent non-transactional reads of the same keys
+     * should be coalesced. When enabled, a key which is already being fetched from a remote
+     * node is not requested again, all concurrent readers share one response. Keys requested
+     * by different threads within {@link #getReadCoalescingWindow()} are fetched by a single
+     * get operation, so there is at most one get request per primary node in that window.
+     * <p>
+     * Coalesced read may return value fetched by a request which was sent before the read
+     * started, so a thread may not observe its own update made right before the read. For
+     * this reason read coalescing is recommended only for read-mostly caches. Reads with
+     * filters, reads within transactions and reads forced to primary nodes are never coalesced.
+     * <p>
+     * Default value is {@link #DFLT_READ_COALESCING_ENABLED}.
+     *
+     * @return Flag indicating whether reads are coalesced.
+     */
+    public boolean isReadCoalescingEnabled() {
+        return readCoalescingEnabled;
+    }
+
+    /**
+     * Sets read coalescing flag.
+     *
+     * @param readCoalescingEnabled Flag indicating whether reads are coalesced.
+     * @see #isReadCoalescingEnabled()
+     */
+    public void setReadCoalescingEnabled(boolean readCoalescingEnabled) {
+        this.readCoalescingEnabled = readCoalescingEnabled;
+    }
+
+    /**
+     * Gets time window in milliseconds during which keys of coalesced reads are collected
+     * before they are fetched together. Value of {@code 0} means that keys are fetched
+     * immediately and only reads of keys which are already in flight are coalesced. This
+     * setting only matters when {@link #isReadCoalescingEnabled()} flag is set.
+     * <p>
+     * Default value is {@link #DFLT_READ_COALESCING_WINDOW}.
+     *
+     * @return Read coalescing window in milliseconds.
+     */
+    public long getReadCoalescingWindow() {
+        return readCoalescingWindow;
+    }
+
+    /**
+     * Sets read coalescing window in milliseconds.
+     *
+     * @param readCoalescingWindow Read coalescing window in milliseconds.
+     * @see #getReadCoalescingWindow()
+     */
+    public void setReadCoalescingWindow(long readCoalescingWindow) {
+        this.readCoalescingWindow = readCoalescingWindow;
+    }
+
+    /**
+     * Gets maximum number of keys collected within read coalescing window. Once this number
+     * is reached, keys are fetched without waiting for the window to end. This setting only
+     * matters when {@link #isReadCoalescingEnabled()} flag is set.
+     * <p>
+     * Default value is {@link #DFLT_READ_COALESCING_BATCH_SIZE}.
+     *
+     * @return Maximum number of keys in coalesced read batch.
+     */
+    public int getReadCoalescingBatchSize() {
+        return readCoalescingBatchSize;
+    }
+
+    /**
+     * Sets maximum number of keys in coalesced read batch.
+     *
+     * @param readCoalescingBatchSize Maximum number of keys in coalesced read batch.
+     * @see #getReadCoalescingBatchSize()
+     */
+    public void setReadCoalescingBatchSize(int readCoalescingBatchSize) {
+        this.readCoalescingBatchSize = readCoalescingBatchSize;
+    }
+
     /**
      * Gets frequency at which distributed garbage collector will
      * check other nodes if there are any zombie locks left over.
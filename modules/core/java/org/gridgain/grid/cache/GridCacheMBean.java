@@ -283,6 +283,40 @@ public interface GridCacheMBean {
     @GridMBeanDescription("Count of cache entries that are waiting to be flushed.")
     public int getWriteBehindBufferSize();
 
+    /**
+     * Gets count of writer throttling events since initialization. Writers are throttled when
+     * the write buffer size exceeds critical size and flush threads cannot keep up.
+     *
+     * @return Count of throttling events since start.
+     */
+    @GridMBeanDescription("Count of writer throttling events since write-behind cache has started.")
+    public int getWriteBehindTotalThrottledCount();
+
+    /**
+     * Gets ratio of updates that were combined with a not yet flushed update of the same key
+     * and did not cause an additional store operation.
+     *
+     * @return Write-behind coalescing ratio.
+     */
+    @GridMBeanDescription("Ratio of updates combined with not yet flushed updates of the same key.")
+    public float getWriteBehindCoalescingRatio();
+
+    /**
+     * Gets average latency of a batch update of the underlying store.
+     *
+     * @return Average store batch latency in milliseconds.
+     */
+    @GridMBeanDescription("Average latency of underlying store batch update in milliseconds.")
+    public float getWriteBehindAverageStoreLatency();
+
+    /**
+     * Gets maximum latency of a batch update of the underlying store.
+     *
+     * @return Maximum store batch latency in milliseconds.
+     */
+    @GridMBeanDescription("Maximum latency of underlying store batch update in milliseconds.")
+    public long getWriteBehindMaximumStoreLatency();
+
     /**
      * Gets count of keys enqueued for data center replication.
      *
@@ -291,6 +325,23 @@ public interface GridCacheMBean {
     @GridMBeanDescription("Count of keys enqueued for data center replication.")
     public int getDrQueuedKeysCount();
 
+    /**
+     * Gets number of entries preloaded per second during current or last preloading.
+     *
+     * @return Preloading throughput in entries per second.
+     */
+    @GridMBeanDescription("Number of entries preloaded per second during current or last preloading.")
+    public float getPreloadThroughput();
+
+    /**
+     * Gets estimated time to finish current preloading.
+     *
+     * @return Estimated time in milliseconds to finish current preloading, {@code 0} if
+     *      preloading is finished or {@code -1} if it can not be estimated yet.
+     */
+    @GridMBeanDescription("Estimated time in milliseconds to finish current preloading.")
+    public long getPreloadEstimatedTimeToFinish();
+
     /**
      * Gets size of data center replication backup queue.
      *
@@ -322,4 +373,37 @@ public interface GridCacheMBean {
      */
     @GridMBeanDescription("Count of available data center replication sender hubs.")
     public int getDrSenderHubsCount();
+
+    /**
+     * Gets count of entries tracked for eager expiration. Returns {@code 0} if eager TTL is disabled.
+     *
+     * @return Count of entries tracked for eager expiration.
+     * @see GridCacheConfiguration#isEagerTtl()
+     */
+    @GridMBeanDescription("Count of entries tracked for eager expiration.")
+    public long getTtlBacklogSize();
+
+    /**
+     * Gets count of entries that were eagerly removed due to expiration.
+     *
+     * @return Count of eagerly expired entries.
+     */
+    @GridMBeanDescription("Count of entries that were eagerly removed due to expiration.")
+    public long getTtlExpiredCount();
+
+    /**
+     * Gets average time between entry expiration and its eager removal from cache.
+     *
+     * @return Average expiry lag in milliseconds.
+     */
+    @GridMBeanDescription("Average time in milliseconds between entry expiration and its eager removal.")
+    public long getTtlAverageExpiryLag();
+
+    /**
+     * Gets maximum time between entry expiration and its eager removal from cache.
+     *
+     * @return Maximum expiry lag in milliseconds.
+     */
+    @GridMBeanDescription("Maximum time in milliseconds between entry expiration and its eager removal.")
+    public long getTtlMaximumExpiryLag();
 }
@@ -27,6 +27,7 @@ import org.gridgain.grid.cache.*;
 import org.gridgain.grid.cache.eviction.fifo.*;
 import org.gridgain.grid.cache.eviction.lru.*;
 import org.gridgain.grid.cache.eviction.random.*;
+import org.gridgain.grid.cache.eviction.tinylfu.*;
 import org.gridgain.grid.lang.*;
 
 /**
@@ -41,6 +42,7 @@ import org.gridgain.grid.lang.*;
  * <li>{@link GridCacheLruEvictionPolicy}</li>
  * <li>{@link GridCacheRandomEvictionPolicy}</li>
  * <li>{@link GridCacheFifoEvictionPolicy}</li>
+ * <li>{@link GridCacheTinyLfuEvictionPolicy}</li>
  * </ul>
  * <p>
  * The eviction policy thread-safety is ensured by GridGain. Implementations of this interface should
@@ -0,0 +1,816 @@
+/* 
+ Copyright (C) GridGain Systems. All Rights Reserved.
+ 
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+ 
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+/*  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.gridgain.grid.cache.eviction.tinylfu;
+
+import org.gridgain.grid.cache.*;
+import org.gridgain.grid.cache.eviction.*;
+import org.gridgain.grid.util.typedef.internal.*;
+import org.jdk8.backport.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
+
+/**
+ * Eviction policy based on {@code Window TinyLFU (W-TinyLFU)} algorithm. New entries
+ * are first placed into a small {@code LRU} admission window. Entries leaving the window
+ * compete with the least recently used entry of the main segmented {@code LRU} space and
+ * only the one that was accessed more frequently (according to a compact count-min
+ * frequency sketch) is retained. This makes the policy resistant to scans and one-hit
+ * wonders while still adapting to recency-biased workloads.
+ * <p>
+ * Unlike {@link org.gridgain.grid.cache.eviction.lru.GridCacheLruEvictionPolicy}, reads of
+ * entries already tracked by the policy do not mutate shared ordering structures. Instead,
+ * they are recorded into lossy striped ring buffers which are drained in batches by the
+ * thread that manages to acquire the policy lock. When a buffer is full the access is
+ * simply dropped, which only affects the precision of the ordering.
+ * <p>
+ * Eviction order information is attached to cache entries as metadata, the same
+ * way other GridGain eviction policies do.
+ */
+public class GridCacheTinyLfuEvictionPolicy<K, V> implements GridCacheEvictionPolicy<K, V>,
+    GridCacheTinyLfuEvictionPolicyMBean {
+    /** Default admission window size as a percentage of maximum size. */
+    public static final int DFLT_WINDOW_PERCENTAGE = 1;
+
+    /** Percentage of the main space reserved for protected segment. */
+    private static final int PROTECTED_PERCENTAGE = 80;
+
+    /** Size of single read buffer (must be power of 2). */
+    private static final int BUF_SIZE = 16;
+
+    /** Read buffer index mask. */
+    private static final int BUF_MASK = BUF_SIZE - 1;
+
+    /** Number of pending reads in a buffer that triggers drain. */
+    private static final int DRAIN_THRESHOLD = BUF_SIZE / 2;
+
+    /** Tag. */
+    private final String meta = UUID.randomUUID().toString();
+
+    /** Maximum size. */
+    private volatile int max = GridCacheConfiguration.DFLT_CACHE_SIZE;
+
+    /** Admission window size as a percentage of maximum size. */
+    private volatile int winPct = DFLT_WINDOW_PERCENTAGE;
+
+    /** Lock guarding queues and frequency sketch. */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Striped read buffers. */
+    private final ReadBuffer[] bufs;
+
+    /** Admission window queue. */
+    private final NodeQueue win = new NodeQueue();
+
+    /** Probation segment of the main space. */
+    private final NodeQueue probation = new NodeQueue();
+
+    /** Protected segment of the main space. */
+    private final NodeQueue prot = new NodeQueue();
+
+    /** Frequency sketch. */
+    private final FrequencySketch sketch = new FrequencySketch();
+
+    /** Accesses to already tracked entries. */
+    private final LongAdder hits = new LongAdder();
+
+    /** Accesses to not tracked entries. */
+    private final LongAdder misses = new LongAdder();
+
+    /** Entries admitted to the main space over an existing one. */
+    private final LongAdder admitted = new LongAdder();
+
+    /** Entries rejected by admission filter. */
+    private final LongAdder rejected = new LongAdder();
+
+    /** Reads dropped due to buffers contention. */
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Constructs TinyLFU eviction policy with all defaults.
+     */
+    public GridCacheTinyLfuEvictionPolicy() {
+        int cnt = U.ceilPow2(Math.max(4, Runtime.getRuntime().availableProcessors()));
+
+        bufs = new ReadBuffer[cnt];
+
+        for (int i = 0; i < cnt; i++)
+            bufs[i] = new ReadBuffer();
+    }
+
+    /**
+     * Constructs TinyLFU eviction policy with maximum size.
+     *
+     * @param max Maximum allowed size of cache before entry will start getting evicted.
+     */
+    public GridCacheTinyLfuEvictionPolicy(int max) {
+        this();
+
+        A.ensure(max > 0, "max > 0");
+
+        this.max = max;
+    }
+
+    /**
+     * Gets maximum allowed size of cache before entry will start getting evicted.
+     *
+     * @return Maximum allowed size of cache before entry will start getting evicted.
+     */
+    @Override public int getMaxSize() {
+        return max;
+    }
+
+    /**
+     * Sets maximum allowed size of cache before entry will start getting evicted.
+     *
+     * @param max Maximum allowed size of cache before entry will start getting evicted.
+     */
+    @Override public void setMaxSize(int max) {
+        A.ensure(max > 0, "max > 0");
+
+        this.max = max;
+    }
+
+    /**
+     * Gets size of admission window as a percentage of maximum size.
+     *
+     * @return Admission window percentage.
+     */
+    @Override public int getWindowPercentage() {
+        return winPct;
+    }
+
+    /**
+     * Sets size of admission window as a percentage of maximum size. Larger window
+     * favors recency, smaller window favors frequency. Default value is
+     * {@link #DFLT_WINDOW_PERCENTAGE}.
+     *
+     * @param winPct Admission window percentage.
+     */
+    @Override public void setWindowPercentage(int winPct) {
+        A.ensure(winPct > 0 && winPct < 100, "winPct > 0 && winPct < 100");
+
+        this.winPct = winPct;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getCurrentSize() {
+        return win.size + probation.size + prot.size;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getWindowSize() {
+        return win.size;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getProtectedSize() {
+        return prot.size;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String getMetaAttributeName() {
+        return meta;
+    }
+
+    /** {@inheritDoc} */
+    @Override public double getHitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+
+        return total == 0 ? 0 : (double)h / total;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long getAdmittedCount() {
+        return admitted.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long getDroppedAccessCount() {
+        return dropped.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void resetMetrics() {
+        hits.reset();
+        misses.reset();
+        admitted.reset();
+        rejected.reset();
+        dropped.reset();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onEntryAccessed(boolean rmv, GridCacheEntry<K, V> entry) {
+        if (!rmv) {
+            if (!entry.isCached())
+                return;
+
+            Node<K, V> node = entry.meta(meta);
+
+            if (node != null)
+                onRead(node);
+            else
+                onAdd(entry);
+        }
+        else {
+            Node<K, V> node = entry.removeMeta(meta);
+
+            if (node != null) {
+                lock.lock();
+
+                try {
+                    unlink(node);
+                }
+                finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Records read of already tracked entry.
+     *
+     * @param node Entry node.
+     */
+    private void onRead(Node<K, V> node) {
+        hits.increment();
+
+        ReadBuffer buf = bufs[stripe()];
+
+        int pending = buf.offer(node);
+
+        if (pending < 0)
+            dropped.increment();
+
+        if ((pending < 0 || pending >= DRAIN_THRESHOLD) && lock.tryLock()) {
+            try {
+                drainBuffers();
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Starts tracking new entry and evicts entries if maximum size is exceeded.
+     *
+     * @param entry New entry.
+     */
+    private void onAdd(GridCacheEntry<K, V> entry) {
+        Node<K, V> node = new Node<>(entry, U.hash(entry.getKey()));
+
+        Node<K, V> old = entry.putMetaIfAbsent(meta, node);
+
+        if (old != null) {
+            // Was concurrently added.
+            onRead(old);
+
+            return;
+        }
+
+        misses.increment();
+
+        Collection<Node<K, V>> victims;
+
+        lock.lock();
+
+        try {
+            drainBuffers();
+
+            // Entry was concurrently removed or evicted.
+            if (node.removed || !entry.isCached()) {
+                node.removed = true;
+
+                entry.removeMeta(meta, node);
+
+                return;
+            }
+
+            sketch.ensureCapacity(max);
+            sketch.increment(node.hash);
+
+            win.addLast(node);
+
+            victims = evictions();
+        }
+        finally {
+            lock.unlock();
+        }
+
+        if (victims != null)
+            evict(victims);
+    }
+
+    /**
+     * Drains read buffers and applies recorded reads. Must be called under lock.
+     */
+    private void drainBuffers() {
+        assert lock.isHeldByCurrentThread();
+
+        for (ReadBuffer buf : bufs)
+            buf.drain(this);
+    }
+
+    /**
+     * Applies buffered read. Must be called under lock.
+     *
+     * @param node Node that was read.
+     */
+    private void onAccess(Node<K, V> node) {
+        if (node.removed || node.queue == null)
+            return;
+
+        sketch.increment(node.hash);
+
+        if (node.queue == probation) {
+            probation.unlink(node);
+            prot.addLast(node);
+
+            int protMax = protectedMax(max);
+
+            while (prot.size > protMax)
+                probation.addLast(prot.pollFirst());
+        }
+        else
+            node.queue.moveToTail(node);
+    }
+
+    /**
+     * Selects entries that should be evicted to fit maximum size. Selected nodes are
+     * unlinked from queues. Must be called under lock.
+     *
+     * @return Nodes to evict or {@code null} if nothing should be evicted.
+     */
+    @SuppressWarnings("ConstantConditions")
+    private Collection<Node<K, V>> evictions() {
+        assert lock.isHeldByCurrentThread();
+
+        int max = this.max;
+
+        int winMax = windowMax(max);
+        int mainMax = max - winMax;
+
+        Collection<Node<K, V>> victims = null;
+
+        // Admit entries leaving the window.
+        while (win.size > winMax) {
+            Node<K, V> cand = win.pollFirst();
+
+            if (probation.size + prot.size < mainMax) {
+                probation.addLast(cand);
+
+                continue;
+            }
+
+            Node<K, V> victim = probation.size > 0 ? probation.first() : prot.first();
+
+            if (victim == null) {
+                probation.addLast(cand);
+
+                continue;
+            }
+
+            if (sketch.frequency(cand.hash) > sketch.frequency(victim.hash)) {
+                admitted.increment();
+
+                unlink(victim);
+
+                probation.addLast(cand);
+
+                victims = addVictim(victims, victim);
+            }
+            else {
+                rejected.increment();
+
+                cand.removed = true;
+
+                victims = addVictim(victims, cand);
+            }
+        }
+
+        // Maximum size could have been decreased.
+        while (win.size + probation.size + prot.size > max) {
+            NodeQueue q = probation.size > 0 ? probation : prot.size > 0 ? prot : win;
+
+            Node<K, V> victim = q.first();
+
+            unlink(victim);
+
+            victims = addVictim(victims, victim);
+        }
+
+        return victims;
+    }
+
+    /**
+     * Evicts selected entries. Must be called outside of lock.
+     *
+     * @param victims Nodes to evict.
+     */
+    private void evict(Collection<Node<K, V>> victims) {
+        for (Node<K, V> victim : victims) {
+            GridCacheEntry<K, V> entry = victim.entry;
+
+            if (entry.evict())
+                entry.removeMeta(meta, victim);
+            else if (entry.isCached()) {
+                // Entry could not be evicted, keep tracking it as recently used.
+                Node<K, V> node = new Node<>(entry, victim.hash);
+
+                if (entry.replaceMeta(meta, victim, node)) {
+                    lock.lock();
+
+                    try {
+                        if (!node.removed)
+                            probation.addLast(node);
+                    }
+                    finally {
+                        lock.unlock();
+                    }
+                }
+            }
+            else
+                entry.removeMeta(meta, victim);
+        }
+    }
+
+    /**
+     * Unlinks node from its queue and marks it as removed. Must be called under lock.
+     *
+     * @param node Node.
+     */
+    private void unlink(Node<K, V> node) {
+        assert lock.isHeldByCurrentThread();
+
+        node.removed = true;
+
+        if (node.queue != null)
+            node.queue.unlink(node);
+    }
+
+    /**
+     * @param victims Victims collection, possibly {@code null}.
+     * @param victim Victim to add.
+     * @return Victims collection.
+     */
+    private Collection<Node<K, V>> addVictim(Collection<Node<K, V>> victims, Node<K, V> victim) {
+        if (victims == null)
+            victims = new ArrayList<>();
+
+        victims.add(victim);
+
+        return victims;
+    }
+
+    /**
+     * @param max Maximum size.
+     * @return Maximum size of admission window.
+     */
+    private int windowMax(int max) {
+        return Math.max(1, (int)((long)max * winPct / 100));
+    }
+
+    /**
+     * @param max Maximum size.
+     * @return Maximum size of protected segment.
+     */
+    private int protectedMax(int max) {
+        return (int)((long)(max - windowMax(max)) * PROTECTED_PERCENTAGE / 100);
+    }
+
+    /**
+     * @return Read buffer index for current thread.
+     */
+    private int stripe() {
+        return U.hash((int)Thread.currentThread().getId()) & (bufs.length - 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridCacheTinyLfuEvictionPolicy.class, this, "size", getCurrentSize());
+    }
+
+    /**
+     * Policy node attached to cache entry.
+     */
+    private static class Node<K, V> {
+        /** Entry. */
+        private final GridCacheEntry<K, V> entry;
+
+        /** Key hash. */
+        private final int hash;
+
+        /** Previous node. */
+        private Node<K, V> prev;
+
+        /** Next node. */
+        private Node<K, V> next;
+
+        /** Queue this node is linked to. */
+        private NodeQueue queue;
+
+        /** Removed flag. */
+        private volatile boolean removed;
+
+        /**
+         * @param entry Entry.
+         * @param hash Key hash.
+         */
+        Node(GridCacheEntry<K, V> entry, int hash) {
+            this.entry = entry;
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * Intrusive doubly-linked queue of nodes. Not thread-safe.
+     */
+    @SuppressWarnings("unchecked")
+    private static class NodeQueue {
+        /** Head. */
+        private Node head;
+
+        /** Tail. */
+        private Node tail;
+
+        /** Size (volatile for unsynchronized metrics reads). */
+        private volatile int size;
+
+        /**
+         * @return First node or {@code null} if queue is empty.
+         */
+        <K, V> Node<K, V> first() {
+            return head;
+        }
+
+        /**
+         * @return Removed first node or {@code null} if queue is empty.
+         */
+        <K, V> Node<K, V> pollFirst() {
+            Node<K, V> node = head;
+
+            if (node != null)
+                unlink(node);
+
+            return node;
+        }
+
+        /**
+         * @param node Node to add to tail.
+         */
+        void addLast(Node node) {
+            assert node.queue == null;
+
+            node.queue = this;
+            node.prev = tail;
+            node.next = null;
+
+            if (tail == null)
+                head = node;
+            else
+                tail.next = node;
+
+            tail = node;
+
+            size++;
+        }
+
+        /**
+         * @param node Node to unlink.
+         */
+        void unlink(Node node) {
+            assert node.queue == this;
+
+            if (node.prev == null)
+                head = node.next;
+            else
+                node.prev.next = node.next;
+
+            if (node.next == null)
+                tail = node.prev;
+            else
+                node.next.prev = node.prev;
+
+            node.prev = null;
+            node.next = null;
+            node.queue = null;
+
+            size--;
+        }
+
+        /**
+         * @param node Node to move to tail.
+         */
+        void moveToTail(Node node) {
+            if (tail != node) {
+                unlink(node);
+                addLast(node);
+            }
+        }
+    }
+
+    /**
+     * Lossy ring buffer of recorded reads. Writes are lock-free, reads are performed
+     * only under policy lock.
+     */
+    private static class ReadBuffer {
+        /** Slots. */
+        private final AtomicReferenceArray<Node> slots = new AtomicReferenceArray<>(BUF_SIZE);
+
+        /** Write counter. */
+        private final AtomicLong writeCnt = new AtomicLong();
+
+        /** Read counter (modified only under policy lock). */
+        private volatile long readCnt;
+
+        /**
+         * Records read into the buffer.
+         *
+         * @param node Read node.
+         * @return Number of pending reads or {@code -1} if read was dropped.
+         */
+        int offer(Node node) {
+            long head = readCnt;
+            long tail = writeCnt.get();
+
+            if (tail - head >= BUF_SIZE || !writeCnt.compareAndSet(tail, tail + 1))
+                return -1;
+
+            slots.lazySet((int)(tail & BUF_MASK), node);
+
+            return (int)(tail + 1 - head);
+        }
+
+        /**
+         * Applies all published reads.
+         *
+         * @param plc Policy.
+         */
+        @SuppressWarnings("unchecked")
+        void drain(GridCacheTinyLfuEvictionPolicy plc) {
+            long head = readCnt;
+            long tail = writeCnt.get();
+
+            for (; head < tail; head++) {
+                int idx = (int)(head & BUF_MASK);
+
+                Node node = slots.get(idx);
+
+                // Slot has been reserved, but not published yet.
+                if (node == null)
+                    break;
+
+                slots.lazySet(idx, null);
+
+                plc.onAccess(node);
+            }
+
+            readCnt = head;
+        }
+    }
+
+    /**
+     * Count-min sketch with 4-bit counters which are periodically halved to age
+     * historic frequencies. Not thread-safe.
+     */
+    private static class FrequencySketch {
+        /** Hash seeds. */
+        private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+        };
+
+        /** Mask to halve counters. */
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        /** Mask to count odd counters. */
+        private static final long ONE_MASK = 0x1111111111111111L;
+
+        /** Counters table. */
+        private long[] tbl;
+
+        /** Table index mask. */
+        private int tblMask;
+
+        /** Number of increments before reset. */
+        private int sampleSize;
+
+        /** Number of increments since last reset. */
+        private int size;
+
+        /**
+         * @param max Maximum number of tracked entries.
+         */
+        void ensureCapacity(int max) {
+            int len = U.ceilPow2(Math.max(16, Math.min(max, 1 << 30)));
+
+            if (tbl != null && tbl.length == len)
+                return;
+
+            tbl = new long[len];
+            tblMask = len - 1;
+            sampleSize = (int)Math.min(10L * max, Integer.MAX_VALUE);
+            size = 0;
+        }
+
+        /**
+         * @param hash Key hash.
+         * @return Estimated frequency.
+         */
+        int frequency(int hash) {
+            int start = (hash & 3) << 2;
+
+            int freq = Integer.MAX_VALUE;
+
+            for (int i = 0; i < 4; i++) {
+                int off = (start + i) << 2;
+
+                freq = Math.min(freq, (int)((tbl[index(hash, i)] >>> off) & 0xfL));
+            }
+
+            return freq;
+        }
+
+        /**
+         * @param hash Key hash.
+         */
+        void increment(int hash) {
+            int start = (hash & 3) << 2;
+
+            boolean added = false;
+
+            for (int i = 0; i < 4; i++) {
+                int idx = index(hash, i);
+                int off = (start + i) << 2;
+
+                long mask = 0xfL << off;
+
+                if ((tbl[idx] & mask) != mask) {
+                    tbl[idx] += 1L << off;
+
+                    added = true;
+                }
+            }
+
+            if (added && ++size == sampleSize)
+                reset();
+        }
+
+        /**
+         * Halves all counters.
+         */
+        private void reset() {
+            int odd = 0;
+
+            for (int i = 0; i < tbl.length; i++) {
+                odd += Long.bitCount(tbl[i] & ONE_MASK);
+
+                tbl[i] = (tbl[i] >>> 1) & RESET_MASK;
+            }
+
+            size = (size >>> 1) - (odd >>> 2);
+        }
+
+        /**
+         * @param hash Key hash.
+         * @param i Counter depth.
+         * @return Table index.
+         */
+        private int index(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+
+            h += h >>> 32;
+
+            return (int)h & tblMask;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/* 
+ Copyright (C) GridGain Systems. All Rights Reserved.
+ 
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+ 
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+/*  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.gridgain.grid.cache.eviction.tinylfu;
+
+import org.gridgain.grid.util.mbean.*;
+
+/**
+ * MBean for {@code W-TinyLFU} eviction policy.
+ */
+@GridMBeanDescription("MBean for W-TinyLFU cache eviction policy.")
+public interface GridCacheTinyLfuEvictionPolicyMBean {
+    /**
+     * Gets name of metadata attribute used to store eviction policy data.
+     *
+     * @return Name of metadata attribute used to store eviction policy data.
+     */
+    @GridMBeanDescription("Name of metadata attribute used to store eviction policy data.")
+    public String getMetaAttributeName();
+
+    /**
+     * Gets maximum allowed cache size.
+     *
+     * @return Maximum allowed cache size.
+     */
+    @GridMBeanDescription("Maximum allowed cache size.")
+    public int getMaxSize();
+
+    /**
+     * Sets maximum allowed cache size.
+     *
+     * @param max Maximum allowed cache size.
+     */
+    @GridMBeanDescription("Sets maximum allowed cache size.")
+    public void setMaxSize(int max);
+
+    /**
+     * Gets admission window size as a percentage of maximum size.
+     *
+     * @return Admission window percentage.
+     */
+    @GridMBeanDescription("Admission window size as a percentage of maximum size.")
+    public int getWindowPercentage();
+
+    /**
+     * Sets admission window size as a percentage of maximum size.
+     *
+     * @param winPct Admission window percentage.
+     */
+    @GridMBeanDescription("Sets admission window size as a percentage of maximum size.")
+    public void setWindowPercentage(int winPct);
+
+    /**
+     * Gets number of entries tracked by the policy.
+     *
+     * @return Number of entries tracked by the policy.
+     */
+    @GridMBeanDescription("Number of entries tracked by the policy.")
+    public int getCurrentSize();
+
+    /**
+     * Gets number of entries in admission window.
+     *
+     * @return Number of entries in admission window.
+     */
+    @GridMBeanDescription("Number of entries in admission window.")
+    public int getWindowSize();
+
+    /**
+     * Gets number of entries in protected segment.
+     *
+     * @return Number of entries in protected segment.
+     */
+    @GridMBeanDescription("Number of entries in protected segment.")
+    public int getProtectedSize();
+
+    /**
+     * Gets ratio of accesses to entries already tracked by the policy to all accesses.
+     *
+     * @return Hit ratio.
+     */
+    @GridMBeanDescription("Ratio of accesses to already tracked entries to all accesses.")
+    public double getHitRatio();
+
+    /**
+     * Gets number of window entries admitted to the main space in place of an existing entry.
+     *
+     * @return Number of admitted entries.
+     */
+    @GridMBeanDescription("Number of window entries admitted to the main space.")
+    public long getAdmittedCount();
+
+    /**
+     * Gets number of window entries evicted because admission filter rejected them.
+     *
+     * @return Number of rejected entries.
+     */
+    @GridMBeanDescription("Number of window entries rejected by admission filter.")
+    public long getRejectedCount();
+
+    /**
+     * Gets number of reads dropped because read buffers were full or contended.
+     *
+     * @return Number of dropped reads.
+     */
+    @GridMBeanDescription("Number of reads dropped because read buffers were full or contended.")
+    public long getDroppedAccessCount();
+
+    /**
+     * Resets hit ratio and admission metrics.
+     */
+    @GridMBeanDescription("Resets hit ratio and admission metrics.")
+    public void resetMetrics();
+}
@@ -168,6 +168,10 @@ public interface GridCacheContinuousQuery<K, V> extends AutoCloseable {
      * cache operations), should be executed asynchronously without
      * blocking the thread that called the filter. Otherwise, you
      * can get deadlocks.
+     * <p>
+     * Stateless filters without side effects can be annotated with
+     * {@link GridCacheContinuousQuerySharedFilter} to evaluate them once per update
+     * for all queries with identical filters.
      *
      * @param filter Key-value filter.
      */
@@ -0,0 +1,43 @@
+/* 
+ Copyright (C) GridGain Systems. All Rights Reserved.
+ 
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+ 
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+/*  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.gridgain.grid.cache.query;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation for stateless continuous query filters (see {@link GridCacheContinuousQuery#filter()})
+ * that have no side effects. Such filter is evaluated once per update for all continuous queries
+ * registered on the node whose filters are of the same class (loaded by the same class loader) and
+ * are equal in serialized form, and evaluation result is shared between these queries.
+ * <p>
+ * Filter must not keep any state between invocations and its result must depend only on the
+ * filter state at registration time and on the entry passed to it. Otherwise queries will
+ * receive notifications based on evaluation result of another query filter.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE})
+public @interface GridCacheContinuousQuerySharedFilter {
+    // No-op.
+}
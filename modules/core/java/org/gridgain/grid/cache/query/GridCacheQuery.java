@@ -205,6 +205,17 @@ public interface GridCacheQuery<T> {
      */
     public GridCacheQuery<T> enableDedup(boolean dedup);
 
+    /**
+     * Sets number of threads used to execute this query on every queried node. If greater than {@code 1},
+     * scan query splits local partitions between this number of threads, runs them on the public
+     * thread pool and merges results. Other query types are executed by a single thread and ignore
+     * this setting. Default value is {@code 1}.
+     *
+     * @param parallelism Query parallelism.
+     * @return {@code this} query instance for chaining.
+     */
+    public GridCacheQuery<T> parallelism(int parallelism);
+
     /**
      * Sets optional grid projection to execute this query on.
      *
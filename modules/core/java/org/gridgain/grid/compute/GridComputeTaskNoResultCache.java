@@ -50,6 +50,12 @@ import java.util.*;
  * after being processed in
  * {@link GridComputeTask#result(GridComputeJobResult, List) GridComputeTask.result(GridComputeJobResult, List&lt;GridComputeJobResult&gt;)}
  * method.
+ * <p>
+ * Together with this annotation task can implement streaming reduction: every result is folded into
+ * task accumulator in {@code result(..)} method as soon as it arrives, and {@code reduce(..)} method
+ * simply returns the accumulated value. Remote job results are unmarshalled lazily on first call to
+ * {@link GridComputeJobResult#getData()}. To throttle remote nodes when results arrive faster than
+ * they are folded, set {@link GridSystemProperties#GG_TASK_RESPONSE_BACK_PRESSURE} system property.
  */
 @Documented
 @Retention(RetentionPolicy.RUNTIME)
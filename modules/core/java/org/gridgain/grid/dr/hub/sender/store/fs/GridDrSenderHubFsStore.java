@@ -45,6 +45,7 @@ import java.util.concurrent.atomic.*;
 
 import static java.nio.file.StandardOpenOption.*;
 import static org.gridgain.grid.dr.hub.sender.store.GridDrSenderHubStoreOverflowMode.*;
+import static org.gridgain.grid.dr.hub.sender.store.fs.GridDrSenderHubFsStoreSyncMode.*;
 
 /**
  * Data center replication sender hub store implementation which persists data in file system.
@@ -64,6 +65,7 @@ import static org.gridgain.grid.dr.hub.sender.store.GridDrSenderHubStoreOverflow
  *      (see {@link #setOverflowMode(GridDrSenderHubStoreOverflowMode)})</li>
  * <li>Checksum enabled flag (see {@link #setChecksumEnabled(boolean)})</li>
  * <li>Read buffer size (see {@link #setReadBufferSize(int)})</li>
+ * <li>Sync mode (see {@link #setSyncMode(GridDrSenderHubFsStoreSyncMode)})</li>
  * </ul>
  * <h2 class="header">Java Example</h2>
  * <pre name="code" class="java">
@@ -120,6 +122,9 @@ public class GridDrSenderHubFsStore implements GridDrSenderHubStore, GridLifecyc
     /** Default checksum enabled flag. */
     public static final boolean DFLT_CHECKSUM_ENABLED = true;
 
+    /** Default sync mode. */
+    public static final GridDrSenderHubFsStoreSyncMode DFLT_SYNC_MODE = PERIODIC;
+
     /** */
     private final DataCenterStream[] streamById = new DataCenterStream[256];
 
@@ -141,6 +146,9 @@ public class GridDrSenderHubFsStore implements GridDrSenderHubStore, GridLifecyc
     /** */
     private GridDrSenderHubStoreOverflowMode overflowMode = DFLT_OVERFLOW_MODE;
 
+    /** Sync mode. */
+    private GridDrSenderHubFsStoreSyncMode syncMode = DFLT_SYNC_MODE;
+
     /** */
     private String dirPath;
 
@@ -217,6 +225,26 @@ public class GridDrSenderHubFsStore implements GridDrSenderHubStore, GridLifecyc
         this.maxFilesNum = maxFilesNum;
     }
 
+    /**
+     * Gets sync mode defining when stored data is forced to disk.
+     * <p>
+     * Defaults to {@link #DFLT_SYNC_MODE}.
+     *
+     * @return Sync mode.
+     */
+    public GridDrSenderHubFsStoreSyncMode getSyncMode() {
+        return syncMode;
+    }
+
+    /**
+     * Sets sync mode. See {@link #getSyncMode()} for more information.
+     *
+     * @param syncMode Sync mode.
+     */
+    public void setSyncMode(GridDrSenderHubFsStoreSyncMode syncMode) {
+        this.syncMode = syncMode;
+    }
+
     /**
      * Gets checkpoint creation frequency. Checkpoint is a snapshot of current store metadata. In case of restart
      * store will continue from the last saved checkpoint.
@@ -326,6 +354,7 @@ public class GridDrSenderHubFsStore implements GridDrSenderHubStore, GridLifecyc
     @Override public void start() throws GridException {
         A.ensure(readBufSize > 64, "readBufSize > 64");
         A.notNull(overflowMode, "overflowMode");
+        A.notNull(syncMode, "syncMode");
         A.ensure(maxFileSize > 128, "maxFileSize > 128");
         A.ensure(maxFilesNum > 2, "maxFilesNum > 2");
         A.notNull(dirPath, "dirPath");
@@ -676,8 +705,14 @@ public class GridDrSenderHubFsStore implements GridDrSenderHubStore, GridLifecyc
         for (;;) {
             LogFile f = head;
 
-            if (f.write(e))
+            long end = f.write(e);
+
+            if (end >= 0) {
+                if (syncMode == EVERY_BATCH)
+                    f.sync(end);
+
                 break;
+            }
 
             if (files.size() == maxFilesNum) { // We need to remove old files.
                 LogFile rmv = files.firstx();
@@ -841,7 +876,8 @@ public class GridDrSenderHubFsStore implements GridDrSenderHubStore, GridLifecyc
                 Path file = dir.resolve(t + FILE_EXTENSION);
 
                 try {
-                    head.fsync();
+                    if (syncMode != OS)
+                        head.fsync();
 
                     ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(
                         Files.newOutputStream(file, CREATE_NEW, DSYNC)));
@@ -1377,6 +1413,18 @@ public class GridDrSenderHubFsStore implements GridDrSenderHubStore, GridLifecyc
         /** */
         private final CountDownLatch init;
 
+        /** Size of data which is known to be forced to disk. */
+        private volatile long syncedSize;
+
+        /** Mutex serializing disk syncs. */
+        private final Object syncMux = new Object();
+
+        /** Whether all written data was forced to disk before write channel was closed. */
+        private volatile boolean forced;
+
+        /** Whether file was deleted. */
+        private volatile boolean deleted;
+
         /**
          * @param id ID.
          */
@@ -1444,17 +1492,17 @@ public class GridDrSenderHubFsStore implements GridDrSenderHubStore, GridLifecyc
 
         /**
          * @param e Entry.
-         * @return Write offset if succeeded and {@code -1} otherwise.
+         * @return End offset of written entry if succeeded and {@code -1} otherwise.
          * @throws GridException If failed.
          */
-        boolean write(EntryIn e) throws GridException {
+        long write(EntryIn e) throws GridException {
             int entrySize = e.size();
 
             for(;;) {
                 long s = acquiredSize.get();
 
                 if (s >= maxFileSize)
-                    return false;
+                    return -1;
 
                 if (acquiredSize.compareAndSet(s, s + entrySize))
                     break;
@@ -1466,7 +1514,7 @@ public class GridDrSenderHubFsStore implements GridDrSenderHubStore, GridLifecyc
 
             synchronized (this) {
                 if (!isWritable())
-                    return false;
+                    return -1;
 
                 try {
                     curSize = size;
@@ -1493,7 +1541,42 @@ public class GridDrSenderHubFsStore implements GridDrSenderHubStore, GridLifecyc
             if (curSize + entrySize >= maxFileSize)
                 stopWrites();
 
-            return true;
+            return curSize + entrySize;
+        }
+
+        /**
+         * Forces data written up to the given offset to disk. Implements group commit: a single force
+         * covers all entries written before it started, so producers which were waiting for the force
+         * in progress usually find their data already synced.
+         *
+         * @param off Offset data should be synced up to.
+         * @throws GridException If failed.
+         */
+        void sync(long off) throws GridException {
+            if (syncedSize >= off)
+                return;
+
+            synchronized (syncMux) {
+                if (syncedSize >= off)
+                    return;
+
+                long s = size;
+
+                try {
+                    writeCh.force(false);
+                }
+                catch (ClosedChannelException e) {
+                    // Data of deleted file is not needed anymore.
+                    if (!forced && !deleted)
+                        throw new GridException("Failed to fsync channel (channel was closed before data " +
+                            "was forced to disk): " + id, e);
+                }
+                catch (IOException e) {
+                    throw new GridException("Failed to fsync channel: " + id, e);
+                }
+
+                syncedSize = s;
+            }
         }
 
         /**
@@ -1505,6 +1588,8 @@ public class GridDrSenderHubFsStore implements GridDrSenderHubStore, GridLifecyc
 
             try {
                 writeCh.force(false);
+
+                forced = true;
             }
             catch (IOException e) {
                 U.warn(log, "Failed to fsync channel: " + id, e);
@@ -1517,6 +1602,8 @@ public class GridDrSenderHubFsStore implements GridDrSenderHubStore, GridLifecyc
          * @throws GridException If failed.
          */
         public synchronized void delete() throws GridException {
+            deleted = true;
+
             U.close(readCh, log);
             U.close(writeCh, log);
 
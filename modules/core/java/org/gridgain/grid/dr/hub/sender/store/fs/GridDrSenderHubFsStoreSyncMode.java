@@ -0,0 +1,60 @@
+/* 
+ Copyright (C) GridGain Systems. All Rights Reserved.
+ 
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+ 
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+/*  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.gridgain.grid.dr.hub.sender.store.fs;
+
+import org.jetbrains.annotations.*;
+
+/**
+ * Data center replication sender hub file system store sync mode. Defines when data written to the store
+ * is forced to disk, trading store throughput for durability of the most recently stored batches.
+ */
+public enum GridDrSenderHubFsStoreSyncMode {
+    /**
+     * Store returns only after batch is forced to disk. Concurrent producers share a single disk sync,
+     * so throughput grows with the number of concurrent producers.
+     */
+    EVERY_BATCH,
+
+    /**
+     * Data is forced to disk on each checkpoint (see {@link GridDrSenderHubFsStore#getCheckpointFrequency()}),
+     * so batches stored within the last checkpoint interval can be lost on OS crash.
+     */
+    PERIODIC,
+
+    /** Data is never forced to disk explicitly, operating system decides when to flush it. */
+    OS;
+
+    /** Enumerated values. */
+    private static final GridDrSenderHubFsStoreSyncMode[] VALS = values();
+
+    /**
+     * Efficiently gets enumerated value from its ordinal.
+     *
+     * @param ord Ordinal value.
+     * @return Enumerated value or {@code null} if ordinal out of range.
+     */
+    @Nullable public static GridDrSenderHubFsStoreSyncMode fromOrdinal(int ord) {
+        return ord >= 0 && ord < VALS.length ? VALS[ord] : null;
+    }
+}
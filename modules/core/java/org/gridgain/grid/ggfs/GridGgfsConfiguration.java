@@ -302,6 +302,11 @@ public class GridGgfsConfiguration {
 
     /**
      * Get number of pre-fetched blocks if specific file's chunk is requested.
+     * <p>
+     * This is the upper bound of the read-ahead window. Each input stream adapts its own
+     * window to the access pattern: the window grows while pre-fetched blocks are consumed
+     * by sequential reads and shrinks on random reads, so that scans are not stalled and
+     * random reads do not over-fetch.
      *
      * @return The number of pre-fetched blocks.
      */
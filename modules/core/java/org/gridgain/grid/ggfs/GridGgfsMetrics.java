@@ -162,4 +162,32 @@ public interface GridGgfsMetrics {
      * @return Total bytes write time.
      */
     public long bytesWriteTime();
+
+    /**
+     * Gets total number of blocks requested ahead of reads by adaptive read-ahead.
+     * <p>
+     * This is a local metric.
+     *
+     * @return Total pre-fetched blocks.
+     */
+    public long blocksPrefetched();
+
+    /**
+     * Gets number of pre-fetched blocks which were actually read. Ratio of this value to
+     * {@link #blocksPrefetched()} gives prefetch hit rate.
+     * <p>
+     * This is a local metric.
+     *
+     * @return Pre-fetched blocks which were read.
+     */
+    public long blocksPrefetchHits();
+
+    /**
+     * Gets total size of pre-fetched blocks which were discarded without being read.
+     * <p>
+     * This is a local metric.
+     *
+     * @return Wasted pre-fetched bytes.
+     */
+    public long bytesPrefetchWasted();
 }
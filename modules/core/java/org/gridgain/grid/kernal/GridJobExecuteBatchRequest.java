@@ -0,0 +1,241 @@
+/* 
+ Copyright (C) GridGain Systems. All Rights Reserved.
+ 
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+ 
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+/*  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.gridgain.grid.kernal;
+
+import org.gridgain.grid.util.direct.*;
+import org.gridgain.grid.util.tostring.*;
+import org.gridgain.grid.util.typedef.*;
+import org.gridgain.grid.util.typedef.internal.*;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+
+/**
+ * Batch of job execution requests of the same task mapped to the same node. Serialized
+ * job siblings and session attributes are identical for all jobs of the task, so they are
+ * sent only once per batch instead of once per job.
+ */
+public class GridJobExecuteBatchRequest extends GridTcpCommunicationMessageAdapter {
+    /** Job requests without siblings and session attributes. */
+    @GridToStringInclude
+    @GridDirectCollection(GridJobExecuteRequest.class)
+    private Collection<GridJobExecuteRequest> reqs;
+
+    /** Serialized session attributes shared by all requests. */
+    @GridToStringExclude
+    private byte[] sesAttrsBytes;
+
+    /** Serialized job siblings shared by all requests. */
+    @GridToStringExclude
+    private byte[] siblingsBytes;
+
+    /**
+     * No-op constructor to support {@link Externalizable} interface.
+     */
+    public GridJobExecuteBatchRequest() {
+        // No-op.
+    }
+
+    /**
+     * @param reqs Job requests of the same task. Shared serialized data is taken
+     *      from the first request and removed from all of them.
+     */
+    public GridJobExecuteBatchRequest(Collection<GridJobExecuteRequest> reqs) {
+        assert !F.isEmpty(reqs);
+
+        this.reqs = reqs;
+
+        GridJobExecuteRequest first = F.first(reqs);
+
+        siblingsBytes = first.getSiblingsBytes();
+        sesAttrsBytes = first.getSessionAttributesBytes();
+
+        for (GridJobExecuteRequest req : reqs)
+            req.sharedBytes(null, null);
+    }
+
+    /**
+     * @return Job requests with shared serialized data restored.
+     */
+    public Collection<GridJobExecuteRequest> requests() {
+        for (GridJobExecuteRequest req : reqs)
+            req.sharedBytes(siblingsBytes, sesAttrsBytes);
+
+        return reqs;
+    }
+
+    /**
+     * @return Serialized job siblings shared by all requests.
+     */
+    public byte[] siblingsBytes() {
+        return siblingsBytes;
+    }
+
+    /** {@inheritDoc} */
+    @SuppressWarnings({"CloneDoesntCallSuperClone", "CloneCallsConstructors"})
+    @Override public GridTcpCommunicationMessageAdapter clone() {
+        GridJobExecuteBatchRequest _clone = new GridJobExecuteBatchRequest();
+
+        clone0(_clone);
+
+        return _clone;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void clone0(GridTcpCommunicationMessageAdapter _msg) {
+        GridJobExecuteBatchRequest _clone = (GridJobExecuteBatchRequest)_msg;
+
+        _clone.reqs = reqs;
+        _clone.sesAttrsBytes = sesAttrsBytes;
+        _clone.siblingsBytes = siblingsBytes;
+    }
+
+    /** {@inheritDoc} */
+    @SuppressWarnings("all")
+    @Override public boolean writeTo(ByteBuffer buf) {
+        commState.setBuffer(buf);
+
+        if (!commState.typeWritten) {
+            if (!commState.putByte(directType()))
+                return false;
+
+            commState.typeWritten = true;
+        }
+
+        switch (commState.idx) {
+            case 0:
+                if (reqs != null) {
+                    if (commState.it == null) {
+                        if (!commState.putInt(reqs.size()))
+                            return false;
+
+                        commState.it = reqs.iterator();
+                    }
+
+                    while (commState.it.hasNext() || commState.cur != NULL) {
+                        if (commState.cur == NULL)
+                            commState.cur = commState.it.next();
+
+                        if (!commState.putMessage((GridJobExecuteRequest)commState.cur))
+                            return false;
+
+                        commState.cur = NULL;
+                    }
+
+                    commState.it = null;
+                } else {
+                    if (!commState.putInt(-1))
+                        return false;
+                }
+
+                commState.idx++;
+
+            case 1:
+                if (!commState.putByteArray(sesAttrsBytes))
+                    return false;
+
+                commState.idx++;
+
+            case 2:
+                if (!commState.putByteArray(siblingsBytes))
+                    return false;
+
+                commState.idx++;
+
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @SuppressWarnings("all")
+    @Override public boolean readFrom(ByteBuffer buf) {
+        commState.setBuffer(buf);
+
+        switch (commState.idx) {
+            case 0:
+                if (commState.readSize == -1) {
+                    if (buf.remaining() < 4)
+                        return false;
+
+                    commState.readSize = commState.getInt();
+                }
+
+                if (commState.readSize >= 0) {
+                    if (reqs == null)
+                        reqs = new ArrayList<>(commState.readSize);
+
+                    for (int i = commState.readItems; i < commState.readSize; i++) {
+                        Object _val = commState.getMessage();
+
+                        if (_val == MSG_NOT_READ)
+                            return false;
+
+                        reqs.add((GridJobExecuteRequest)_val);
+
+                        commState.readItems++;
+                    }
+                }
+
+                commState.readSize = -1;
+                commState.readItems = 0;
+
+                commState.idx++;
+
+            case 1:
+                byte[] sesAttrsBytes0 = commState.getByteArray();
+
+                if (sesAttrsBytes0 == BYTE_ARR_NOT_READ)
+                    return false;
+
+                sesAttrsBytes = sesAttrsBytes0;
+
+                commState.idx++;
+
+            case 2:
+                byte[] siblingsBytes0 = commState.getByteArray();
+
+                if (siblingsBytes0 == BYTE_ARR_NOT_READ)
+                    return false;
+
+                siblingsBytes = siblingsBytes0;
+
+                commState.idx++;
+
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public byte directType() {
+        return 79;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridJobExecuteBatchRequest.class, this);
+    }
+}
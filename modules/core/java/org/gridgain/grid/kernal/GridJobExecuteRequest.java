@@ -398,6 +398,27 @@ public class GridJobExecuteRequest extends GridTcpCommunicationMessageAdapter im
         return internal;
     }
 
+    /**
+     * Sets job siblings deserialized once for all jobs of the same batch.
+     *
+     * @param siblings Job siblings.
+     */
+    public void siblings(Collection<GridComputeJobSibling> siblings) {
+        this.siblings = siblings;
+    }
+
+    /**
+     * Sets serialized siblings and session attributes which are sent only once
+     * for all jobs of {@link GridJobExecuteBatchRequest}.
+     *
+     * @param siblingsBytes Serialized collection of split siblings.
+     * @param sesAttrsBytes Serialized session attributes.
+     */
+    void sharedBytes(@Nullable byte[] siblingsBytes, @Nullable byte[] sesAttrsBytes) {
+        this.siblingsBytes = siblingsBytes;
+        this.sesAttrsBytes = sesAttrsBytes;
+    }
+
     /** {@inheritDoc} */
     @SuppressWarnings({"CloneDoesntCallSuperClone", "CloneCallsConstructors"})
     @Override public GridTcpCommunicationMessageAdapter clone() {
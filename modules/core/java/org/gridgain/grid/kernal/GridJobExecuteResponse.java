@@ -24,6 +24,7 @@
 package org.gridgain.grid.kernal;
 
 import org.gridgain.grid.*;
+import org.gridgain.grid.lang.*;
 import org.gridgain.grid.util.direct.*;
 import org.gridgain.grid.util.typedef.internal.*;
 import org.gridgain.grid.util.tostring.*;
@@ -75,6 +76,11 @@ public class GridJobExecuteResponse extends GridTcpCommunicationMessageAdapter i
     @GridDirectTransient
     private GridException fakeEx;
 
+    /** Completion closure of the message, run once response is processed by task. */
+    @GridToStringExclude
+    @GridDirectTransient
+    private GridRunnable procC;
+
     /**
      * No-op constructor to support {@link Externalizable} interface. This
      * constructor is not meant to be used for other purposes.
@@ -198,6 +204,33 @@ public class GridJobExecuteResponse extends GridTcpCommunicationMessageAdapter i
         this.fakeEx = fakeEx;
     }
 
+    /**
+     * @return {@code True} if response has processing completion closure.
+     */
+    public boolean hasProcessedCallback() {
+        return procC != null;
+    }
+
+    /**
+     * @param procC Closure to run once response is processed.
+     */
+    public void processedCallback(@Nullable GridRunnable procC) {
+        this.procC = procC;
+    }
+
+    /**
+     * Runs processing completion closure, if any. Closure is run at most once.
+     */
+    public void onProcessed() {
+        GridRunnable c = procC;
+
+        if (c != null) {
+            procC = null;
+
+            c.run();
+        }
+    }
+
     /** {@inheritDoc} */
     @SuppressWarnings({"CloneDoesntCallSuperClone", "CloneCallsConstructors"})
     @Override public GridTcpCommunicationMessageAdapter clone() {
@@ -25,6 +25,8 @@ package org.gridgain.grid.kernal;
 
 import org.gridgain.grid.compute.*;
 import org.gridgain.grid.*;
+import org.gridgain.grid.marshaller.*;
+import org.gridgain.grid.util.tostring.*;
 import org.gridgain.grid.util.typedef.internal.*;
 import org.jetbrains.annotations.*;
 import java.util.*;
@@ -48,6 +50,18 @@ public class GridJobResultImpl implements GridComputeJobResult {
     /** */
     private Object data;
 
+    /** Serialized job data which is unmarshalled on first access. */
+    @GridToStringExclude
+    private byte[] dataBytes;
+
+    /** Marshaller for serialized job data. */
+    @GridToStringExclude
+    private GridMarshaller marsh;
+
+    /** Class loader for serialized job data. */
+    @GridToStringExclude
+    private ClassLoader clsLdr;
+
     /** */
     private GridException ex;
 
@@ -104,6 +118,17 @@ public class GridJobResultImpl implements GridComputeJobResult {
     /** {@inheritDoc} */
     @SuppressWarnings("unchecked")
     @Override public synchronized Object getData() {
+        if (dataBytes != null) {
+            try {
+                data = marsh.unmarshal(dataBytes, clsLdr);
+            }
+            catch (GridException e) {
+                throw new GridRuntimeException("Failed to unmarshal job result: " + this, e);
+            }
+
+            clearDataBytes();
+        }
+
         return data;
     }
 
@@ -136,6 +161,8 @@ public class GridJobResultImpl implements GridComputeJobResult {
         this.ex = ex;
         this.isCancelled = isCancelled;
 
+        clearDataBytes();
+
         if (jobAttrs != null) {
             jobCtx.setAttributes(jobAttrs);
         }
@@ -143,6 +170,35 @@ public class GridJobResultImpl implements GridComputeJobResult {
         hasRes = true;
     }
 
+    /**
+     * Sets response with serialized job data. Data is unmarshalled lazily on first
+     * {@link #getData()} call, so results that are never accessed are never unmarshalled.
+     *
+     * @param dataBytes Serialized job data.
+     * @param marsh Marshaller.
+     * @param clsLdr Class loader to unmarshal job data with.
+     * @param ex Job exception.
+     * @param jobAttrs Job attributes.
+     * @param isCancelled Whether job was cancelled or not.
+     */
+    public synchronized void onResponse(byte[] dataBytes, GridMarshaller marsh, ClassLoader clsLdr,
+        @Nullable GridException ex, @Nullable Map<Object, Object> jobAttrs, boolean isCancelled) {
+        onResponse(null, ex, jobAttrs, isCancelled);
+
+        this.dataBytes = dataBytes;
+        this.marsh = marsh;
+        this.clsLdr = clsLdr;
+    }
+
+    /**
+     * Clears serialized job data.
+     */
+    private void clearDataBytes() {
+        dataBytes = null;
+        marsh = null;
+        clsLdr = null;
+    }
+
     /**
      * @param isOccupied {@code True} if job for this response is being sent.
      */
@@ -162,11 +218,15 @@ public class GridJobResultImpl implements GridComputeJobResult {
      */
     public synchronized void clearData() {
         data = null;
+
+        clearDataBytes();
     }
 
     /** */
     public synchronized void resetResponse() {
         data = null;
+
+        clearDataBytes();
         ex = null;
 
         hasRes = false;
@@ -31,6 +31,7 @@ import org.gridgain.grid.util.typedef.internal.*;
 import org.gridgain.grid.util.tostring.*;
 
 import java.io.*;
+import java.nio.*;
 import java.util.*;
 
 import static org.gridgain.grid.kernal.processors.ggfs.GridGgfsIpcCommand.*;
@@ -162,6 +163,17 @@ public class GridGgfsControlResponse extends GridGgfsMessage {
         this.res = res;
     }
 
+    /**
+     * Sets read data as heap buffers, which are written to output without copying.
+     *
+     * @param res Response.
+     */
+    public void response(ByteBuffer[] res) {
+        resType = RES_TYPE_BYTE_ARRAY;
+
+        this.res = res;
+    }
+
     /**
      * @param res Response.
      */
@@ -387,10 +399,16 @@ public class GridGgfsControlResponse extends GridGgfsMessage {
                 break;
 
             case RES_TYPE_BYTE_ARRAY:
-                byte[][] buf = (byte[][])res;
+                if (res instanceof ByteBuffer[]) {
+                    for (ByteBuffer buf : (ByteBuffer[])res)
+                        out.write(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+                }
+                else {
+                    byte[][] buf = (byte[][])res;
 
-                for (byte[] bytes : buf)
-                    out.write(bytes);
+                    for (byte[] bytes : buf)
+                        out.write(bytes);
+                }
 
                 break;
 
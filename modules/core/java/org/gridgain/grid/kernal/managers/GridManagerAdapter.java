@@ -453,6 +453,13 @@ public abstract class GridManagerAdapter<T extends GridSpi> implements GridManag
                         return ctx.cache().cache(cacheName).affinity().partition(key);
                     }
 
+                    @Override public Collection<GridNode> affinityNodes(@Nullable String cacheName, Object key) {
+                        GridCache<Object, Object> cache = ctx.cache().cache(cacheName);
+
+                        return cache != null ? cache.affinity().mapKeyToPrimaryAndBackups(key) :
+                            Collections.<GridNode>emptyList();
+                    }
+
                     @Override public void removeFromSwap(String spaceName, Object key,
                         @Nullable ClassLoader ldr) throws GridException {
                         ctx.swap().remove(spaceName, key, null, ldr);
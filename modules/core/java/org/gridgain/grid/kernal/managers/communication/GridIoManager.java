@@ -131,6 +131,9 @@ public class GridIoManager extends GridManagerAdapter<GridCommunicationSpi<Seria
             }
         };
 
+    /** Completion closure of regular message processed by current thread. */
+    private final ThreadLocal<GridRunnable> curMsgC = new ThreadLocal<>();
+
     /** Fully started flag. When set to true, can send and receive messages. */
     private volatile boolean started;
 
@@ -603,6 +606,8 @@ public class GridIoManager extends GridManagerAdapter<GridCommunicationSpi<Seria
                 try {
                     threadProcessingMessage(true);
 
+                    curMsgC.set(msgC);
+
                     processRegularMessage0(msg, node.id());
                 }
                 finally {
@@ -610,7 +615,14 @@ public class GridIoManager extends GridManagerAdapter<GridCommunicationSpi<Seria
 
                     workersCnt.decrement();
 
-                    msgC.run();
+                    // Closure could be detached by listener.
+                    GridRunnable c = curMsgC.get();
+
+                    if (c != null) {
+                        curMsgC.remove();
+
+                        c.run();
+                    }
                 }
             }
         };
@@ -1347,6 +1359,24 @@ public class GridIoManager extends GridManagerAdapter<GridCommunicationSpi<Seria
         }
     }
 
+    /**
+     * Detaches completion closure of regular message currently processed by calling thread. Message
+     * is not considered processed when listener returns and still counts towards communication SPI
+     * message queue limit until returned closure is run. Listeners that queue received messages
+     * for deferred processing use this to keep back-pressure on sending nodes.
+     *
+     * @return Completion closure that must be run exactly once, or {@code null} if calling
+     *      thread is not processing regular message.
+     */
+    @Nullable public GridRunnable detachMessageCompletion() {
+        GridRunnable c = curMsgC.get();
+
+        if (c != null)
+            curMsgC.remove();
+
+        return c;
+    }
+
     /**
      * @param topic Message topic.
      * @return Whether or not listener was indeed removed.
@@ -90,6 +90,22 @@ public class GridLoadBalancerManager extends GridManagerAdapter<GridLoadBalancin
         return getSpi(ses.getLoadBalancingSpi()).getBalancedNode(ses, top, job);
     }
 
+    /**
+     * Notifies load balancing SPI of the task about received job result, if SPI is interested in it.
+     *
+     * @param ses Task session.
+     * @param res Job result.
+     */
+    public void onJobResult(GridTaskSessionImpl ses, GridComputeJobResult res) {
+        assert ses != null;
+        assert res != null;
+
+        GridLoadBalancingSpi spi = getSpi(ses.getLoadBalancingSpi());
+
+        if (spi instanceof GridLoadBalancingJobResultListener)
+            ((GridLoadBalancingJobResultListener)spi).onJobResult(ses, res);
+    }
+
     /**
      * @param ses Grid task session.
      * @param top Task topology.
@@ -211,11 +211,41 @@ class GridCacheMBeanAdapter implements GridCacheMBean {
         return store != null ? store.getWriteBehindBufferSize() : -1;
     }
 
+    /** {@inheritDoc} */
+    @Override public int getWriteBehindTotalThrottledCount() {
+        return store != null ? store.getWriteBehindTotalThrottledCount() : -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override public float getWriteBehindCoalescingRatio() {
+        return store != null ? store.getWriteBehindCoalescingRatio() : -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override public float getWriteBehindAverageStoreLatency() {
+        return store != null ? store.getWriteBehindAverageStoreLatency() : -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long getWriteBehindMaximumStoreLatency() {
+        return store != null ? store.getWriteBehindMaximumStoreLatency() : -1;
+    }
+
     /** {@inheritDoc} */
     @Override public int getDrQueuedKeysCount() {
         return cctx.dr().queuedKeysCount();
     }
 
+    /** {@inheritDoc} */
+    @Override public float getPreloadThroughput() {
+        return cctx.isNear() ? dhtCtx.preloader().throughput() : cctx.preloader().throughput();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long getPreloadEstimatedTimeToFinish() {
+        return cctx.isNear() ? dhtCtx.preloader().estimatedTimeToFinish() : cctx.preloader().estimatedTimeToFinish();
+    }
+
     /** {@inheritDoc} */
     @Override public int getDrBackupQueueSize() {
         return cctx.dr().queuedKeysCount();
@@ -235,4 +265,24 @@ class GridCacheMBeanAdapter implements GridCacheMBean {
     @Override public int getDrSenderHubsCount() {
         return cctx.dr().queuedKeysCount();
     }
+
+    /** {@inheritDoc} */
+    @Override public long getTtlBacklogSize() {
+        return cctx.ttl().backlogSize();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long getTtlExpiredCount() {
+        return cctx.ttl().expiredCount();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long getTtlAverageExpiryLag() {
+        return cctx.ttl().averageExpiryLag();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long getTtlMaximumExpiryLag() {
+        return cctx.ttl().maximumExpiryLag();
+    }
 }
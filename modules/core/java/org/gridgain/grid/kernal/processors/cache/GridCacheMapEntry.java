@@ -81,7 +81,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
      * <li>Each nested object should be analyzed in the same way as above.</li>
      * </ul>
      */
-    private static final int SIZE_OVERHEAD = 87 /*entry*/ + 32 /* version */;
+    private static final int SIZE_OVERHEAD = 111 /*entry*/;
 
     /** Static logger to avoid re-creation. Made static for test purpose. */
     protected static final AtomicReference<GridLogger> logRef = new AtomicReference<>();
@@ -105,9 +105,25 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
     @GridToStringInclude
     protected final long startVer;
 
-    /** Version. */
-    @GridToStringInclude
-    protected GridCacheVersion ver;
+    /** Version topology version (version is packed into primitive fields, see {@link #ver()}). */
+    @GridToStringExclude
+    private int verTopVer;
+
+    /** Version node order and DR ID. */
+    @GridToStringExclude
+    private int verNodeOrderDrId;
+
+    /** Version globally adjusted time. */
+    @GridToStringExclude
+    private long verGlobalTime;
+
+    /** Version order. */
+    @GridToStringExclude
+    private long verOrder;
+
+    /** Version instance for versions that can not be packed (e.g. versions with DR data). */
+    @GridToStringExclude
+    private GridCacheVersion verEx;
 
     /** Next entry in the linked list. */
     @GridToStringExclude
@@ -169,9 +185,9 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
 
         next(hdrId, next);
 
-        ver = cctx.versions().next();
+        ver(cctx.versions().next());
 
-        startVer = ver.order();
+        startVer = verOrder;
 
         log = U.logger(cctx.kernalContext(), logRef, this);
     }
@@ -380,7 +396,8 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
      * @return {@code True} if start version.
      */
     protected boolean isStartVersion() {
-        return ver.nodeOrder() == cctx.localNode().order() && ver.order() == startVer;
+        return (verNodeOrderDrId & GridCacheVersion.NODE_ORDER_MASK) == cctx.localNode().order() &&
+            verOrder == startVer;
     }
 
     /** {@inheritDoc} */
@@ -418,7 +435,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
                     info.keyBytes(keyBytes);
                     info.ttl(ttlExtras());
                     info.expireTime(expireTime);
-                    info.version(ver);
+                    info.version(ver());
                     info.setNew(isStartVersion());
                     info.setDeleted(deletedUnlocked());
 
@@ -516,7 +533,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
             if (val != null)
                 valClsLdrId = cctx.deploy().getClassLoaderId(val.getClass().getClassLoader());
 
-            cctx.swap().write(key(), getOrMarshalKeyBytes(), hash, valBytes.get(), valBytes.isPlain(), ver,
+            cctx.swap().write(key(), getOrMarshalKeyBytes(), hash, valBytes.get(), valBytes.isPlain(), ver(),
                 ttlExtras(), expireTime, cctx.deploy().getClassLoaderId(U.detectObjectClassLoader(key)), valClsLdrId);
 
             if (log.isDebugEnabled())
@@ -555,7 +572,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
 
                 synchronized (GridCacheMapEntry.this){
                     // If there is a point to refresh.
-                    if (!matchVer.equals(ver)) {
+                    if (!isVersion(matchVer)) {
                         refreshingLocked(false);
 
                         if (log.isDebugEnabled())
@@ -581,7 +598,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
                         // If version matched, set value. Note that we don't update
                         // swap here, as asynchronous refresh happens only if
                         // value is already in memory.
-                        if (val != null && matchVer.equals(ver)) {
+                        if (val != null && isVersion(matchVer)) {
                             try {
                                 V prev = rawGetOrUnmarshalUnlocked();
 
@@ -589,10 +606,10 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
 
                                 long expTime = toExpireTime(ttl);
 
-                                updateIndex(val, null, expTime, ver, prev);
+                                updateIndex(val, null, expTime, matchVer, prev);
 
                                 // Don't change version for read-through.
-                                update(val, null, expTime, ttl, ver);
+                                update(val, null, expTime, ttl, matchVer);
                             }
                             catch (GridException e) {
                                 U.error(log, "Failed to update cache index: " + GridCacheMapEntry.this, e);
@@ -649,7 +666,12 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
 
         boolean asyncRefresh = false;
 
-        GridCacheVersion startVer;
+        // Version snapshot for optimistic check.
+        int startTopVer;
+        int startNodeOrder;
+        long startOrder;
+
+        GridCacheVersion refreshVer = null;
 
         boolean expired = false;
 
@@ -660,8 +682,9 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
         synchronized (this) {
             checkObsolete();
 
-            // Cache version for optimistic check.
-            startVer = ver;
+            startTopVer = verTopVer;
+            startNodeOrder = verNodeOrder();
+            startOrder = verOrder;
 
             GridCacheMvcc<K> mvcc = mvccExtras();
 
@@ -755,6 +778,10 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
                 // asynchronous refresh while this one is in progress.
                 if (asyncRefresh || readThrough)
                     refreshingLocked(true);
+
+                // Version has not changed since snapshot, as it is guarded by the same lock.
+                if (asyncRefresh)
+                    refreshVer = ver();
             }
 
             if (evt && expired && cctx.events().isRecordable(EVT_CACHE_OBJECT_EXPIRED)) {
@@ -777,7 +804,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
         if (asyncRefresh && !readThrough && cctx.isStoreEnabled()) {
             assert ret != null;
 
-            refreshAhead(key, startVer);
+            refreshAhead(key, refreshVer);
         }
 
         // Check before load.
@@ -786,9 +813,16 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
 
         if (ret != null) {
             // If return value is consistent, then done.
-            if (F.isEmpty(filter) || version().equals(startVer))
+            if (F.isEmpty(filter))
                 return ret;
 
+            synchronized (this) {
+                checkObsolete();
+
+                if (isVersion(startTopVer, startNodeOrder, startOrder))
+                    return ret;
+            }
+
             // Try again (recursion).
             return innerGet0(tx, readSwap, readThrough, false, failFast, unmarshal, updateMetrics, filter);
         }
@@ -819,7 +853,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
             long ttl = ttlExtras();
 
             // If version matched, set value.
-            if (startVer.equals(ver)) {
+            if (isVersion(startTopVer, startNodeOrder, startOrder)) {
                 match = true;
 
                 if (ret != null) {
@@ -865,15 +899,19 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
 
         CU.checkStore(cctx);
 
-        GridCacheVersion startVer;
+        // Version snapshot for optimistic check.
+        int startTopVer;
+        int startNodeOrder;
+        long startOrder;
 
         boolean wasNew;
 
         synchronized (this) {
             checkObsolete();
 
-            // Cache version for optimistic check.
-            startVer = ver;
+            startTopVer = verTopVer;
+            startNodeOrder = verNodeOrder();
+            startOrder = verOrder;
 
             wasNew = isNew();
         }
@@ -898,7 +936,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
                         return ret;
 
                     // If version matched, set value.
-                    if (startVer.equals(ver)) {
+                    if (isVersion(startTopVer, startNodeOrder, startOrder)) {
                         releaseSwap();
 
                         V old = rawGetOrUnmarshalUnlocked();
@@ -1004,7 +1042,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
             assert newVer != null : "Failed to get write version for tx: " + tx;
 
             if (tx != null && !tx.local() && tx.onePhaseCommit() && explicitVer == null) {
-                if (!(isNew() || !valid) && ver.compareTo(newVer) > 0) {
+                if (!(isNew() || !valid) && compareVersion(newVer) > 0) {
                     if (log.isDebugEnabled())
                         log.debug("Skipping entry update for one-phase commit since current entry version is " +
                             "greater than write version [entry=" + this + ", newVer=" + newVer + ']');
@@ -1116,7 +1154,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
                 newVer = explicitVer != null ? explicitVer : tx == null ? nextVersion() : tx.writeVersion();
 
                 if (tx != null && !tx.local() && tx.onePhaseCommit() && explicitVer == null) {
-                    if (!startVer && ver.compareTo(newVer) > 0) {
+                    if (!startVer && compareVersion(newVer) > 0) {
                         if (log.isDebugEnabled())
                             log.debug("Skipping entry removal for one-phase commit since current entry version is " +
                                 "greater than write version [entry=" + this + ", newVer=" + newVer + ']');
@@ -1187,7 +1225,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
         if (!cctx.deferredDelete()) {
             synchronized (this) {
                 // If entry is still removed.
-                if (newVer == ver) {
+                if (isVersion(newVer)) {
                     if (obsoleteVer == null || !markObsolete(obsoleteVer)) {
                         if (log.isDebugEnabled())
                             log.debug("Entry could not be marked obsolete (it is still used): " + this);
@@ -1450,7 +1488,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
 
             if (!drNeedResolve) { // Perform version check only in case there will be no explicit conflict resolution.
                 if (verCheck) {
-                    if (!isNew() && ATOMIC_VER_COMPARATOR.compare(ver, newVer) > 0) {
+                    if (!isNew() && compareAtomicVersion(newVer) > 0) {
                         if (log.isDebugEnabled())
                             log.debug("Received entry update for with smaller version than current (will ignore) " +
                                 "[entry=" + this + ", newVer=" + newVer + ']');
@@ -1461,7 +1499,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
                     }
                 }
                 else
-                    assert isNew() || ATOMIC_VER_COMPARATOR.compare(ver, newVer) <= 0 :
+                    assert isNew() || compareAtomicVersion(newVer) <= 0 :
                         "Invalid version for inner update [entry=" + this + ", newVer=" + newVer + ']';
             }
 
@@ -1491,7 +1529,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
             if (needVal && old == null) {
                 old = readThrough(null, key, false, CU.<K, V>empty());
 
-                update(old, null, 0, 0, ver);
+                update(old, null, 0, 0, ver());
 
                 if (deletedUnlocked() && old != null)
                     deletedUnlocked(false);
@@ -1698,7 +1736,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
 
             if (!F.isEmpty(filter)) {
                 synchronized (this) {
-                    startVer = this.ver;
+                    startVer = ver();
                 }
 
                 if (!cctx.isAll(this, filter))
@@ -1706,7 +1744,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
             }
 
             synchronized (this) {
-                if (startVer != null && !startVer.equals(this.ver))
+                if (startVer != null && !isVersion(startVer))
                     // Version has changed since filter checking.
                     continue;
 
@@ -1837,7 +1875,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
     @Override public synchronized boolean markObsoleteVersion(GridCacheVersion ver) {
         assert cctx.deferredDelete();
 
-        return obsoleteVersionExtras() != null || (this.ver.equals(ver) && markObsolete(ver));
+        return obsoleteVersionExtras() != null || (isVersion(ver) && markObsolete(ver));
     }
 
     /**
@@ -1901,12 +1939,12 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
         throws GridException {
         assert newVer != null;
 
-        if (curVer == null || ver.equals(curVer)) {
+        if (curVer == null || isVersion(curVer)) {
             V val = saveValueForIndexUnlocked();
 
             value(null, null);
 
-            ver = newVer;
+            ver(newVer);
 
             releaseSwap();
 
@@ -1935,7 +1973,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
             synchronized (this){
                 checkObsolete();
 
-                startVer = ver;
+                startVer = ver();
             }
 
             if (!cctx.isAll(this, filter))
@@ -1944,7 +1982,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
             synchronized (this) {
                 checkObsolete();
 
-                if (startVer.equals(ver)) {
+                if (isVersion(startVer)) {
                     invalidate(null, nextVersion());
 
                     return true;
@@ -1965,7 +2003,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
         synchronized (this) {
             checkObsolete();
 
-            startVer = ver;
+            startVer = ver();
         }
 
         if (!cctx.isAll(this, filter))
@@ -1977,7 +2015,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
             if (deletedUnlocked())
                 return false; // Cannot compact soft-deleted entries.
 
-            if (startVer.equals(ver)) {
+            if (isVersion(startVer)) {
                 if (hasValueUnlocked() && !checkExpired()) {
                     if (!isOffHeapValuesOnly()) {
                         if (val != null)
@@ -2020,7 +2058,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
         if (expireTime != 0 && expireTime != oldExpireTime && cctx.config().isEagerTtl())
             cctx.ttl().addTrackedEntry(this);
 
-        this.ver = ver;
+        ver(ver);
     }
 
     /**
@@ -2070,7 +2108,119 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
     @Override public synchronized GridCacheVersion version() throws GridCacheEntryRemovedException {
         checkObsolete();
 
-        return ver;
+        return ver();
+    }
+
+    /**
+     * Gets current entry version. Entry keeps version packed into primitive fields, so
+     * a new instance is created on each call and versions must not be compared by reference.
+     * Internal checks should use {@link #isVersion(GridCacheVersion)}, {@link #compareVersion(GridCacheVersion)}
+     * and {@link #compareAtomicVersion(GridCacheVersion)} which do not materialize the version.
+     *
+     * @return Entry version.
+     */
+    protected final GridCacheVersion ver() {
+        GridCacheVersion verEx = this.verEx;
+
+        if (verEx != null)
+            return verEx;
+
+        return new GridCacheVersion(verTopVer, verNodeOrderDrId, verGlobalTime, verOrder);
+    }
+
+    /**
+     * Sets current entry version. Plain versions are packed into primitive fields,
+     * instances of {@link GridCacheVersion} subclasses are kept as is.
+     *
+     * @param ver New version.
+     */
+    protected final void ver(GridCacheVersion ver) {
+        assert ver != null;
+
+        verTopVer = ver.topologyVersion();
+        verNodeOrderDrId = ver.nodeOrderAndDrIdRaw();
+        verGlobalTime = ver.globalTime();
+        verOrder = ver.order();
+
+        verEx = ver.getClass() == GridCacheVersion.class ? null : ver;
+    }
+
+    /**
+     * Checks whether current entry version is equal to the given one
+     * (in terms of {@link GridCacheVersion#equals(Object)}) without materializing it.
+     *
+     * @param ver Version to compare with.
+     * @return {@code True} if versions are equal.
+     */
+    protected final boolean isVersion(@Nullable GridCacheVersion ver) {
+        return ver != null && isVersion(ver.topologyVersion(), ver.nodeOrder(), ver.order());
+    }
+
+    /**
+     * Checks whether current entry version is equal to the one given by its components
+     * (e.g. snapshot of packed fields taken for optimistic check).
+     *
+     * @param topVer Topology version.
+     * @param nodeOrder Node order.
+     * @param order Order.
+     * @return {@code True} if versions are equal.
+     */
+    private boolean isVersion(int topVer, int nodeOrder, long order) {
+        return verTopVer == topVer && verOrder == order && verNodeOrder() == nodeOrder;
+    }
+
+    /**
+     * @return Node order of current entry version.
+     */
+    private int verNodeOrder() {
+        return verNodeOrderDrId & GridCacheVersion.NODE_ORDER_MASK;
+    }
+
+    /**
+     * Compares current entry version with the given one in terms of
+     * {@link GridCacheVersion#compareTo(GridCacheVersion)} without materializing it.
+     *
+     * @param ver Version to compare with.
+     * @return Comparison result.
+     */
+    private int compareVersion(GridCacheVersion ver) {
+        if (verEx != null)
+            return verEx.compareTo(ver);
+
+        if (verTopVer != ver.topologyVersion())
+            return verTopVer < ver.topologyVersion() ? -1 : 1;
+
+        if (verOrder != ver.order())
+            return verOrder < ver.order() ? -1 : 1;
+
+        int nodeOrder = verNodeOrder();
+
+        return nodeOrder == ver.nodeOrder() ? 0 : nodeOrder < ver.nodeOrder() ? -1 : 1;
+    }
+
+    /**
+     * Compares current entry version with the given one in terms of {@link GridCacheAtomicVersionComparator}
+     * without materializing it.
+     *
+     * @param ver Version to compare with.
+     * @return Comparison result.
+     */
+    private int compareAtomicVersion(GridCacheVersion ver) {
+        if (verEx != null)
+            return ATOMIC_VER_COMPARATOR.compare(verEx, ver);
+
+        if (verTopVer != ver.topologyVersion())
+            return verTopVer > ver.topologyVersion() ? 1 : -1;
+
+        if (verGlobalTime != ver.globalTime())
+            return verGlobalTime > ver.globalTime() ? 1 : -1;
+
+        if (verOrder != ver.order())
+            return verOrder > ver.order() ? 1 : -1;
+
+        int nodeOrder = verNodeOrder();
+
+        return nodeOrder == ver.nodeOrder() ? 0 : nodeOrder < ver.nodeOrder() ? -1 : 1;
     }
 
     /**
@@ -2334,14 +2484,14 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
 
                 synchronized (this) {
                     if (checkExpired()) {
-                        rmv = markObsolete(cctx.versions().next(this.ver));
+                        rmv = markObsolete(cctx.versions().next(ver()));
 
                         return null;
                     }
 
                     checkObsolete();
 
-                    ver = this.ver;
+                    ver = ver();
                     val = rawGetOrUnmarshalUnlocked();
                 }
 
@@ -2481,7 +2631,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
     /** {@inheritDoc} */
     @Override public synchronized GridDrEntry<K, V> drEntry() throws GridException {
         return new GridDrPlainEntry<>(key, isStartVersion() ? unswap(true) : rawGetOrUnmarshalUnlocked(),
-            ttlExtras(), expireTimeExtras(), ver.drVersion());
+            ttlExtras(), expireTimeExtras(), ver().drVersion());
     }
 
     /** {@inheritDoc} */
@@ -2563,7 +2713,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
         throws GridException, GridCacheEntryRemovedException {
         checkObsolete();
 
-        if (curVer == null || curVer.equals(ver)) {
+        if (curVer == null || isVersion(curVer)) {
             if (val != this.val) {
                 if (newVer == null)
                     newVer = nextVersion();
@@ -2598,7 +2748,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
      */
     private GridCacheVersion nextVersion() {
         // Do not change topology version when generating next version.
-        return cctx.versions().next(ver);
+        return cctx.versions().next(ver());
     }
 
     /** {@inheritDoc} */
@@ -2823,7 +2973,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
                 if (expired) {
                     if (cctx.deferredDelete() && !detached() && !isInternal()) {
                         if (!deletedUnlocked()) {
-                            update(null, null, 0L, 0L, ver);
+                            update(null, null, 0L, 0L, ver());
 
                             deletedUnlocked(true);
 
@@ -2928,9 +3078,9 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
         synchronized (this) {
             checkObsolete();
 
-            if (ver == null || this.ver.equals(ver)) {
+            if (ver == null || isVersion(ver)) {
                 val = this.val;
-                ver = this.ver;
+                ver = ver();
                 valBytes = valueBytesUnlocked();
             }
             else
@@ -3080,14 +3230,14 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
                     GridCacheVersion v;
 
                     synchronized (this) {
-                        v = ver;
+                        v = ver();
                     }
 
                     if (!cctx.isAll(this, filter))
                         return false;
 
                     synchronized (this) {
-                        if (!v.equals(ver))
+                        if (!isVersion(v))
                             // Version has changed since entry passed the filter. Do it again.
                             continue;
 
@@ -3155,7 +3305,7 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
                         valClsLdrId = cctx.deploy().getClassLoaderId(U.detectObjectClassLoader(val));
 
                     ret = new GridCacheBatchSwapEntry<>(key(), getOrMarshalKeyBytes(), hash, partition(),
-                        valBytes.get(), valBytes.isPlain(), ver, ttlExtras(), expireTimeExtras(),
+                        valBytes.get(), valBytes.isPlain(), ver(), ttlExtras(), expireTimeExtras(),
                         cctx.deploy().getClassLoaderId(U.detectObjectClassLoader(key)), valClsLdrId);
                 }
 
@@ -3643,6 +3793,6 @@ public abstract class GridCacheMapEntry<K, V> implements GridCacheEntryEx<K, V>
 
     /** {@inheritDoc} */
     @Override public synchronized String toString() {
-        return S.toString(GridCacheMapEntry.class, this);
+        return S.toString(GridCacheMapEntry.class, this, "ver", ver());
     }
 }
@@ -96,4 +96,19 @@ public interface GridCachePreloader<K, V> {
      * Unwinds undeploys.
      */
     public void unwindUndeploys();
+
+    /**
+     * Gets number of entries preloaded per second during current or last preloading.
+     *
+     * @return Preloading throughput in entries per second.
+     */
+    public float throughput();
+
+    /**
+     * Gets estimated time to finish current preloading.
+     *
+     * @return Estimated time in milliseconds to finish current preloading, {@code 0} if
+     *      preloading is finished or {@code -1} if it can not be estimated yet.
+     */
+    public long estimatedTimeToFinish();
 }
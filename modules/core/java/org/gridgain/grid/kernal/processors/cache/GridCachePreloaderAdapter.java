@@ -89,6 +89,16 @@ public class GridCachePreloaderAdapter<K, V> implements GridCachePreloader<K, V>
         // No-op.
     }
 
+    /** {@inheritDoc} */
+    @Override public float throughput() {
+        return 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long estimatedTimeToFinish() {
+        return 0;
+    }
+
     /** {@inheritDoc} */
     @Override public void preloadPredicate(GridPredicate<GridCacheEntryInfo<K, V>> preloadPred) {
         this.preloadPred = preloadPred;
@@ -294,6 +294,15 @@ public class GridCacheProcessor extends GridProcessorAdapter {
         if (cc.getPreloadMode() != GridCachePreloadMode.NONE) {
             assertParameter(cc.getPreloadThreadPoolSize() > 0, "preloadThreadPoolSize > 0");
             assertParameter(cc.getPreloadBatchSize() > 0, "preloadBatchSize > 0");
+            assertParameter(cc.getPreloadBatchesPrefetchCount() > 0, "preloadBatchesPrefetchCount > 0");
+        }
+
+        if (cc.isEagerTtl())
+            assertParameter(cc.getEagerTtlThreadPoolSize() >= 0, "eagerTtlThreadPoolSize >= 0");
+
+        if (cc.isReadCoalescingEnabled()) {
+            assertParameter(cc.getReadCoalescingWindow() >= 0, "readCoalescingWindow >= 0");
+            assertParameter(cc.getReadCoalescingBatchSize() > 0, "readCoalescingBatchSize > 0");
         }
 
         if (cc.getCacheMode() == PARTITIONED || cc.getCacheMode() == REPLICATED) {
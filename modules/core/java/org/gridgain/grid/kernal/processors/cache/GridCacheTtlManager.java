@@ -30,41 +30,93 @@ import org.gridgain.grid.util.*;
 import org.gridgain.grid.util.typedef.*;
 import org.gridgain.grid.util.typedef.internal.*;
 import org.gridgain.grid.util.worker.*;
+import org.jdk8.backport.*;
 
 import java.util.*;
 
 /**
  * Eagerly removes expired entries from cache when {@link GridCacheConfiguration#isEagerTtl()} flag is set.
+ * <p>
+ * Depending on {@link GridCacheConfiguration#getEagerTtlThreadPoolSize()}, expiring entries are either
+ * kept in a single ordered set cleaned up by one thread, or in per-partition hierarchical timer wheels
+ * which are expired in per-partition batches by a pool of threads.
  */
 @SuppressWarnings("NakedNotify")
 public class GridCacheTtlManager<K, V> extends GridCacheManagerAdapter<K, V> {
-    /** Entries pending removal. */
-    private final GridConcurrentSkipListSet<EntryWrapper<K, V>> pendingEntries = new GridConcurrentSkipListSet<>();
+    /** Entries pending removal, used if timer wheels are disabled. */
+    private GridConcurrentSkipListSet<EntryWrapper<K, V>> pendingEntries;
 
-    /** Cleanup worker thread. */
+    /** Cleanup worker thread, used if timer wheels are disabled. */
     private CleanupWorker cleanupWorker;
 
     /** Sync mutex. */
     private final Object mux = new Object();
 
+    /** Per-partition timer wheels. */
+    private GridCacheTtlTimerWheel<K, V>[] wheels;
+
+    /** Timer wheel workers. */
+    private WheelWorker[] wheelWorkers;
+
+    /** Number of entries removed due to expiration. */
+    private final LongAdder expiredCnt = new LongAdder();
+
+    /** Total expiry lag. */
+    private final LongAdder totalLag = new LongAdder();
+
+    /** Maximum expiry lag. */
+    private final GridAtomicLong maxLag = new GridAtomicLong();
+
     /** {@inheritDoc} */
+    @SuppressWarnings("unchecked")
     @Override protected void start0() throws GridException {
         if (cctx.kernalContext().isDaemon() || !cctx.config().isEagerTtl())
             return;
 
-        cleanupWorker = new CleanupWorker();
+        int poolSize = cctx.config().getEagerTtlThreadPoolSize();
+
+        if (poolSize == 0) {
+            pendingEntries = new GridConcurrentSkipListSet<>();
+
+            cleanupWorker = new CleanupWorker();
+        }
+        else {
+            long tick = GridCacheTtlTimerWheel.tick(U.currentTimeMillis());
+
+            wheels = new GridCacheTtlTimerWheel[cctx.affinity().partitions()];
+
+            for (int i = 0; i < wheels.length; i++)
+                wheels[i] = new GridCacheTtlTimerWheel<>(tick);
+
+            wheelWorkers = new GridCacheTtlManager.WheelWorker[Math.min(poolSize, wheels.length)];
+
+            for (int i = 0; i < wheelWorkers.length; i++)
+                wheelWorkers[i] = new WheelWorker(i);
+        }
     }
 
     /** {@inheritDoc} */
     @Override protected void onKernalStart0() throws GridException {
         if (cleanupWorker != null)
             new GridThread(cleanupWorker).start();
+
+        if (wheelWorkers != null) {
+            for (WheelWorker w : wheelWorkers)
+                new GridThread(w).start();
+        }
     }
 
     /** {@inheritDoc} */
     @Override protected void onKernalStop0(boolean cancel) {
         U.cancel(cleanupWorker);
         U.join(cleanupWorker, log);
+
+        if (wheelWorkers != null) {
+            List<WheelWorker> workers = Arrays.asList(wheelWorkers);
+
+            U.cancel(workers);
+            U.join(workers, log);
+        }
     }
 
     /**
@@ -73,6 +125,16 @@ public class GridCacheTtlManager<K, V> extends GridCacheManagerAdapter<K, V> {
      * @param entry Entry to add.
      */
     public void addTrackedEntry(GridCacheMapEntry<K, V> entry) {
+        if (wheels != null) {
+            int idx = wheelIndex(entry);
+
+            // Wake up worker only if it might be sleeping over empty wheels.
+            if (wheels[idx].add(entry, entry.expireTimeUnlocked()))
+                wheelWorkers[idx % wheelWorkers.length].wakeUp();
+
+            return;
+        }
+
         EntryWrapper<K, V> wrapper = new EntryWrapper<>(entry);
 
         pendingEntries.add(wrapper);
@@ -91,14 +153,92 @@ public class GridCacheTtlManager<K, V> extends GridCacheManagerAdapter<K, V> {
     public void removeTrackedEntry(GridCacheMapEntry<K, V> entry) {
         // Remove must be called while holding lock on entry before updating expire time.
         // No need to wake up waiting thread in this case.
-        pendingEntries.remove(new EntryWrapper<>(entry));
+        if (wheels != null)
+            wheels[wheelIndex(entry)].remove(entry, entry.expireTimeUnlocked());
+        else
+            pendingEntries.remove(new EntryWrapper<>(entry));
+    }
+
+    /**
+     * @return Number of tracked entries pending expiration.
+     */
+    public long backlogSize() {
+        if (wheels != null) {
+            long size = 0;
+
+            for (GridCacheTtlTimerWheel<K, V> wheel : wheels)
+                size += wheel.size();
+
+            return size;
+        }
+
+        return pendingEntries != null ? pendingEntries.size() : 0;
+    }
+
+    /**
+     * @return Number of entries eagerly removed due to expiration.
+     */
+    public long expiredCount() {
+        return expiredCnt.sum();
+    }
+
+    /**
+     * @return Average time in milliseconds between entry expiration and its eager removal.
+     */
+    public long averageExpiryLag() {
+        long cnt = expiredCnt.sum();
+
+        return cnt > 0 ? totalLag.sum() / cnt : 0;
+    }
+
+    /**
+     * @return Maximum time in milliseconds between entry expiration and its eager removal.
+     */
+    public long maximumExpiryLag() {
+        return maxLag.get();
+    }
+
+    /**
+     * @param entry Entry.
+     * @return Index of timer wheel tracking given entry.
+     */
+    private int wheelIndex(GridCacheMapEntry<K, V> entry) {
+        return entry.partition() % wheels.length;
+    }
+
+    /**
+     * Removes expired entry from cache.
+     *
+     * @param entry Entry.
+     * @param obsoleteVer Obsolete version.
+     */
+    private void expire(GridCacheMapEntry<K, V> entry, GridCacheVersion obsoleteVer) {
+        if (log.isDebugEnabled())
+            log.debug("Trying to remove expired entry from cache: " + entry);
+
+        if (entry.onTtlExpired(obsoleteVer))
+            entry.context().cache().removeEntry(entry);
+    }
+
+    /**
+     * @param cnt Number of expired entries.
+     * @param lag Expiry lag.
+     */
+    private void onExpired(int cnt, long lag) {
+        lag = Math.max(lag, 0);
+
+        expiredCnt.add(cnt);
+        totalLag.add(lag * cnt);
+        maxLag.setIfGreater(lag);
     }
 
     /** {@inheritDoc} */
     @Override public void printMemoryStats() {
         X.println(">>>");
         X.println(">>> TTL processor memory stats [grid=" + cctx.gridName() + ", cache=" + cctx.name() + ']');
-        X.println(">>>   pendingEntriesSize: " + pendingEntries.size());
+        X.println(">>>   pendingEntriesSize: " + backlogSize());
+        X.println(">>>   expiredCnt: " + expiredCount() + ", avgLag: " + averageExpiryLag() +
+            ", maxLag: " + maximumExpiryLag());
     }
 
     /**
@@ -123,14 +263,12 @@ public class GridCacheTtlManager<K, V> extends GridCacheManagerAdapter<K, V> {
                     EntryWrapper<K, V> wrapper = it.next();
 
                     if (wrapper.expireTime <= now) {
-                        if (log.isDebugEnabled())
-                            log.debug("Trying to remove expired entry from cache: " + wrapper);
-
                         if (obsoleteVer == null)
                             obsoleteVer = cctx.versions().next();
 
-                        if (wrapper.entry.onTtlExpired(obsoleteVer))
-                            wrapper.entry.context().cache().removeEntry(wrapper.entry);
+                        expire(wrapper.entry, obsoleteVer);
+
+                        onExpired(1, U.currentTimeMillis() - wrapper.expireTime);
 
                         it.remove();
                     }
@@ -162,6 +300,89 @@ public class GridCacheTtlManager<K, V> extends GridCacheManagerAdapter<K, V> {
         }
     }
 
+    /**
+     * Timer wheel worker. Advances every wheel with index equal to worker index
+     * modulo workers count once per wheel tick and removes expired entries
+     * in per-partition batches.
+     */
+    private class WheelWorker extends GridWorker {
+        /** Worker index. */
+        private final int idx;
+
+        /** Wake up mutex. */
+        private final Object wakeUpMux = new Object();
+
+        /** Wake up flag, guarded by {@link #wakeUpMux}. */
+        private boolean wakeUp;
+
+        /**
+         * @param idx Worker index.
+         */
+        private WheelWorker(int idx) {
+            super(cctx.gridName(), "ttl-cleanup-worker-" + cctx.name() + "-#" + idx,
+                cctx.logger(GridCacheTtlManager.class));
+
+            this.idx = idx;
+        }
+
+        /**
+         * Wakes up worker waiting on empty wheels.
+         */
+        void wakeUp() {
+            synchronized (wakeUpMux) {
+                wakeUp = true;
+
+                wakeUpMux.notifyAll();
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void body() throws InterruptedException, GridInterruptedException {
+            Collection<GridCacheMapEntry<K, V>> batch = new ArrayList<>();
+
+            while (!isCancelled()) {
+                long nowTick = GridCacheTtlTimerWheel.tick(U.currentTimeMillis());
+
+                boolean empty = true;
+
+                for (int i = idx; i < wheels.length; i += wheelWorkers.length) {
+                    GridCacheTtlTimerWheel<K, V> wheel = wheels[i];
+
+                    // Current tick is still in progress and may contain entries that have not expired yet,
+                    // so wheel is advanced only up to the last elapsed tick.
+                    long prevTick = wheel.advance(nowTick - 1, batch);
+
+                    if (!batch.isEmpty()) {
+                        GridCacheVersion obsoleteVer = cctx.versions().next();
+
+                        for (GridCacheMapEntry<K, V> e : batch)
+                            expire(e, obsoleteVer);
+
+                        // Entries of the batch have been expiring since the first tick that was not processed.
+                        onExpired(batch.size(), U.currentTimeMillis() - (prevTick + 1) * GridCacheTtlTimerWheel.TICK);
+
+                        batch.clear();
+                    }
+
+                    if (wheel.size() > 0)
+                        empty = false;
+                }
+
+                synchronized (wakeUpMux) {
+                    if (!wakeUp) {
+                        long waitTime = empty ? 5000 :
+                            (nowTick + 1) * GridCacheTtlTimerWheel.TICK - U.currentTimeMillis();
+
+                        if (waitTime > 0)
+                            wakeUpMux.wait(waitTime);
+                    }
+
+                    wakeUp = false;
+                }
+            }
+        }
+    }
+
     /**
      * Entry wrapper.
      */
@@ -0,0 +1,411 @@
+/* 
+ Copyright (C) GridGain Systems. All Rights Reserved.
+ 
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+ 
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+/*  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.gridgain.grid.kernal.processors.cache;
+
+import org.gridgain.grid.util.tostring.*;
+import org.gridgain.grid.util.typedef.internal.*;
+
+import java.util.*;
+
+/**
+ * Hierarchical timer wheel tracking eagerly expiring entries of a single partition.
+ * <p>
+ * Wheel consists of {@link #LEVELS} levels of {@link #SLOTS} slots each. Slot on level {@code 0}
+ * spans a single tick, slot on every next level spans the whole previous level. Entries are placed
+ * into slots based on their absolute expire tick, so current entry position can always be derived
+ * from its expire time and entry can be removed from wheel in constant time without any per-entry
+ * bookkeeping. Entries which expire beyond wheel horizon are kept on the last level and are
+ * re-evaluated every time the last level slot is cascaded.
+ * <p>
+ * Wheel is not bound to any thread, all methods are synchronized on wheel instance.
+ */
+class GridCacheTtlTimerWheel<K, V> {
+    /** Tick duration in milliseconds. */
+    static final long TICK = 10;
+
+    /** Number of bits per level. */
+    private static final int SLOT_BITS = 6;
+
+    /** Number of slots per level. */
+    private static final int SLOTS = 1 << SLOT_BITS;
+
+    /** Slot index mask. */
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    /** Number of levels. */
+    private static final int LEVELS = 5;
+
+    /** Slots, lazily initialized. */
+    @SuppressWarnings("unchecked")
+    @GridToStringExclude
+    private final Slot<K, V>[][] slots = new Slot[LEVELS][];
+
+    /** Last processed tick. */
+    private long tick;
+
+    /** Number of tracked entries. */
+    private int size;
+
+    /**
+     * @param tick Initial tick.
+     */
+    GridCacheTtlTimerWheel(long tick) {
+        this.tick = tick;
+    }
+
+    /**
+     * @param time Time in milliseconds.
+     * @return Tick that given time belongs to.
+     */
+    static long tick(long time) {
+        return time / TICK;
+    }
+
+    /**
+     * Adds entry to wheel.
+     *
+     * @param entry Entry.
+     * @param expireTime Entry expire time.
+     * @return {@code True} if wheel was empty before this call.
+     */
+    synchronized boolean add(GridCacheMapEntry<K, V> entry, long expireTime) {
+        boolean wasEmpty = size == 0;
+
+        // Empty wheel may not have been advanced for a while, catch up with current time.
+        if (wasEmpty)
+            tick = Math.max(tick, tick(U.currentTimeMillis()) - 1);
+
+        add0(entry, tick(expireTime));
+
+        return wasEmpty;
+    }
+
+    /**
+     * Removes entry from wheel. Entry that was not found is ignored, since expired
+     * entries are checked for actual expire time before removal from cache.
+     *
+     * @param entry Entry.
+     * @param expireTime Entry expire time that was used when entry was added.
+     */
+    synchronized void remove(GridCacheMapEntry<K, V> entry, long expireTime) {
+        long expireTick = tick(expireTime);
+
+        Slot<K, V> slot = expireTick > tick ? slot(expireTick, false) : slot(0, (int)(tick + 1) & SLOT_MASK, false);
+
+        if (slot != null && slot.remove(entry))
+            size--;
+    }
+
+    /**
+     * @return Number of tracked entries.
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Advances wheel up to given tick collecting all entries that expire on or before it.
+     * Given tick must be fully elapsed, otherwise entries that have not expired yet will be
+     * collected and dropped from wheel.
+     *
+     * @param nowTick Last elapsed tick.
+     * @param res Collection to add expired entries to.
+     * @return Last processed tick before this call.
+     */
+    synchronized long advance(long nowTick, Collection<GridCacheMapEntry<K, V>> res) {
+        long prevTick = tick;
+
+        while (tick < nowTick) {
+            if (size == 0) {
+                tick = nowTick;
+
+                break;
+            }
+
+            long t = ++tick;
+
+            // Cascade upper levels first, so entries expiring on this tick reach level 0.
+            for (int lvl = LEVELS - 1; lvl > 0; lvl--) {
+                if ((t & ((1L << (SLOT_BITS * lvl)) - 1)) == 0)
+                    cascade(lvl, (int)(t >>> (SLOT_BITS * lvl)) & SLOT_MASK, res);
+            }
+
+            Slot<K, V> slot = detach(0, (int)t & SLOT_MASK);
+
+            if (slot != null) {
+                size -= slot.size;
+
+                slot.drainTo(res);
+            }
+        }
+
+        return prevTick;
+    }
+
+    /**
+     * @param entry Entry.
+     * @param expireTick Entry expire tick.
+     */
+    private void add0(GridCacheMapEntry<K, V> entry, long expireTick) {
+        // Entries that are already expired go to the next processed tick.
+        if (expireTick <= tick)
+            expireTick = tick + 1;
+
+        if (slot(expireTick, true).add(entry, expireTick))
+            size++;
+    }
+
+    /**
+     * Moves entries of the given slot to lower levels.
+     *
+     * @param lvl Level.
+     * @param idx Slot index.
+     * @param res Collection to add expired entries to.
+     */
+    private void cascade(int lvl, int idx, Collection<GridCacheMapEntry<K, V>> res) {
+        Slot<K, V> slot = detach(lvl, idx);
+
+        if (slot == null)
+            return;
+
+        size -= slot.size;
+
+        for (int i = 0; i < slot.entries.length; i++) {
+            GridCacheMapEntry<K, V> e = slot.entries[i];
+
+            if (e != null) {
+                if (slot.ticks[i] <= tick)
+                    res.add(e);
+                else
+                    add0(e, slot.ticks[i]);
+            }
+        }
+    }
+
+    /**
+     * @param expireTick Expire tick, must be greater than current tick.
+     * @param create Whether to create slot if it does not exist.
+     * @return Slot entry with given expire tick belongs to.
+     */
+    private Slot<K, V> slot(long expireTick, boolean create) {
+        assert expireTick > tick;
+
+        int lvl = Math.min((63 - Long.numberOfLeadingZeros(expireTick ^ tick)) / SLOT_BITS, LEVELS - 1);
+
+        return slot(lvl, (int)(expireTick >>> (SLOT_BITS * lvl)) & SLOT_MASK, create);
+    }
+
+    /**
+     * @param lvl Level.
+     * @param idx Slot index.
+     * @param create Whether to create slot if it does not exist.
+     * @return Slot.
+     */
+    @SuppressWarnings("unchecked")
+    private Slot<K, V> slot(int lvl, int idx, boolean create) {
+        Slot<K, V>[] lvlSlots = slots[lvl];
+
+        if (lvlSlots == null) {
+            if (!create)
+                return null;
+
+            slots[lvl] = lvlSlots = new Slot[SLOTS];
+        }
+
+        Slot<K, V> slot = lvlSlots[idx];
+
+        if (slot == null && create)
+            lvlSlots[idx] = slot = new Slot<>();
+
+        return slot;
+    }
+
+    /**
+     * @param lvl Level.
+     * @param idx Slot index.
+     * @return Detached slot or {@code null} if slot is empty.
+     */
+    private Slot<K, V> detach(int lvl, int idx) {
+        Slot<K, V>[] lvlSlots = slots[lvl];
+
+        if (lvlSlots == null)
+            return null;
+
+        Slot<K, V> slot = lvlSlots[idx];
+
+        lvlSlots[idx] = null;
+
+        return slot != null && slot.size > 0 ? slot : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override public synchronized String toString() {
+        return S.toString(GridCacheTtlTimerWheel.class, this);
+    }
+
+    /**
+     * Open-addressing identity set of entries with expire ticks kept in parallel array.
+     */
+    private static class Slot<K, V> {
+        /** Initial capacity. */
+        private static final int INIT_CAP = 8;
+
+        /** Entries. */
+        private GridCacheMapEntry<K, V>[] entries;
+
+        /** Entry expire ticks. */
+        private long[] ticks;
+
+        /** Size. */
+        private int size;
+
+        /**
+         *
+         */
+        @SuppressWarnings("unchecked")
+        private Slot() {
+            entries = new GridCacheMapEntry[INIT_CAP];
+            ticks = new long[INIT_CAP];
+        }
+
+        /**
+         * @param entry Entry.
+         * @param expireTick Expire tick.
+         * @return {@code True} if entry was added, {@code false} if entry was already in slot.
+         */
+        boolean add(GridCacheMapEntry<K, V> entry, long expireTick) {
+            if ((size + 1) * 2 > entries.length)
+                resize();
+
+            int mask = entries.length - 1;
+
+            for (int i = U.hash(entry.hashCode()) & mask; ; i = (i + 1) & mask) {
+                GridCacheMapEntry<K, V> e = entries[i];
+
+                if (e == null) {
+                    entries[i] = entry;
+                    ticks[i] = expireTick;
+
+                    size++;
+
+                    return true;
+                }
+
+                if (e == entry) {
+                    ticks[i] = expireTick;
+
+                    return false;
+                }
+            }
+        }
+
+        /**
+         * @param entry Entry.
+         * @return {@code True} if entry was removed.
+         */
+        boolean remove(GridCacheMapEntry<K, V> entry) {
+            int mask = entries.length - 1;
+
+            for (int i = U.hash(entry.hashCode()) & mask; ; i = (i + 1) & mask) {
+                GridCacheMapEntry<K, V> e = entries[i];
+
+                if (e == null)
+                    return false;
+
+                if (e == entry) {
+                    shiftBack(i, mask);
+
+                    size--;
+
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Fills the gap left by removed element, so that probe sequences stay unbroken.
+         *
+         * @param gap Index of removed element.
+         * @param mask Index mask.
+         */
+        private void shiftBack(int gap, int mask) {
+            for (int i = (gap + 1) & mask; ; i = (i + 1) & mask) {
+                GridCacheMapEntry<K, V> e = entries[i];
+
+                if (e == null)
+                    break;
+
+                int home = U.hash(e.hashCode()) & mask;
+
+                // Move element if its home position is not within (gap, i] cyclic interval.
+                if (gap <= i ? (home <= gap || home > i) : (home <= gap && home > i)) {
+                    entries[gap] = e;
+                    ticks[gap] = ticks[i];
+
+                    gap = i;
+                }
+            }
+
+            entries[gap] = null;
+        }
+
+        /**
+         * Doubles slot capacity.
+         */
+        @SuppressWarnings("unchecked")
+        private void resize() {
+            GridCacheMapEntry<K, V>[] oldEntries = entries;
+            long[] oldTicks = ticks;
+
+            entries = new GridCacheMapEntry[oldEntries.length << 1];
+            ticks = new long[oldEntries.length << 1];
+
+            int mask = entries.length - 1;
+
+            for (int j = 0; j < oldEntries.length; j++) {
+                GridCacheMapEntry<K, V> e = oldEntries[j];
+
+                if (e != null) {
+                    int i = U.hash(e.hashCode()) & mask;
+
+                    while (entries[i] != null)
+                        i = (i + 1) & mask;
+
+                    entries[i] = e;
+                    ticks[i] = oldTicks[j];
+                }
+            }
+        }
+
+        /**
+         * @param res Collection to add all slot entries to.
+         */
+        void drainTo(Collection<GridCacheMapEntry<K, V>> res) {
+            for (GridCacheMapEntry<K, V> e : entries) {
+                if (e != null)
+                    res.add(e);
+            }
+        }
+    }
+}
@@ -40,7 +40,7 @@ public class GridCacheVersion implements Comparable<GridCacheVersion>, Externali
     private static Object GG_CLASS_ID;
 
     /** Node order mask. */
-    private static final int NODE_ORDER_MASK = 0x07_FF_FF_FF;
+    static final int NODE_ORDER_MASK = 0x07_FF_FF_FF;
 
     /** DR center ID shift. */
     private static final int DR_ID_SHIFT = 27;
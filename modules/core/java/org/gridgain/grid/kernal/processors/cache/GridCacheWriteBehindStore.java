@@ -29,6 +29,7 @@ import org.gridgain.grid.cache.store.*;
 import org.gridgain.grid.lang.*;
 import org.gridgain.grid.logger.*;
 import org.gridgain.grid.thread.*;
+import org.gridgain.grid.util.*;
 import org.gridgain.grid.util.typedef.*;
 import org.gridgain.grid.util.typedef.internal.*;
 import org.gridgain.grid.util.tostring.*;
@@ -56,6 +57,12 @@ import java.util.concurrent.locks.*;
  * <p/>
  * Since write operations to the cache store are deferred, transaction support is lost; no
  * transaction objects are passed to the underlying store.
+ * <p/>
+ * Updates of a key which is being flushed at the moment do not wait for the flush to complete.
+ * Instead, they are combined into a single successor value which replaces the flushed one
+ * once the store operation completes. When write cache size exceeds critical size, writers
+ * are throttled for a time derived from measured store latency and fall back to synchronous
+ * flush only if flushers did not free enough space during this time.
  */
 public class GridCacheWriteBehindStore<K, V> implements GridCacheStore<K, V>, GridLifecycleAware {
     /** Default write cache initial capacity. */
@@ -112,6 +119,30 @@ public class GridCacheWriteBehindStore<K, V> implements GridCacheStore<K, V>, Gr
     /** Condition to determine records available for flush. */
     private Condition canFlush = flushLock.newCondition();
 
+    /** Condition to determine write cache size dropped below critical size. */
+    private Condition belowCritical = flushLock.newCondition();
+
+    /** Number of writers currently throttled. */
+    private AtomicInteger throttledCnt = new AtomicInteger();
+
+    /** Variable for counting total throttling events. */
+    private AtomicInteger totalThrottledCntr = new AtomicInteger();
+
+    /** Total number of updates. */
+    private LongAdder updatesCnt = new LongAdder();
+
+    /** Number of updates combined with a not yet flushed update of the same key. */
+    private LongAdder coalescedCnt = new LongAdder();
+
+    /** Number of store batches. */
+    private LongAdder storeBatchCnt = new LongAdder();
+
+    /** Total store batch latency in nanoseconds. */
+    private LongAdder storeLatency = new LongAdder();
+
+    /** Maximum store batch latency in nanoseconds. */
+    private GridAtomicLong maxStoreLatency = new GridAtomicLong();
+
     /** Variable for counting total cache overflows. */
     private AtomicInteger cacheTotalOverflowCntr = new AtomicInteger();
 
@@ -321,6 +352,48 @@ public class GridCacheWriteBehindStore<K, V> implements GridCacheStore<K, V>, Gr
         return retryEntriesCnt.get();
     }
 
+    /**
+     * Gets count of writer throttling events since initialization. Writer is throttled when
+     * write cache size exceeds critical size.
+     *
+     * @return Count of throttling events since start.
+     */
+    public int getWriteBehindTotalThrottledCount() {
+        return totalThrottledCntr.get();
+    }
+
+    /**
+     * Gets ratio of updates which were combined with a not yet flushed update of the same key,
+     * so that they did not cause an additional store operation.
+     *
+     * @return Coalescing ratio.
+     */
+    public float getWriteBehindCoalescingRatio() {
+        long updates = updatesCnt.sum();
+
+        return updates > 0 ? (float)coalescedCnt.sum() / updates : 0;
+    }
+
+    /**
+     * Gets average latency of a batch operation on the underlying store.
+     *
+     * @return Average store batch latency in milliseconds.
+     */
+    public float getWriteBehindAverageStoreLatency() {
+        long batches = storeBatchCnt.sum();
+
+        return batches > 0 ? (float)storeLatency.sum() / batches / 1000000 : 0;
+    }
+
+    /**
+     * Gets maximum latency of a batch operation on the underlying store.
+     *
+     * @return Maximum store batch latency in milliseconds.
+     */
+    public long getWriteBehindMaximumStoreLatency() {
+        return TimeUnit.NANOSECONDS.toMillis(maxStoreLatency.get());
+    }
+
     /**
      * Performs shutdown logic for store. No put, get and remove requests will be processed after
      * this method is called.
@@ -385,9 +458,11 @@ public class GridCacheWriteBehindStore<K, V> implements GridCacheStore<K, V>, Gr
                 val.readLock().lock();
 
                 try {
-                    switch (val.operation()) {
+                    StatefulValue<V> last = val.last();
+
+                    switch (last.operation()) {
                         case PUT:
-                            c.apply(key, val.value());
+                            c.apply(key, last.value());
 
                             break;
 
@@ -397,7 +472,7 @@ public class GridCacheWriteBehindStore<K, V> implements GridCacheStore<K, V>, Gr
                             break;
 
                         default:
-                            assert false : "Unexpected operation: " + val.status();
+                            assert false : "Unexpected operation: " + last.status();
                     }
                 }
                 finally {
@@ -424,15 +499,17 @@ public class GridCacheWriteBehindStore<K, V> implements GridCacheStore<K, V>, Gr
             val.readLock().lock();
 
             try {
-                switch (val.operation()) {
+                StatefulValue<V> last = val.last();
+
+                switch (last.operation()) {
                     case PUT:
-                        return val.value();
+                        return last.value();
 
                     case RMV:
                         return null;
 
                     default:
-                        assert false : "Unexpected operation: " + val.status();
+                        assert false : "Unexpected operation: " + last.status();
                 }
             }
             finally {
@@ -489,22 +566,31 @@ public class GridCacheWriteBehindStore<K, V> implements GridCacheStore<K, V>, Gr
      * @param key Key for which update is performed.
      * @param val New value, may be null for remove operation.
      * @param operation Updated value status
-     * @throws GridInterruptedException If interrupted while waiting for value to be flushed.
+     * @throws GridInterruptedException If interrupted while throttled.
      */
     private void updateCache(K key, @Nullable V val, StoreOperation operation) throws GridInterruptedException {
         StatefulValue<V> newVal = new StatefulValue<>(val, operation);
 
         StatefulValue<V> prev;
 
+        updatesCnt.increment();
+
         while ((prev = writeCache.putIfAbsent(key, newVal)) != null) {
             prev.writeLock().lock();
 
             try {
                 if (prev.status() == ValueStatus.PENDING) {
-                    // Flush process in progress, try again.
-                    prev.waitForFlush();
+                    // Flush process in progress, combine with successor value which
+                    // will replace the flushed one once the flush is complete.
+                    if (prev.next == null)
+                        prev.next = newVal;
+                    else {
+                        prev.next.update(val, operation, ValueStatus.NEW);
+
+                        coalescedCnt.increment();
+                    }
 
-                    continue;
+                    break;
                 }
                 else if (prev.status() == ValueStatus.FLUSHED)
                     // This entry was deleted from map before we acquired the lock.
@@ -517,6 +603,8 @@ public class GridCacheWriteBehindStore<K, V> implements GridCacheStore<K, V>, Gr
 
                 prev.update(val, operation, ValueStatus.NEW);
 
+                coalescedCnt.increment();
+
                 break;
             }
             finally {
@@ -526,12 +614,73 @@ public class GridCacheWriteBehindStore<K, V> implements GridCacheStore<K, V>, Gr
 
         // Now check the map size
         if (writeCache.sizex() > cacheCriticalSize)
-            // Perform single store update in the same thread.
-            flushSingleValue();
+            throttle();
         else if (cacheMaxSize > 0 && writeCache.sizex() > cacheMaxSize)
             wakeUp();
     }
 
+    /**
+     * Throttles current writer until flushers bring write cache size below critical size. Waiting time
+     * is bounded by twice the average store batch latency, if write cache is still full after that, single
+     * value is flushed in the current thread.
+     *
+     * @throws GridInterruptedException If interrupted.
+     */
+    private void throttle() throws GridInterruptedException {
+        totalThrottledCntr.incrementAndGet();
+
+        long batches = storeBatchCnt.sum();
+
+        long timeout = batches > 0 ? Math.max(2 * storeLatency.sum() / batches, 1000000) : 1000000;
+
+        throttledCnt.incrementAndGet();
+
+        flushLock.lock();
+
+        try {
+            canFlush.signalAll();
+
+            long end = System.nanoTime() + timeout;
+
+            while (writeCache.sizex() > cacheCriticalSize && !stopping.get()) {
+                long rem = end - System.nanoTime();
+
+                if (rem <= 0)
+                    break;
+
+                belowCritical.awaitNanos(rem);
+            }
+        }
+        catch (InterruptedException e) {
+            throw new GridInterruptedException(e);
+        }
+        finally {
+            flushLock.unlock();
+
+            throttledCnt.decrementAndGet();
+        }
+
+        if (writeCache.sizex() > cacheCriticalSize)
+            // Perform single store update in the same thread.
+            flushSingleValue();
+    }
+
+    /**
+     * Wakes up throttled writers if write cache size dropped below critical size.
+     */
+    private void onFlushed() {
+        if (throttledCnt.get() > 0 && writeCache.sizex() <= cacheCriticalSize) {
+            flushLock.lock();
+
+            try {
+                belowCritical.signalAll();
+            }
+            finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
     /**
      * Flushes one upcoming value to the underlying store. Called from
      * {@link #updateCache(Object, Object, StoreOperation)} method in case when current map size exceeds
@@ -615,12 +764,18 @@ public class GridCacheWriteBehindStore<K, V> implements GridCacheStore<K, V>, Gr
                 try {
                     val.status(ValueStatus.FLUSHED);
 
-                    StatefulValue<V> prev = writeCache.remove(e.getKey());
+                    if (val.next != null) {
+                        // Key was updated during flush, successor value takes place of the flushed one.
+                        boolean replaced = writeCache.replace(e.getKey(), val, val.next);
 
-                    // Additional check to ensure consistency.
-                    assert prev == val : "Map value for key " + e.getKey() + " was updated during flush";
+                        assert replaced : "Map value for key " + e.getKey() + " was updated during flush";
+                    }
+                    else {
+                        StatefulValue<V> prev = writeCache.remove(e.getKey());
 
-                    val.signalFlushed();
+                        // Additional check to ensure consistency.
+                        assert prev == val : "Map value for key " + e.getKey() + " was updated during flush";
+                    }
                 }
                 finally {
                     val.writeLock().unlock();
@@ -629,21 +784,33 @@ public class GridCacheWriteBehindStore<K, V> implements GridCacheStore<K, V>, Gr
         }
         else {
             // Exception occurred, we must set RETRY status
-            for (StatefulValue<V> val : valMap.values()) {
+            for (Map.Entry<K, StatefulValue<V>> e : valMap.entrySet()) {
+                StatefulValue<V> val = e.getValue();
+
                 val.writeLock().lock();
 
                 try {
-                    val.status(ValueStatus.RETRY);
+                    if (val.next != null) {
+                        // No need to retry, successor value will overwrite this one in store.
+                        val.status(ValueStatus.FLUSHED);
 
-                    retryEntriesCnt.incrementAndGet();
+                        boolean replaced = writeCache.replace(e.getKey(), val, val.next);
 
-                    val.signalFlushed();
+                        assert replaced : "Map value for key " + e.getKey() + " was updated during flush";
+                    }
+                    else {
+                        val.status(ValueStatus.RETRY);
+
+                        retryEntriesCnt.incrementAndGet();
+                    }
                 }
                 finally {
                     val.writeLock().unlock();
                 }
             }
         }
+
+        onFlushed();
     }
 
     /**
@@ -660,6 +827,8 @@ public class GridCacheWriteBehindStore<K, V> implements GridCacheStore<K, V>, Gr
      *         {@code false} otherwise
      */
     private boolean updateStore(StoreOperation operation, Map<K, V> vals) {
+        long start = System.nanoTime();
+
         try {
             switch (operation) {
                 case PUT:
@@ -676,6 +845,12 @@ public class GridCacheWriteBehindStore<K, V> implements GridCacheStore<K, V>, Gr
                     assert false : "Unexpected operation: " + operation;
             }
 
+            long latency = System.nanoTime() - start;
+
+            storeBatchCnt.increment();
+            storeLatency.add(latency);
+            maxStoreLatency.setIfGreater(latency);
+
             return true;
         }
         catch (GridException e) {
@@ -886,8 +1061,8 @@ public class GridCacheWriteBehindStore<K, V> implements GridCacheStore<K, V>, Gr
         /** Value status. */
         private ValueStatus valStatus;
 
-        /** Condition to wait for flush event */
-        private Condition flushCond = writeLock().newCondition();
+        /** Successor value combining updates made while this value is flushed. */
+        private StatefulValue<V> next;
 
         /**
          * Creates a state-value pair with {@link ValueStatus#NEW} status.
@@ -947,20 +1122,10 @@ public class GridCacheWriteBehindStore<K, V> implements GridCacheStore<K, V>, Gr
         }
 
         /**
-         * Awaits a signal on flush condition
-         *
-         * @throws GridInterruptedException If thread was interrupted.
-         */
-        private void waitForFlush() throws GridInterruptedException {
-            U.await(flushCond);
-        }
-
-        /**
-         * Signals flush condition.
+         * @return Successor value if any, otherwise this value.
          */
-        @SuppressWarnings({"SignalWithoutCorrespondingAwait"})
-        private void signalFlushed() {
-            flushCond.signalAll();
+        private StatefulValue<V> last() {
+            return next != null ? next : this;
         }
 
         /** {@inheritDoc} */
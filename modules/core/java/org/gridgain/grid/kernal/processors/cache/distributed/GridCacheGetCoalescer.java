@@ -0,0 +1,356 @@
+/* 
+ Copyright (C) GridGain Systems. All Rights Reserved.
+ 
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+ 
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+/*  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+package org.gridgain.grid.kernal.processors.cache.distributed;
+
+import org.gridgain.grid.*;
+import org.gridgain.grid.cache.*;
+import org.gridgain.grid.kernal.processors.cache.*;
+import org.gridgain.grid.kernal.processors.timeout.*;
+import org.gridgain.grid.lang.*;
+import org.gridgain.grid.util.future.*;
+import org.gridgain.grid.util.tostring.*;
+import org.gridgain.grid.util.typedef.*;
+import org.gridgain.grid.util.typedef.internal.*;
+import org.jdk8.backport.*;
+import org.jetbrains.annotations.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Coalesces concurrent non-transactional reads of the same keys (see
+ * {@link GridCacheConfiguration#isReadCoalescingEnabled()}).
+ * <p>
+ * Every key being read has a single in-flight future which is shared by all concurrent readers
+ * of this key. Keys which are not in flight are collected within configured time window and
+ * are read by a single get future, which sends at most one request per primary node.
+ */
+public class GridCacheGetCoalescer<K, V> {
+    /** Context. */
+    private final GridCacheContext<K, V> cctx;
+
+    /** Creates get future for a batch of keys. */
+    private final GridClosure<Collection<K>, GridFuture<Map<K, V>>> ldr;
+
+    /** Window in milliseconds. */
+    private final long window;
+
+    /** Maximum batch size. */
+    private final int batchSize;
+
+    /** Futures of keys being read. */
+    private final ConcurrentMap<K, KeyFuture> inFlight = new ConcurrentHashMap8<>();
+
+    /** Batch collecting keys within current window. */
+    @GridToStringExclude
+    private Batch batch;
+
+    /**
+     * @param cctx Cache context.
+     * @param ldr Closure creating get future for a batch of keys.
+     */
+    public GridCacheGetCoalescer(GridCacheContext<K, V> cctx, GridClosure<Collection<K>, GridFuture<Map<K, V>>> ldr) {
+        assert cctx != null;
+        assert ldr != null;
+
+        this.cctx = cctx;
+        this.ldr = ldr;
+
+        window = cctx.config().getReadCoalescingWindow();
+        batchSize = cctx.config().getReadCoalescingBatchSize();
+    }
+
+    /**
+     * @param keys Keys to read.
+     * @return Future for values of given keys, absent keys are not included into result.
+     */
+    public GridFuture<Map<K, V>> getAllAsync(Collection<? extends K> keys) {
+        assert !F.isEmpty(keys);
+
+        GetFuture fut = new GetFuture(keys.size());
+
+        Collection<KeyFuture> toRead = null;
+
+        for (K key : keys) {
+            KeyFuture keyFut = inFlight.get(key);
+
+            if (keyFut == null) {
+                KeyFuture old = inFlight.putIfAbsent(key, keyFut = new KeyFuture(key));
+
+                if (old != null)
+                    keyFut = old;
+                else {
+                    if (toRead == null)
+                        toRead = new ArrayList<>(keys.size());
+
+                    toRead.add(keyFut);
+                }
+            }
+
+            fut.add(keyFut);
+        }
+
+        if (toRead != null)
+            enqueue(toRead);
+
+        return fut;
+    }
+
+    /**
+     * Adds keys to current batch, sending it if window is disabled or batch is full.
+     *
+     * @param futs Futures of keys to read.
+     */
+    private void enqueue(Collection<KeyFuture> futs) {
+        if (window == 0) {
+            new Batch(futs).send();
+
+            return;
+        }
+
+        Batch send = null;
+
+        synchronized (this) {
+            if (batch == null) {
+                batch = new Batch(new ArrayList<KeyFuture>(futs.size()));
+
+                cctx.time().addTimeoutObject(batch);
+            }
+
+            batch.futs.addAll(futs);
+
+            if (batch.futs.size() >= batchSize) {
+                send = batch;
+
+                batch = null;
+            }
+        }
+
+        if (send != null) {
+            cctx.time().removeTimeoutObject(send);
+
+            send.send();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridCacheGetCoalescer.class, this, "inFlight", inFlight.size());
+    }
+
+    /**
+     * Batch of keys read by a single get future.
+     */
+    private class Batch implements GridTimeoutObject {
+        /** */
+        private final GridUuid timeoutId = GridUuid.randomUuid();
+
+        /** */
+        private final long endTime = U.currentTimeMillis() + window;
+
+        /** Key futures. */
+        private final Collection<KeyFuture> futs;
+
+        /**
+         * @param futs Key futures.
+         */
+        private Batch(Collection<KeyFuture> futs) {
+            this.futs = futs;
+        }
+
+        /** {@inheritDoc} */
+        @Override public GridUuid timeoutId() {
+            return timeoutId;
+        }
+
+        /** {@inheritDoc} */
+        @Override public long endTime() {
+            return endTime;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void onTimeout() {
+            synchronized (GridCacheGetCoalescer.this) {
+                if (batch != this)
+                    return; // Sent because of size.
+
+                batch = null;
+            }
+
+            // Get future may read swap, do not do this in timeout thread.
+            cctx.closures().runLocalSafe(new GPR() {
+                @Override public void run() {
+                    send();
+                }
+            }, true);
+        }
+
+        /**
+         * Sends batch.
+         */
+        void send() {
+            Collection<K> keys = new ArrayList<>(futs.size());
+
+            for (KeyFuture f : futs)
+                keys.add(f.key);
+
+            GridFuture<Map<K, V>> fut;
+
+            try {
+                fut = ldr.apply(keys);
+            }
+            catch (RuntimeException e) {
+                // Release keys, so that subsequent readers do not wait for this batch forever.
+                onRead(null, e);
+
+                return;
+            }
+            catch (Error e) {
+                onRead(null, e);
+
+                throw e;
+            }
+
+            fut.listenAsync(new CI1<GridFuture<Map<K, V>>>() {
+                @Override public void apply(GridFuture<Map<K, V>> f) {
+                    try {
+                        onRead(f.get(), null);
+                    }
+                    catch (GridException e) {
+                        onRead(null, e);
+                    }
+                }
+            });
+        }
+
+        /**
+         * @param vals Read values.
+         * @param err Error.
+         */
+        private void onRead(@Nullable Map<K, V> vals, @Nullable Throwable err) {
+            for (KeyFuture f : futs)
+                f.finish(vals == null ? null : vals.get(f.key), err);
+        }
+    }
+
+    /**
+     * Future of a single key read shared by all concurrent readers.
+     */
+    private class KeyFuture extends GridFutureAdapter<V> {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** Key. */
+        private K key;
+
+        /**
+         * Empty constructor required for {@link Externalizable}.
+         */
+        public KeyFuture() {
+            // No-op.
+        }
+
+        /**
+         * @param key Key.
+         */
+        private KeyFuture(K key) {
+            super(cctx.kernalContext());
+
+            this.key = key;
+        }
+
+        /**
+         * @param val Value.
+         * @param err Error.
+         */
+        void finish(@Nullable V val, @Nullable Throwable err) {
+            // Readers coming after this point will send a new request.
+            inFlight.remove(key, this);
+
+            onDone(val, err);
+        }
+    }
+
+    /**
+     * Future of a single {@link #getAllAsync(Collection)} call.
+     */
+    private class GetFuture extends GridFutureAdapter<Map<K, V>> {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** Result. */
+        private Map<K, V> res;
+
+        /** Number of keys not read yet. */
+        private AtomicInteger cnt;
+
+        /**
+         * Empty constructor required for {@link Externalizable}.
+         */
+        public GetFuture() {
+            // No-op.
+        }
+
+        /**
+         * @param cnt Number of keys.
+         */
+        private GetFuture(int cnt) {
+            super(cctx.kernalContext());
+
+            this.cnt = new AtomicInteger(cnt);
+
+            res = new HashMap<>(cnt, 1.0f);
+        }
+
+        /**
+         * @param keyFut Key future.
+         */
+        void add(final KeyFuture keyFut) {
+            keyFut.listenAsync(new CI1<GridFuture<V>>() {
+                @Override public void apply(GridFuture<V> f) {
+                    V val;
+
+                    try {
+                        val = f.get();
+                    }
+                    catch (GridException e) {
+                        onDone(e);
+
+                        return;
+                    }
+
+                    if (val != null) {
+                        synchronized (res) {
+                            res.put(keyFut.key, val);
+                        }
+                    }
+
+                    if (cnt.decrementAndGet() == 0)
+                        onDone(res);
+                }
+            });
+        }
+    }
+}
@@ -63,6 +63,9 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
     /** Multi tx futures. */
     private ConcurrentMap<GridUuid, MultiUpdateFuture> multiTxFuts = new ConcurrentHashMap8<>();
 
+    /** Coalescer of remote reads, {@code null} if read coalescing is disabled. */
+    private GridCacheGetCoalescer<K, V> getCoalescer;
+
     /**
      * Empty constructor required for {@link Externalizable}.
      */
@@ -77,6 +80,8 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
         super(ctx, ctx.config().getStartSize());
 
         top = new GridDhtPartitionTopologyImpl<>(ctx);
+
+        initGetCoalescer();
     }
 
     /**
@@ -89,6 +94,56 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
         super(ctx, map);
 
         top = new GridDhtPartitionTopologyImpl<>(ctx);
+
+        initGetCoalescer();
+    }
+
+    /**
+     * Creates read coalescer if it is enabled in configuration.
+     */
+    private void initGetCoalescer() {
+        if (ctx.config().isReadCoalescingEnabled()) {
+            getCoalescer = new GridCacheGetCoalescer<>(ctx, new C1<Collection<K>, GridFuture<Map<K, V>>>() {
+                @Override public GridFuture<Map<K, V>> apply(Collection<K> keys) {
+                    return remoteGetFuture(keys, false, false, null);
+                }
+            });
+        }
+    }
+
+    /**
+     * Reads keys which could not be resolved locally. Plain reads are coalesced with
+     * concurrent reads of the same keys if read coalescing is enabled.
+     *
+     * @param keys Keys to load.
+     * @param reload Reload flag.
+     * @param forcePrimary Force get from primary node flag.
+     * @param filter Filter.
+     * @return Loaded values.
+     */
+    protected GridFuture<Map<K, V>> getRemoteAsync(Collection<? extends K> keys, boolean reload,
+        boolean forcePrimary, @Nullable GridPredicate<GridCacheEntry<K, V>>[] filter) {
+        if (getCoalescer != null && !reload && !forcePrimary && F.isEmpty(filter))
+            return ctx.wrapCloneMap(getCoalescer.getAllAsync(keys));
+
+        return ctx.wrapCloneMap(remoteGetFuture(keys, reload, forcePrimary, filter));
+    }
+
+    /**
+     * @param keys Keys to load.
+     * @param reload Reload flag.
+     * @param forcePrimary Force get from primary node flag.
+     * @param filter Filter.
+     * @return Initialized get future.
+     */
+    private GridFuture<Map<K, V>> remoteGetFuture(Collection<? extends K> keys, boolean reload,
+        boolean forcePrimary, @Nullable GridPredicate<GridCacheEntry<K, V>>[] filter) {
+        GridPartitionedGetFuture<K, V> fut = new GridPartitionedGetFuture<>(ctx, keys, reload, forcePrimary, null,
+            filter);
+
+        fut.init();
+
+        return fut;
     }
 
     /** {@inheritDoc} */
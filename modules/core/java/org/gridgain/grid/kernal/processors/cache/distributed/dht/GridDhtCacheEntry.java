@@ -312,7 +312,7 @@ public class GridDhtCacheEntry<K, V> extends GridDistributedCacheEntry<K, V> {
             else
                 val0 = val;
 
-            return F.t(ver, val0, valBytes0);
+            return F.t(ver(), val0, valBytes0);
         }
     }
 
@@ -748,12 +748,7 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
         }
 
         // Either reload or not all values are available locally.
-        GridPartitionedGetFuture<K, V> fut = new GridPartitionedGetFuture<>(ctx, keys, reload, forcePrimary, null,
-            filter);
-
-        fut.init();
-
-        return ctx.wrapCloneMap(fut);
+        return getRemoteAsync(keys, reload, forcePrimary, filter);
     }
 
     /**
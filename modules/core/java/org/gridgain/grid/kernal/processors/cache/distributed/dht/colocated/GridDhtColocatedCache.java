@@ -339,12 +339,7 @@ public class GridDhtColocatedCache<K, V> extends GridDhtTransactionalCacheAdapte
         }
 
         // Either reload or not all values are available locally.
-        GridPartitionedGetFuture<K, V> fut = new GridPartitionedGetFuture<>(ctx, keys, reload, forcePrimary, null,
-            filter);
-
-        fut.init();
-
-        return ctx.wrapCloneMap(fut);
+        return getRemoteAsync(keys, reload, forcePrimary, filter);
     }
 
     /**
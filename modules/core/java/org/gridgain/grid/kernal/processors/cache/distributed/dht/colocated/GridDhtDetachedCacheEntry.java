@@ -62,7 +62,7 @@ public class GridDhtDetachedCacheEntry<K, V> extends GridDistributedCacheEntry<K
 
         value(val, valBytes);
 
-        this.ver = ver;
+        ver(ver);
     }
 
     /** {@inheritDoc} */
@@ -85,6 +85,16 @@ public class GridDhtPartitionDemandMessage<K, V> extends GridCacheMessage<K, V>
         topVer = cp.topVer;
     }
 
+    /**
+     * @param cp Message to copy from.
+     * @param parts Partitions to demand.
+     */
+    GridDhtPartitionDemandMessage(GridDhtPartitionDemandMessage<K, V> cp, Collection<Integer> parts) {
+        this(cp);
+
+        this.parts = new HashSet<>(parts);
+    }
+
     /**
      * Empty constructor required for {@link Externalizable}.
      */
@@ -28,11 +28,11 @@ import org.gridgain.grid.cache.*;
 import org.gridgain.grid.events.*;
 import org.gridgain.grid.kernal.processors.cache.*;
 import org.gridgain.grid.kernal.processors.cache.distributed.dht.*;
+import org.gridgain.grid.kernal.processors.dr.*;
 import org.gridgain.grid.kernal.processors.timeout.*;
 import org.gridgain.grid.lang.*;
 import org.gridgain.grid.logger.*;
 import org.gridgain.grid.thread.*;
-import org.gridgain.grid.util.*;
 import org.gridgain.grid.util.typedef.*;
 import org.gridgain.grid.util.typedef.internal.*;
 import org.gridgain.grid.util.future.*;
@@ -110,6 +110,10 @@ public class GridDhtPartitionDemandPool<K, V> {
     private AtomicReference<GridDhtPartitionsExchangeFuture<K, V>> lastExchangeFut =
         new AtomicReference<>();
 
+    /** Preloading progress metrics. */
+    @GridToStringInclude
+    private final PreloadMetrics metrics = new PreloadMetrics();
+
     /**
      * @param cctx Cache context.
      * @param busyLock Shutdown lock.
@@ -215,6 +219,21 @@ public class GridDhtPartitionDemandPool<K, V> {
         return poolSize;
     }
 
+    /**
+     * @return Number of entries preloaded per second during current or last preloading.
+     */
+    float throughput() {
+        return metrics.throughput();
+    }
+
+    /**
+     * @return Estimated time in milliseconds to finish current preloading, {@code 0} if
+     *      preloading is finished or {@code -1} if it can not be estimated yet.
+     */
+    long estimatedTimeToFinish() {
+        return metrics.estimatedTimeToFinish();
+    }
+
     /**
      * Force preload.
      */
@@ -504,6 +523,15 @@ public class GridDhtPartitionDemandPool<K, V> {
         if (delay == 0 || force) {
             assert assigns != null;
 
+            if (!assigns.isEmpty()) {
+                int partCnt = 0;
+
+                for (GridDhtPartitionDemandMessage<K, V> d : assigns.values())
+                    partCnt += d.partitions().size();
+
+                metrics.onStart(partCnt);
+            }
+
             synchronized (dmdWorkers) {
                 for (DemandWorker w : dmdWorkers) {
                     w.addAssignments(assigns);
@@ -640,35 +668,67 @@ public class GridDhtPartitionDemandPool<K, V> {
         }
 
         /**
+         * Preloads entries received for a partition. Checks which do not depend on a particular
+         * entry are performed once for the whole batch.
+         *
          * @param pick Node picked for preloading.
-         * @param p Partition.
-         * @param entry Preloaded entry.
+         * @param part Partition.
+         * @param entries Preloaded entries.
          * @return {@code False} if partition has become invalid during preloading.
          * @throws GridInterruptedException If interrupted.
          */
-        private boolean preloadEntry(GridNode pick, int p, GridCacheEntryInfo<K, V> entry)
-            throws GridException, GridInterruptedException {
-            try {
-                GridCacheEntryEx<K, V> cached = null;
+        private boolean preloadEntries(GridNode pick, GridDhtLocalPartition<K, V> part,
+            Collection<GridCacheEntryInfo<K, V>> entries) throws GridException, GridInterruptedException {
+            int p = part.id();
 
-                try {
-                    cached = cctx.dht().entryEx(entry.key());
+            GridDhtCacheAdapter<K, V> dht = cctx.dht();
 
-                    if (log.isDebugEnabled())
-                        log.debug("Preloading key [key=" + entry.key() + ", part=" + p + ", node=" + pick.id() + ']');
+            GridPredicate<GridCacheEntryInfo<K, V>> preloadPred = GridDhtPartitionDemandPool.this.preloadPred;
+
+            boolean ggfs = dht.isGgfsDataCache();
+
+            boolean recordEvt = cctx.events().isRecordable(EVT_CACHE_PRELOAD_OBJECT_LOADED);
+
+            GridDrType drType = cctx.isReplicationEnabled() ? DR_PRELOAD : DR_NONE;
+
+            int cnt = 0;
 
-                    if (cctx.dht().isGgfsDataCache() &&
-                        cctx.dht().ggfsDataSpaceUsed() > cctx.dht().ggfsDataSpaceMax()) {
-                        LT.error(log, null, "Failed to preload GGFS data cache (GGFS space size exceeded maximum " +
-                            "value, will ignore preload entries): " + name());
+            try {
+                for (GridCacheEntryInfo<K, V> entry : entries) {
+                    if (!part.preloadingPermitted(entry.key(), entry.version())) {
+                        if (log.isDebugEnabled())
+                            log.debug("Preloading is not permitted for entry due to evictions [key=" + entry.key() +
+                                ", ver=" + entry.version() + ']');
 
-                        if (cached.markObsoleteIfEmpty(null))
-                            cached.context().cache().removeIfObsolete(cached.key());
+                        continue;
+                    }
 
-                        return true;
+                    if (preloadPred != null && !preloadPred.apply(entry)) {
+                        if (log.isDebugEnabled())
+                            log.debug("Preload predicate evaluated to false for entry (will ignore): " + entry);
+
+                        continue;
                     }
 
-                    if (preloadPred == null || preloadPred.apply(entry)) {
+                    GridCacheEntryEx<K, V> cached = null;
+
+                    try {
+                        cached = dht.entryEx(entry.key());
+
+                        if (log.isDebugEnabled())
+                            log.debug("Preloading key [key=" + entry.key() + ", part=" + p + ", node=" + pick.id() +
+                                ']');
+
+                        if (ggfs && dht.ggfsDataSpaceUsed() > dht.ggfsDataSpaceMax()) {
+                            LT.error(log, null, "Failed to preload GGFS data cache (GGFS space size exceeded " +
+                                "maximum value, will ignore preload entries): " + name());
+
+                            if (cached.markObsoleteIfEmpty(null))
+                                cached.context().cache().removeIfObsolete(cached.key());
+
+                            continue;
+                        }
+
                         if (cached.initialValue(
                             entry.value(),
                             entry.valueBytes(),
@@ -676,11 +736,13 @@ public class GridDhtPartitionDemandPool<K, V> {
                             entry.ttl(),
                             entry.expireTime(),
                             true,
-                            cctx.isReplicationEnabled() ? DR_PRELOAD : DR_NONE
+                            drType
                         )) {
                             cctx.evicts().touch(cached); // Start tracking.
 
-                            if (cctx.events().isRecordable(EVT_CACHE_PRELOAD_OBJECT_LOADED) && !cached.isInternal())
+                            cnt++;
+
+                            if (recordEvt && !cached.isInternal())
                                 cctx.events().addEvent(cached.partition(), cached.key(), cctx.localNodeId(),
                                     (GridUuid)null, null, EVT_CACHE_PRELOAD_OBJECT_LOADED, entry.value(), true, null,
                                     false);
@@ -689,27 +751,28 @@ public class GridDhtPartitionDemandPool<K, V> {
                             log.debug("Preloading entry is already in cache (will ignore) [key=" + cached.key() +
                                 ", part=" + p + ']');
                     }
-                    else if (log.isDebugEnabled())
-                        log.debug("Preload predicate evaluated to false for entry (will ignore): " + entry);
-                }
-                catch (GridCacheEntryRemovedException ignored) {
-                    if (log.isDebugEnabled())
-                        log.debug("Entry has been concurrently removed while preloading (will ignore) [key=" +
-                            cached.key() + ", part=" + p + ']');
-                }
-                catch (GridDhtInvalidPartitionException ignored) {
-                    if (log.isDebugEnabled())
-                        log.debug("Partition became invalid during preloading (will ignore): " + p);
+                    catch (GridCacheEntryRemovedException ignored) {
+                        if (log.isDebugEnabled())
+                            log.debug("Entry has been concurrently removed while preloading (will ignore) [key=" +
+                                cached.key() + ", part=" + p + ']');
+                    }
+                    catch (GridDhtInvalidPartitionException ignored) {
+                        if (log.isDebugEnabled())
+                            log.debug("Partition became invalid during preloading (will ignore): " + p);
 
-                    return false;
+                        return false;
+                    }
+                    catch (GridInterruptedException e) {
+                        throw e;
+                    }
+                    catch (GridException e) {
+                        throw new GridException("Failed to cache preloaded entry (will stop preloading) [local=" +
+                            cctx.nodeId() + ", node=" + pick.id() + ", key=" + entry.key() + ", part=" + p + ']', e);
+                    }
                 }
             }
-            catch (GridInterruptedException e) {
-                throw e;
-            }
-            catch (GridException e) {
-                throw new GridException("Failed to cache preloaded entry (will stop preloading) [local=" +
-                    cctx.nodeId() + ", node=" + pick.id() + ", key=" + entry.key() + ", part=" + p + ']', e);
+            finally {
+                metrics.onEntriesLoaded(cnt);
             }
 
             return true;
@@ -765,8 +828,8 @@ public class GridDhtPartitionDemandPool<K, V> {
                 do {
                     retry = false;
 
-                    // Create copy.
-                    d = new GridDhtPartitionDemandMessage<>(d);
+                    // Create copy with partitions which are still not preloaded.
+                    d = new GridDhtPartitionDemandMessage<>(d, remaining);
 
                     long timeout = GridDhtPartitionDemandPool.this.timeout.get();
 
@@ -851,6 +914,28 @@ public class GridDhtPartitionDemandPool<K, V> {
                             break;
                         }
 
+                        // Request next portion of partitions before applying received entries,
+                        // so that supplier sends it while this batch is being preloaded.
+                        boolean pipelined = false;
+
+                        if (supply.ack()) {
+                            Collection<Integer> next = nextPartitions(remaining, supply, topVer);
+
+                            if (!next.isEmpty()) {
+                                d = new GridDhtPartitionDemandMessage<>(d, next);
+
+                                d.timeout(timeout);
+
+                                if (log.isDebugEnabled())
+                                    log.debug("Sending pipelined demand message [node=" + node.id() + ", demand=" +
+                                        d + ']');
+
+                                cctx.io().send(node, d);
+
+                                pipelined = true;
+                            }
+                        }
+
                         // Preload.
                         for (Map.Entry<Integer, Collection<GridCacheEntryInfo<K, V>>> e : supply.infos().entrySet()) {
                             int p = e.getKey();
@@ -869,29 +954,10 @@ public class GridDhtPartitionDemandPool<K, V> {
                                     part.lock();
 
                                     try {
-                                        Collection<Integer> invalidParts = new GridLeanSet<>();
-
-                                        // Loop through all received entries and try to preload them.
-                                        for (GridCacheEntryInfo<K, V> entry : e.getValue()) {
-                                            if (!invalidParts.contains(p)) {
-                                                if (!part.preloadingPermitted(entry.key(), entry.version())) {
-                                                    if (log.isDebugEnabled())
-                                                        log.debug("Preloading is not permitted for entry due to " +
-                                                            "evictions [key=" + entry.key() +
-                                                            ", ver=" + entry.version() + ']');
-
-                                                    continue;
-                                                }
-
-                                                if (!preloadEntry(node, p, entry)) {
-                                                    invalidParts.add(p);
-
-                                                    if (log.isDebugEnabled())
-                                                        log.debug("Got entries for invalid partition during " +
-                                                            "preloading (will skip) [p=" + p + ", entry=" + entry + ']');
-                                                }
-                                            }
-                                        }
+                                        // Preload all received entries at once.
+                                        if (!preloadEntries(node, part, e.getValue()) && log.isDebugEnabled())
+                                            log.debug("Got entries for invalid partition during preloading " +
+                                                "(will skip) [p=" + p + ']');
 
                                         boolean last = supply.last().contains(p);
 
@@ -902,6 +968,8 @@ public class GridDhtPartitionDemandPool<K, V> {
 
                                             top.own(part);
 
+                                            metrics.onPartitionLoaded();
+
                                             if (log.isDebugEnabled())
                                                 log.debug("Finished preloading partition: " + part);
 
@@ -942,7 +1010,8 @@ public class GridDhtPartitionDemandPool<K, V> {
                         if (remaining.isEmpty())
                             break; // While.
 
-                        if (s.supply().ack()) {
+                        // Next demand was already sent, keep receiving.
+                        if (s.supply().ack() && !pipelined) {
                             retry = true;
 
                             break;
@@ -958,6 +1027,27 @@ public class GridDhtPartitionDemandPool<K, V> {
             }
         }
 
+        /**
+         * Gets partitions that should be demanded after given acknowledged supply message is processed.
+         *
+         * @param remaining Partitions that are not preloaded yet.
+         * @param supply Acknowledged supply message.
+         * @param topVer Topology version.
+         * @return Partitions to demand next.
+         */
+        private Collection<Integer> nextPartitions(Collection<Integer> remaining,
+            GridDhtPartitionSupplyMessage<K, V> supply, long topVer) {
+            Collection<Integer> next = new HashSet<>(remaining.size(), 1.0f);
+
+            for (Integer p : remaining) {
+                if (!supply.last().contains(p) && !supply.missed().contains(p) &&
+                    cctx.affinity().localNode(p, topVer))
+                    next.add(p);
+            }
+
+            return next;
+        }
+
         /**
          * @throws InterruptedException If interrupted.
          */
@@ -1396,6 +1486,94 @@ public class GridDhtPartitionDemandPool<K, V> {
         }
     }
 
+    /**
+     * Preloading progress metrics.
+     */
+    private static class PreloadMetrics {
+        /** Start time of current preloading. */
+        private volatile long startTime;
+
+        /** End time of last preloading, {@code 0} if preloading is in progress. */
+        private volatile long endTime;
+
+        /** Number of partitions to preload. */
+        private volatile int totalParts;
+
+        /** Number of preloaded partitions. */
+        private final AtomicInteger loadedParts = new AtomicInteger();
+
+        /** Number of preloaded entries. */
+        private final AtomicLong loadedEntries = new AtomicLong();
+
+        /**
+         * @param partCnt Number of partitions to preload.
+         */
+        void onStart(int partCnt) {
+            loadedParts.set(0);
+            loadedEntries.set(0);
+
+            totalParts = partCnt;
+            endTime = 0;
+            startTime = U.currentTimeMillis();
+        }
+
+        /**
+         * @param cnt Number of preloaded entries.
+         */
+        void onEntriesLoaded(int cnt) {
+            if (cnt > 0)
+                loadedEntries.addAndGet(cnt);
+        }
+
+        /**
+         * Callback for fully preloaded partition.
+         */
+        void onPartitionLoaded() {
+            if (loadedParts.incrementAndGet() >= totalParts)
+                endTime = U.currentTimeMillis();
+        }
+
+        /**
+         * @return Entries per second.
+         */
+        float throughput() {
+            long start = startTime;
+
+            if (start == 0)
+                return 0;
+
+            long end = endTime;
+
+            long dur = (end != 0 ? end : U.currentTimeMillis()) - start;
+
+            return dur > 0 ? loadedEntries.get() * 1000f / dur : 0;
+        }
+
+        /**
+         * @return Estimated time to finish in milliseconds.
+         */
+        long estimatedTimeToFinish() {
+            long start = startTime;
+
+            if (start == 0 || endTime != 0)
+                return 0;
+
+            int loaded = loadedParts.get();
+
+            if (loaded == 0)
+                return -1;
+
+            int left = Math.max(0, totalParts - loaded);
+
+            return (U.currentTimeMillis() - start) * left / loaded;
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(PreloadMetrics.class, this);
+        }
+    }
+
     /**
      * Supply message wrapper.
      */
@@ -247,6 +247,11 @@ class GridDhtPartitionSupplyPool<K, V> {
 
             long preloadThrottle = cctx.config().getPreloadThrottle();
 
+            int prefetchCnt = cctx.config().getPreloadBatchesPrefetchCount();
+
+            // Number of batches sent for this demand.
+            int batches = 0;
+
             boolean ack = false;
 
             // If demander node left grid.
@@ -308,6 +313,8 @@ class GridDhtPartitionSupplyPool<K, V> {
                                     return;
                                 }
 
+                                batches++;
+
                                 // Throttle preloading.
                                 if (preloadThrottle > 0)
                                     U.sleep(preloadThrottle);
@@ -362,6 +369,8 @@ class GridDhtPartitionSupplyPool<K, V> {
                                                 return;
                                             }
 
+                                            batches++;
+
                                             // Throttle preloading.
                                             if (preloadThrottle > 0)
                                                 U.sleep(preloadThrottle);
@@ -452,6 +461,8 @@ class GridDhtPartitionSupplyPool<K, V> {
                                         return;
                                     }
 
+                                    batches++;
+
                                     s = new GridDhtPartitionSupplyMessage<>(d.workerId(), d.updateSequence());
                                 }
 
@@ -466,7 +477,9 @@ class GridDhtPartitionSupplyPool<K, V> {
                         // Mark as last supply message.
                         s.last(part);
 
-                        if (ack) {
+                        // Keep streaming partitions until prefetch window is sent,
+                        // then let demander request the rest.
+                        if (ack && batches >= prefetchCnt) {
                             s.markAck();
 
                             break; // Partition for loop.
@@ -492,7 +505,8 @@ class GridDhtPartitionSupplyPool<K, V> {
                 cctx.io().removeMessageId(d.topic());
             }
             finally {
-                if (!ack || nodeLeft)
+                // Demander will send next demand on the same topic only if last reply was acknowledged.
+                if (!s.ack() || nodeLeft)
                     cctx.io().removeMessageId(d.topic());
             }
         }
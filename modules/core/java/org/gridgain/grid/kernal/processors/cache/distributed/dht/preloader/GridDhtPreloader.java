@@ -753,6 +753,16 @@ public class GridDhtPreloader<K, V> extends GridCachePreloaderAdapter<K, V> {
         demandPool.unwindUndeploys();
     }
 
+    /** {@inheritDoc} */
+    @Override public float throughput() {
+        return demandPool.throughput();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long estimatedTimeToFinish() {
+        return demandPool.estimatedTimeToFinish();
+    }
+
     /**
      * Adds future to future map.
      *
@@ -46,6 +46,9 @@ import static org.gridgain.grid.kernal.processors.cache.GridCacheUtils.*;
  * Common logic for near caches.
  */
 public abstract class GridNearCacheAdapter<K, V> extends GridDistributedCacheAdapter<K, V> {
+    /** Coalescer of non-transactional reads, {@code null} if read coalescing is disabled. */
+    private GridCacheGetCoalescer<K, V> getCoalescer;
+
     /**
      * Empty constructor required for {@link Externalizable}.
      */
@@ -58,6 +61,14 @@ public abstract class GridNearCacheAdapter<K, V> extends GridDistributedCacheAda
      */
     protected GridNearCacheAdapter(GridCacheContext<K, V> ctx) {
         super(ctx, ctx.config().getNearStartSize());
+
+        if (ctx.config().isReadCoalescingEnabled()) {
+            getCoalescer = new GridCacheGetCoalescer<>(ctx, new C1<Collection<K>, GridFuture<Map<K, V>>>() {
+                @Override public GridFuture<Map<K, V>> apply(Collection<K> keys) {
+                    return nearGetFuture(null, keys, false, false, null);
+                }
+            });
+        }
     }
 
     /** {@inheritDoc} */
@@ -286,12 +297,28 @@ public abstract class GridNearCacheAdapter<K, V> extends GridDistributedCacheAda
 
         GridCacheTxLocalEx<K, V> txx = (tx != null && tx.local()) ? (GridCacheTxLocalEx<K, V>)tx : null;
 
-        GridNearGetFuture<K, V> fut = new GridNearGetFuture<>(ctx, keys, reload, forcePrimary, txx, filter);
+        if (getCoalescer != null && txx == null && !reload && !forcePrimary && F.isEmpty(filter))
+            return ctx.wrapCloneMap(getCoalescer.getAllAsync(keys));
+
+        return ctx.wrapCloneMap(nearGetFuture(txx, keys, reload, forcePrimary, filter));
+    }
+
+    /**
+     * @param tx Transaction.
+     * @param keys Keys to load.
+     * @param reload Reload flag.
+     * @param forcePrimary Force primary flag.
+     * @param filter Filter.
+     * @return Initialized get future.
+     */
+    private GridFuture<Map<K, V>> nearGetFuture(@Nullable GridCacheTxLocalEx<K, V> tx, Collection<? extends K> keys,
+        boolean reload, boolean forcePrimary, @Nullable GridPredicate<GridCacheEntry<K, V>>[] filter) {
+        GridNearGetFuture<K, V> fut = new GridNearGetFuture<>(ctx, keys, reload, forcePrimary, tx, filter);
 
         // init() will register future for responses if future has remote mappings.
         fut.init();
 
-        return ctx.wrapCloneMap(fut);
+        return fut;
     }
 
     /** {@inheritDoc} */
@@ -134,7 +134,7 @@ public class GridNearCacheEntry<K, V> extends GridDistributedCacheEntry<K, V> {
 
                             if (isNew() || !valid(topVer)) {
                                 // Version does not change for load ops.
-                                update(e.value(), e.valueBytes(), e.expireTime(), e.ttl(), e.isNew() ? ver : e.version());
+                                update(e.value(), e.valueBytes(), e.expireTime(), e.ttl(), e.isNew() ? ver() : e.version());
 
                                 if (cctx.deferredDelete()) {
                                     boolean deleted = val == null && valBytes == null;
@@ -202,7 +202,7 @@ public class GridNearCacheEntry<K, V> extends GridDistributedCacheEntry<K, V> {
             if (!F.eq(this.dhtVer, dhtVer)) {
                 value(val, valBytes);
 
-                this.ver = ver;
+                ver(ver);
                 this.dhtVer = dhtVer;
 
                 return true;
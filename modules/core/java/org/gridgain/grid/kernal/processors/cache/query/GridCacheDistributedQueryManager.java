@@ -213,6 +213,7 @@ public class GridCacheDistributedQueryManager<K, V> extends GridCacheQueryManage
                 false,
                 req.includeBackups(),
                 false,
+                req.parallelism(),
                 null,
                 req.keyValueFilter(),
                 U.forName(req.className(), cctx.deploy().globalLoader()),
@@ -521,6 +522,7 @@ public class GridCacheDistributedQueryManager<K, V> extends GridCacheQueryManage
                 qry.reducer(),
                 qry.transform(),
                 qry.query().pageSize(),
+                qry.query().parallelism(),
                 qry.query().includeBackups(),
                 qry.arguments(),
                 false);
@@ -617,6 +619,7 @@ public class GridCacheDistributedQueryManager<K, V> extends GridCacheQueryManage
                 qry.reducer(),
                 qry.transform(),
                 qry.query().pageSize(),
+                qry.query().parallelism(),
                 qry.query().includeBackups(),
                 qry.arguments(),
                 qry.query().includeMetadata());
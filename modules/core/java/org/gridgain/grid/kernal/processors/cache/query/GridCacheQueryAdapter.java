@@ -83,6 +83,9 @@ public class GridCacheQueryAdapter<T> implements GridCacheQuery<T> {
     /** */
     private volatile boolean dedup;
 
+    /** */
+    private volatile int parallelism;
+
     /** */
     private volatile GridProjection prj;
 
@@ -116,6 +119,7 @@ public class GridCacheQueryAdapter<T> implements GridCacheQuery<T> {
         keepAll = true;
         incBackups = false;
         dedup = false;
+        parallelism = 1;
         prj = null;
 
         metrics = new GridCacheQueryMetricsAdapter();
@@ -131,6 +135,7 @@ public class GridCacheQueryAdapter<T> implements GridCacheQuery<T> {
      * @param keepAll Keep all flag.
      * @param incBackups Include backups flag.
      * @param dedup Enable dedup flag.
+     * @param parallelism Query parallelism.
      * @param prj Grid projection.
      * @param filter Key-value filter.
      * @param cls Class.
@@ -139,8 +144,8 @@ public class GridCacheQueryAdapter<T> implements GridCacheQuery<T> {
      */
     public GridCacheQueryAdapter(GridCacheContext<?, ?> cctx, GridPredicate<GridCacheEntry<Object, Object>> prjPred,
         GridCacheQueryType type, GridLogger log, int pageSize, long timeout, boolean keepAll, boolean incBackups,
-        boolean dedup, GridProjection prj, GridBiPredicate<Object, Object> filter, Class<?> cls, String clause,
-        boolean incMeta) {
+        boolean dedup, int parallelism, GridProjection prj, GridBiPredicate<Object, Object> filter, Class<?> cls,
+        String clause, boolean incMeta) {
         this.cctx = cctx;
         this.prjPred = prjPred;
         this.type = type;
@@ -150,6 +155,7 @@ public class GridCacheQueryAdapter<T> implements GridCacheQuery<T> {
         this.keepAll = keepAll;
         this.incBackups = incBackups;
         this.dedup = dedup;
+        this.parallelism = parallelism;
         this.prj = prj;
         this.filter = filter;
         this.cls = cls;
@@ -266,6 +272,22 @@ public class GridCacheQueryAdapter<T> implements GridCacheQuery<T> {
         return dedup;
     }
 
+    /** {@inheritDoc} */
+    @Override public GridCacheQuery<T> parallelism(int parallelism) {
+        A.ensure(parallelism > 0, "parallelism > 0");
+
+        this.parallelism = parallelism;
+
+        return this;
+    }
+
+    /**
+     * @return Query parallelism.
+     */
+    public int parallelism() {
+        return parallelism;
+    }
+
     /** {@inheritDoc} */
     @Override public GridCacheQuery<T> projection(GridProjection prj) {
         this.prj = prj;
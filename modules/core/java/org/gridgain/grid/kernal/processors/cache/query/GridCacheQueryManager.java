@@ -51,10 +51,12 @@ import java.io.*;
 import java.sql.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import static org.gridgain.grid.cache.GridCacheMode.*;
 import static org.gridgain.grid.events.GridEventType.*;
 import static org.gridgain.grid.kernal.GridClosureCallMode.*;
+import static org.gridgain.grid.kernal.processors.cache.distributed.dht.GridDhtPartitionState.*;
 import static org.gridgain.grid.kernal.processors.cache.query.GridCacheQueryType.*;
 
 /**
@@ -503,22 +505,36 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
             }
         };
 
-        Map<K, V> resMap = new HashMap();
-
         GridCacheProjection<K, V> prj = cctx.cache().projection(filter);
 
-        for (K key : prj.keySet()) {
-            V val = prj.peek(key);
+        GridBiPredicate<K, V> scanFilter = qry.scanFilter();
+
+        injectResources(scanFilter);
+
+        Collection<Map.Entry<K, V>> entries;
 
-            if (val != null)
-                resMap.put(key, val);
+        // Key-value filter is applied to the iterator only if it was not applied during parallel scan.
+        final GridBiPredicate<K, V> keyValFilter;
+
+        if (qry.parallelism() > 1 && !cctx.isLocal()) {
+            entries = scanPartitions(qry, prj, scanFilter);
+
+            keyValFilter = null;
         }
+        else {
+            Map<K, V> resMap = new HashMap();
+
+            for (K key : prj.keySet()) {
+                V val = prj.peek(key);
 
-        Set<Map.Entry<K, V>> entries = resMap.entrySet();
+                if (val != null)
+                    resMap.put(key, val);
+            }
 
-        final GridBiPredicate<K, V> keyValFilter = qry.scanFilter();
+            entries = resMap.entrySet();
 
-        injectResources(keyValFilter);
+            keyValFilter = scanFilter;
+        }
 
         final GridIterator<GridIndexingKeyValueRow<K, V>> it = F.iterator(
             entries,
@@ -553,6 +569,89 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
         };
     }
 
+    /**
+     * Scans local partitions in parallel. Partitions are claimed one at a time by the calling thread
+     * and by up to {@code parallelism - 1} tasks submitted to the public pool, so the scan completes
+     * even if the pool is busy. Results are merged in partition order.
+     *
+     * @param qry Query.
+     * @param prj Cache projection.
+     * @param keyValFilter Optional key-value filter.
+     * @return Scanned entries.
+     * @throws GridException If failed.
+     */
+    @SuppressWarnings("unchecked")
+    private Collection<Map.Entry<K, V>> scanPartitions(GridCacheQueryAdapter<?> qry,
+        final GridCacheProjection<K, V> prj, @Nullable final GridBiPredicate<K, V> keyValFilter)
+        throws GridException {
+        final List<GridDhtLocalPartition<K, V>> parts = new ArrayList<>();
+
+        for (GridDhtLocalPartition<K, V> part : cctx.topology().localPartitions()) {
+            if (part.state() == OWNING && (qry.includeBackups() || part.primary()))
+                parts.add(part);
+        }
+
+        final Collection<Map.Entry<K, V>>[] res = new Collection[parts.size()];
+
+        final AtomicInteger nextPart = new AtomicInteger();
+
+        final CountDownLatch doneLatch = new CountDownLatch(parts.size());
+
+        final AtomicReference<Throwable> err = new AtomicReference<>();
+
+        Runnable scanner = new Runnable() {
+            @Override public void run() {
+                for (int i = nextPart.getAndIncrement(); i < parts.size(); i = nextPart.getAndIncrement()) {
+                    try {
+                        Collection<Map.Entry<K, V>> partRes = new ArrayList<>();
+
+                        for (GridDhtCacheEntry<K, V> e : parts.get(i).entries()) {
+                            if (e.isInternal())
+                                continue;
+
+                            K key = e.key();
+
+                            V val = prj.peek(key);
+
+                            if (val != null && (keyValFilter == null || keyValFilter.apply(key, val)))
+                                partRes.add(F.t(key, val));
+                        }
+
+                        res[i] = partRes;
+                    }
+                    catch (Throwable e) {
+                        err.compareAndSet(null, e);
+                    }
+                    finally {
+                        doneLatch.countDown();
+                    }
+                }
+            }
+        };
+
+        for (int i = 1, threads = Math.min(qry.parallelism(), parts.size()); i < threads; i++)
+            cctx.closures().runLocalSafe(scanner, false);
+
+        scanner.run();
+
+        U.await(doneLatch);
+
+        if (err.get() != null)
+            throw new GridException("Failed to scan cache partitions.", err.get());
+
+        int size = 0;
+
+        for (Collection<Map.Entry<K, V>> partRes : res)
+            size += partRes.size();
+
+        Collection<Map.Entry<K, V>> entries = new ArrayList<>(size);
+
+        for (Collection<Map.Entry<K, V>> partRes : res)
+            entries.addAll(partRes);
+
+        return entries;
+    }
+
     /**
      * @param o Object to inject resources to.
      * @throws GridException If failure occurred while injecting resources.
@@ -98,6 +98,9 @@ public class GridCacheQueryRequest<K, V> extends GridCacheMessage<K, V> implemen
     /** */
     private int pageSize;
 
+    /** */
+    private int parallelism;
+
     /** */
     private boolean incBackups;
 
@@ -165,6 +168,7 @@ public class GridCacheQueryRequest<K, V> extends GridCacheMessage<K, V> implemen
      * @param rdc Reducer.
      * @param trans Transformer.
      * @param pageSize Page size.
+     * @param parallelism Query parallelism.
      * @param incBackups {@code true} if need to include backups.
      * @param args Query arguments.
      * @param incMeta Include meta data or not.
@@ -181,6 +185,7 @@ public class GridCacheQueryRequest<K, V> extends GridCacheMessage<K, V> implemen
         GridReducer<Object, Object> rdc,
         GridClosure<Object, Object> trans,
         int pageSize,
+        int parallelism,
         boolean incBackups,
         Object[] args,
         boolean incMeta) {
@@ -199,6 +204,7 @@ public class GridCacheQueryRequest<K, V> extends GridCacheMessage<K, V> implemen
         this.rdc = rdc;
         this.trans = trans;
         this.pageSize = pageSize;
+        this.parallelism = parallelism;
         this.incBackups = incBackups;
         this.args = args;
         this.incMeta = incMeta;
@@ -368,6 +374,13 @@ public class GridCacheQueryRequest<K, V> extends GridCacheMessage<K, V> implemen
         return pageSize;
     }
 
+    /**
+     * @return Query parallelism.
+     */
+    public int parallelism() {
+        return parallelism;
+    }
+
     /**
      * @return Arguments.
      */
@@ -422,6 +435,7 @@ public class GridCacheQueryRequest<K, V> extends GridCacheMessage<K, V> implemen
         _clone.args = args;
         _clone.argsBytes = argsBytes;
         _clone.pageSize = pageSize;
+        _clone.parallelism = parallelism;
         _clone.incBackups = incBackups;
         _clone.cancel = cancel;
         _clone.incMeta = incMeta;
@@ -532,39 +546,45 @@ public class GridCacheQueryRequest<K, V> extends GridCacheMessage<K, V> implemen
                 commState.idx++;
 
             case 19:
-                if (!commState.putByteArray(prjFilterBytes))
+                if (!commState.putInt(parallelism))
                     return false;
 
                 commState.idx++;
 
             case 20:
+                if (!commState.putByteArray(prjFilterBytes))
+                    return false;
+
                 commState.idx++;
 
             case 21:
+                commState.idx++;
+
+            case 22:
                 if (!commState.putByteArray(rdcBytes))
                     return false;
 
                 commState.idx++;
 
-            case 22:
+            case 23:
                 commState.idx++;
 
-            case 23:
+            case 24:
                 if (!commState.putByteArray(transBytes))
                     return false;
 
                 commState.idx++;
 
-            case 24:
+            case 25:
                 if (!commState.putEnum(type))
                     return false;
 
                 commState.idx++;
 
-            case 25:
+            case 26:
                 commState.idx++;
 
-            case 26:
+            case 27:
                 commState.idx++;
 
         }
@@ -703,6 +723,14 @@ public class GridCacheQueryRequest<K, V> extends GridCacheMessage<K, V> implemen
                 commState.idx++;
 
             case 19:
+                if (buf.remaining() < 4)
+                    return false;
+
+                parallelism = commState.getInt();
+
+                commState.idx++;
+
+            case 20:
                 byte[] prjFilterBytes0 = commState.getByteArray();
 
                 if (prjFilterBytes0 == BYTE_ARR_NOT_READ)
@@ -712,10 +740,10 @@ public class GridCacheQueryRequest<K, V> extends GridCacheMessage<K, V> implemen
 
                 commState.idx++;
 
-            case 20:
+            case 21:
                 commState.idx++;
 
-            case 21:
+            case 22:
                 byte[] rdcBytes0 = commState.getByteArray();
 
                 if (rdcBytes0 == BYTE_ARR_NOT_READ)
@@ -725,10 +753,10 @@ public class GridCacheQueryRequest<K, V> extends GridCacheMessage<K, V> implemen
 
                 commState.idx++;
 
-            case 22:
+            case 23:
                 commState.idx++;
 
-            case 23:
+            case 24:
                 byte[] transBytes0 = commState.getByteArray();
 
                 if (transBytes0 == BYTE_ARR_NOT_READ)
@@ -738,7 +766,7 @@ public class GridCacheQueryRequest<K, V> extends GridCacheMessage<K, V> implemen
 
                 commState.idx++;
 
-            case 24:
+            case 25:
                 Object type0 = commState.getEnum(GridCacheQueryType.class);
 
                 if (type0 == ENUM_NOT_READ)
@@ -748,10 +776,10 @@ public class GridCacheQueryRequest<K, V> extends GridCacheMessage<K, V> implemen
 
                 commState.idx++;
 
-            case 25:
+            case 26:
                 commState.idx++;
 
-            case 26:
+            case 27:
                 commState.idx++;
 
         }
@@ -75,6 +75,10 @@ class GridCacheContinuousQueryEntry<K, V> implements GridCacheEntry<K, V>, GridC
     /** Deployment info. */
     private GridDeploymentInfo depInfo;
 
+    /** Filter results shared by listeners with identical filters. */
+    @GridToStringExclude
+    private transient Map<Object, Boolean> filterRes;
+
     /**
      * Required by {@link Externalizable}.
      */
@@ -117,6 +121,29 @@ class GridCacheContinuousQueryEntry<K, V> implements GridCacheEntry<K, V>, GridC
             val = valBytes.isPlain() ? (V)valBytes.get() : marsh.<V>unmarshal(valBytes.get(), ldr);
     }
 
+    /**
+     * Gets result of filter evaluated for this update by another listener.
+     *
+     * @param filterKey Filter key.
+     * @return Filter result or {@code null} if filter was not evaluated yet.
+     */
+    @Nullable synchronized Boolean filterResult(Object filterKey) {
+        return filterRes != null ? filterRes.get(filterKey) : null;
+    }
+
+    /**
+     * Saves result of filter evaluated for this update.
+     *
+     * @param filterKey Filter key.
+     * @param res Filter result.
+     */
+    synchronized void filterResult(Object filterKey, boolean res) {
+        if (filterRes == null)
+            filterRes = new HashMap<>(4);
+
+        filterRes.put(filterKey, res);
+    }
+
     /**
      * @return Cache name.
      */
@@ -25,11 +25,13 @@ package org.gridgain.grid.kernal.processors.cache.query.continuous;
 
 import org.gridgain.grid.*;
 import org.gridgain.grid.cache.*;
+import org.gridgain.grid.cache.query.*;
 import org.gridgain.grid.kernal.*;
 import org.gridgain.grid.kernal.managers.deployment.*;
 import org.gridgain.grid.kernal.processors.cache.*;
 import org.gridgain.grid.kernal.processors.continuous.*;
 import org.gridgain.grid.lang.*;
+import org.gridgain.grid.marshaller.*;
 import org.gridgain.grid.util.typedef.*;
 import org.gridgain.grid.util.typedef.internal.*;
 import org.jetbrains.annotations.*;
@@ -63,6 +65,9 @@ class GridCacheContinuousQueryHandler<K, V> implements GridContinuousHandler {
     /** Deployable object for Projection predicate. */
     private DeployableObject prjPredDep;
 
+    /** Key identifying filters of other queries with identical state. */
+    private transient FilterKey filterKey;
+
     /**
      * Required by {@link Externalizable}.
      */
@@ -100,6 +105,9 @@ class GridCacheContinuousQueryHandler<K, V> implements GridContinuousHandler {
         if (cb != null)
             ctx.resource().injectGeneric(cb);
 
+        // Must be done before resources are injected into filter.
+        filterKey = filterKey(ctx);
+
         if (filter != null)
             ctx.resource().injectGeneric(filter);
 
@@ -107,16 +115,21 @@ class GridCacheContinuousQueryHandler<K, V> implements GridContinuousHandler {
 
         GridCacheContinuousQueryListener<K, V> lsnr = new GridCacheContinuousQueryListener<K, V>() {
             @Override public void onEntryUpdate(GridCacheContinuousQueryEntry<K, V> e) {
-                boolean notify;
+                Boolean notify = filterKey != null ? e.filterResult(filterKey) : null;
 
-                GridCacheFlag[] f = cacheContext(ctx).forceLocalRead();
+                if (notify == null) {
+                    GridCacheFlag[] f = cacheContext(ctx).forceLocalRead();
 
-                try {
-                    notify = (prjPred == null || prjPred.apply(e)) &&
-                        (filter == null || filter.apply(e.getKey(), e.getValue()));
-                }
-                finally {
-                    cacheContext(ctx).forceFlags(f);
+                    try {
+                        notify = (prjPred == null || prjPred.apply(e)) &&
+                            (filter == null || filter.apply(e.getKey(), e.getValue()));
+                    }
+                    finally {
+                        cacheContext(ctx).forceFlags(f);
+                    }
+
+                    if (filterKey != null)
+                        e.filterResult(filterKey, notify);
                 }
 
                 if (notify) {
@@ -288,6 +301,47 @@ class GridCacheContinuousQueryHandler<K, V> implements GridContinuousHandler {
             prjPred = (GridPredicate<GridCacheEntry<K, V>>)in.readObject();
     }
 
+    /**
+     * Creates key which is equal for queries with identical filters, so that filter is evaluated once
+     * per update for all such queries. Sharing is enabled only for filters annotated with
+     * {@link GridCacheContinuousQuerySharedFilter}. Filters are compared by class and serialized form.
+     *
+     * @param ctx Kernal context.
+     * @return Filter key or {@code null} if filter evaluation should not be shared.
+     */
+    @Nullable private FilterKey filterKey(GridKernalContext ctx) {
+        if (filter == null && prjPred == null)
+            return null;
+
+        if (!shared(filter) || !shared(prjPred))
+            return null;
+
+        try {
+            GridMarshaller marsh = ctx.config().getMarshaller();
+
+            return new FilterKey(
+                filter != null ? filter.getClass() : null,
+                filter != null ? marsh.marshal(filter) : null,
+                prjPred != null ? prjPred.getClass() : null,
+                prjPred != null ? marsh.marshal(prjPred) : null);
+        }
+        catch (GridException e) {
+            if (ctx.log(getClass()).isDebugEnabled())
+                ctx.log(getClass()).debug("Failed to marshal continuous query filter (filter evaluation " +
+                    "will not be shared with other queries): " + e);
+
+            return null;
+        }
+    }
+
+    /**
+     * @param pred Filter or projection predicate.
+     * @return {@code True} if predicate is absent or allows sharing its evaluation result.
+     */
+    private static boolean shared(@Nullable Object pred) {
+        return pred == null || pred.getClass().isAnnotationPresent(GridCacheContinuousQuerySharedFilter.class);
+    }
+
     /**
      * @param ctx Kernal context.
      * @return Cache context.
@@ -298,6 +352,69 @@ class GridCacheContinuousQueryHandler<K, V> implements GridContinuousHandler {
         return ctx.cache().<K, V>internalCache(cacheName).context();
     }
 
+    /**
+     * Key of serialized filter and projection predicate. Classes are compared by identity, so
+     * that filters loaded by different class loaders (e.g. different versions of peer-deployed
+     * class) never share evaluation results.
+     */
+    private static class FilterKey {
+        /** Filter class. */
+        private final Class<?> filterCls;
+
+        /** Serialized filter. */
+        private final byte[] filterBytes;
+
+        /** Projection predicate class. */
+        private final Class<?> prjPredCls;
+
+        /** Serialized projection predicate. */
+        private final byte[] prjPredBytes;
+
+        /** Hash code. */
+        private final int hash;
+
+        /**
+         * @param filterCls Filter class.
+         * @param filterBytes Serialized filter.
+         * @param prjPredCls Projection predicate class.
+         * @param prjPredBytes Serialized projection predicate.
+         */
+        private FilterKey(@Nullable Class<?> filterCls, @Nullable byte[] filterBytes, @Nullable Class<?> prjPredCls,
+            @Nullable byte[] prjPredBytes) {
+            this.filterCls = filterCls;
+            this.filterBytes = filterBytes;
+            this.prjPredCls = prjPredCls;
+            this.prjPredBytes = prjPredBytes;
+
+            int h = filterCls == null ? 0 : filterCls.hashCode();
+
+            h = 31 * h + Arrays.hashCode(filterBytes);
+            h = 31 * h + (prjPredCls == null ? 0 : prjPredCls.hashCode());
+            h = 31 * h + Arrays.hashCode(prjPredBytes);
+
+            hash = h;
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean equals(Object o) {
+            if (this == o)
+                return true;
+
+            if (!(o instanceof FilterKey))
+                return false;
+
+            FilterKey k = (FilterKey)o;
+
+            return hash == k.hash && filterCls == k.filterCls && prjPredCls == k.prjPredCls &&
+                Arrays.equals(filterBytes, k.filterBytes) && Arrays.equals(prjPredBytes, k.prjPredBytes);
+        }
+
+        /** {@inheritDoc} */
+        @Override public int hashCode() {
+            return hash;
+        }
+    }
+
     /**
      * Deployable object.
      */
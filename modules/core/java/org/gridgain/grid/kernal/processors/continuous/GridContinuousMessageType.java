@@ -42,7 +42,13 @@ enum GridContinuousMessageType {
     MSG_STOP_ACK,
 
     /** Remote event notification. */
-    MSG_EVT_NOTIFICATION;
+    MSG_EVT_NOTIFICATION,
+
+    /** Remote event notification acknowledgement. */
+    MSG_EVT_ACK,
+
+    /** Subscriber did not keep up with notifications and routine has to be stopped. */
+    MSG_EVT_OVERFLOW;
 
     /** Enumerated values. */
     private static final GridContinuousMessageType[] VALS = values();
@@ -46,8 +46,10 @@ import org.jetbrains.annotations.*;
 import java.io.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.concurrent.locks.*;
 
+import static org.gridgain.grid.GridSystemProperties.*;
 import static org.gridgain.grid.events.GridEventType.*;
 import static org.gridgain.grid.kernal.GridTopic.*;
 import static org.gridgain.grid.kernal.managers.communication.GridIoPolicy.*;
@@ -57,6 +59,17 @@ import static org.gridgain.grid.kernal.processors.continuous.GridContinuousMessa
  * Processor for continuous routines.
  */
 public class GridContinuousProcessor extends GridProcessorAdapter {
+    /**
+     * Maximum number of notifications sent to subscriber and not acknowledged yet. Should be
+     * the same on all nodes, since subscriber acknowledges notifications in batches of
+     * {@link #ACK_THRESHOLD} to avoid sending acknowledgement for every notification.
+     */
+    private static final int MAX_UNACKED = Math.max(2, Integer.getInteger(GG_CONTINUOUS_MAX_UNACKED_NOTIFICATIONS,
+        65536));
+
+    /** Number of received notifications after which acknowledgement is sent. */
+    private static final int ACK_THRESHOLD = Math.max(1, MAX_UNACKED / 4);
+
     /** Local infos. */
     private final ConcurrentMap<UUID, LocalRoutineInfo> locInfos = new ConcurrentHashMap8<>();
 
@@ -266,6 +279,16 @@ public class GridContinuousProcessor extends GridProcessorAdapter {
 
                         break;
 
+                    case MSG_EVT_ACK:
+                        processNotificationAck(nodeId, msg);
+
+                        break;
+
+                    case MSG_EVT_OVERFLOW:
+                        processOverflow(nodeId, msg);
+
+                        break;
+
                     default:
                         assert false : "Unexpected message received: " + msg.type();
                 }
@@ -653,6 +676,21 @@ public class GridContinuousProcessor extends GridProcessorAdapter {
 
             if (toSnd != null)
                 sendNotification(nodeId, routineId, toSnd, orderedTopic);
+            else if (info.overflow()) {
+                U.warn(log, "Continuous routine subscriber does not keep up with notifications, routine will be " +
+                    "stopped [nodeId=" + nodeId + ", routineId=" + routineId + ", maxUnacked=" + MAX_UNACKED + ']');
+
+                unregisterRemote(routineId);
+
+                // Let subscriber stop routine on all nodes.
+                try {
+                    sendWithRetries(nodeId, new GridContinuousMessage(MSG_EVT_OVERFLOW, routineId, null), null);
+                }
+                catch (GridException e) {
+                    U.error(log, "Failed to notify subscriber about stopped routine [nodeId=" + nodeId +
+                        ", routineId=" + routineId + ']', e);
+                }
+            }
         }
     }
 
@@ -825,8 +863,68 @@ public class GridContinuousProcessor extends GridProcessorAdapter {
 
         LocalRoutineInfo routine = locInfos.get(routineId);
 
-        if (routine != null)
-            routine.hnd.notifyCallback(nodeId, routineId, (Collection<?>)ntf.data(), ctx);
+        if (routine != null) {
+            Collection<?> objs = (Collection<?>)ntf.data();
+
+            routine.hnd.notifyCallback(nodeId, routineId, objs, ctx);
+
+            int ackCnt = routine.onNotification(nodeId, objs.size());
+
+            if (ackCnt > 0) {
+                try {
+                    sendWithRetries(nodeId, new GridContinuousMessage(MSG_EVT_ACK, routineId, ackCnt), null);
+                }
+                catch (GridException e) {
+                    if (log.isDebugEnabled())
+                        log.debug("Failed to send notification acknowledgement (will ignore) [nodeId=" + nodeId +
+                            ", routineId=" + routineId + ", err=" + e + ']');
+                }
+            }
+        }
+    }
+
+    /**
+     * @param nodeId Sender ID.
+     * @param msg Overflow message.
+     */
+    private void processOverflow(UUID nodeId, GridContinuousMessage msg) {
+        assert nodeId != null;
+        assert msg != null;
+
+        UUID routineId = msg.routineId();
+
+        if (locInfos.containsKey(routineId)) {
+            U.warn(log, "Continuous routine was stopped because local node did not keep up with notifications " +
+                "[nodeId=" + nodeId + ", routineId=" + routineId + ", maxUnacked=" + MAX_UNACKED + ']');
+
+            stopRoutine(routineId);
+        }
+    }
+
+    /**
+     * @param nodeId Sender ID.
+     * @param ack Notification acknowledgement.
+     */
+    private void processNotificationAck(UUID nodeId, GridContinuousMessage ack) {
+        assert nodeId != null;
+        assert ack != null;
+
+        UUID routineId = ack.routineId();
+
+        RemoteRoutineInfo info = rmtInfos.get(routineId);
+
+        if (info != null) {
+            Collection<Object> toSnd = info.onAck((Integer)ack.data());
+
+            if (toSnd != null) {
+                try {
+                    sendNotification(nodeId, routineId, toSnd, info.hnd.orderedTopic());
+                }
+                catch (GridException e) {
+                    U.error(log, "Failed to send notification to node: " + nodeId, e);
+                }
+            }
+        }
     }
 
     /**
@@ -1086,6 +1184,9 @@ public class GridContinuousProcessor extends GridProcessorAdapter {
         /** Time interval. */
         private final long interval;
 
+        /** Number of not acknowledged notifications per sender node. */
+        private final ConcurrentMap<UUID, AtomicInteger> unacked = new ConcurrentHashMap8<>();
+
         /**
          * @param prjPred Projection predicate.
          * @param hnd Continuous routine handler.
@@ -1103,6 +1204,26 @@ public class GridContinuousProcessor extends GridProcessorAdapter {
             this.bufSize = bufSize;
             this.interval = interval;
         }
+
+        /**
+         * Counts notifications received from remote node.
+         *
+         * @param nodeId Sender node ID.
+         * @param cnt Number of received notifications.
+         * @return Number of notifications to acknowledge or {@code 0} if acknowledgement should not be sent yet.
+         */
+        int onNotification(UUID nodeId, int cnt) {
+            AtomicInteger rcvd = unacked.get(nodeId);
+
+            if (rcvd == null) {
+                AtomicInteger old = unacked.putIfAbsent(nodeId, rcvd = new AtomicInteger());
+
+                if (old != null)
+                    rcvd = old;
+            }
+
+            return rcvd.addAndGet(cnt) >= ACK_THRESHOLD ? rcvd.getAndSet(0) : 0;
+        }
     }
 
     /**
@@ -1133,6 +1254,12 @@ public class GridContinuousProcessor extends GridProcessorAdapter {
         /** Automatic unsubscribe flag. */
         private boolean autoUnsubscribe;
 
+        /** Number of sent and not acknowledged notifications, guarded by write lock. */
+        private int unacked;
+
+        /** Whether subscriber did not keep up with notifications. */
+        private volatile boolean overflow;
+
         /**
          * @param nodeId Master node ID.
          * @param hnd Continuous routine handler.
@@ -1161,6 +1288,9 @@ public class GridContinuousProcessor extends GridProcessorAdapter {
          * @return Object to send or {@code null} if there is nothing to send for now.
          */
         @Nullable Collection<Object> add(@Nullable Object obj) {
+            if (overflow)
+                return null;
+
             Collection<Object> toSnd = null;
 
             if (buf.sizex() >= bufSize - 1) {
@@ -1169,12 +1299,22 @@ public class GridContinuousProcessor extends GridProcessorAdapter {
                 try {
                     buf.add(obj);
 
-                    toSnd = buf;
+                    if (unacked < MAX_UNACKED) {
+                        unacked += buf.sizex();
 
-                    buf = new ConcurrentLinkedDeque8<>();
+                        toSnd = buf;
 
-                    if (interval > 0)
-                        lastSndTime = U.currentTimeMillis();
+                        buf = new ConcurrentLinkedDeque8<>();
+
+                        if (interval > 0)
+                            lastSndTime = U.currentTimeMillis();
+                    }
+                    else if (buf.sizex() > MAX_UNACKED) {
+                        // Subscriber does not acknowledge notifications, stop buffering.
+                        overflow = true;
+
+                        buf = new ConcurrentLinkedDeque8<>();
+                    }
                 }
                 finally {
                     lock.writeLock().unlock();
@@ -1212,7 +1352,9 @@ public class GridContinuousProcessor extends GridProcessorAdapter {
             try {
                 diff = now - lastSndTime;
 
-                if (diff >= interval && !buf.isEmpty()) {
+                if (diff >= interval && !buf.isEmpty() && unacked < MAX_UNACKED && !overflow) {
+                    unacked += buf.sizex();
+
                     toSnd = buf;
 
                     buf = new ConcurrentLinkedDeque8<>();
@@ -1226,6 +1368,47 @@ public class GridContinuousProcessor extends GridProcessorAdapter {
 
             return F.t(toSnd, diff < interval ? interval - diff : interval);
         }
+
+        /**
+         * Notifications acknowledgement callback. If notifications were buffered because
+         * subscriber did not acknowledge previous ones, all of them are sent in a single batch,
+         * so that batch size adapts to subscriber throughput.
+         *
+         * @param cnt Number of acknowledged notifications.
+         * @return Objects to send or {@code null} if there is nothing to send for now.
+         */
+        @Nullable Collection<Object> onAck(int cnt) {
+            Collection<Object> toSnd = null;
+
+            lock.writeLock().lock();
+
+            try {
+                unacked = Math.max(0, unacked - cnt);
+
+                if (!overflow && unacked < MAX_UNACKED && buf.sizex() >= bufSize) {
+                    unacked += buf.sizex();
+
+                    toSnd = buf;
+
+                    buf = new ConcurrentLinkedDeque8<>();
+
+                    if (interval > 0)
+                        lastSndTime = U.currentTimeMillis();
+                }
+            }
+            finally {
+                lock.writeLock().unlock();
+            }
+
+            return toSnd != null ? new ArrayList<>(toSnd) : null;
+        }
+
+        /**
+         * @return Whether subscriber did not keep up with notifications and routine should be stopped.
+         */
+        boolean overflow() {
+            return overflow;
+        }
     }
 
     /**
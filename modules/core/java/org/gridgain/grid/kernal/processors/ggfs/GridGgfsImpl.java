@@ -885,6 +885,32 @@ public final class GridGgfsImpl implements GridGgfsEx {
         for (int step = 0, size = components.size(); step < size; step++) {
             GridUuid fileId = ids.get(step + 1); // Skip the first ROOT element.
 
+            if (fileId == null && step < size - 1) {
+                // Create all missing directories at once.
+                try {
+                    List<GridGgfsFileInfo> created = meta.mkdirs(parentId, components.subList(step, size), props);
+
+                    if (created != null) {
+                        if (evts.isRecordable(EVT_GGFS_DIR_CREATED)) {
+                            for (int i = step; i < size; i++) {
+                                curPath = new GridGgfsPath(curPath, components.get(i));
+
+                                evts.record(new GridGgfsEvent(curPath, locNodeId, EVT_GGFS_DIR_CREATED));
+                            }
+                        }
+
+                        return;
+                    }
+                }
+                catch (GridException e) {
+                    if (log.isDebugEnabled())
+                        log.debug("Failed to create directories at once, will create them one by one [path=" + path +
+                            ", parentId=" + parentId + ", step=" + step + ", e=" + e.getMessage() + ']');
+                }
+
+                // Directory was created concurrently, proceed step by step.
+            }
+
             if (fileId == null) {
                 GridGgfsFileInfo fileInfo = new GridGgfsFileInfo(true, props); // Create new directory.
 
@@ -964,8 +990,15 @@ public final class GridGgfsImpl implements GridGgfsEx {
 
         GridUuid fileId = meta.fileId(path);
 
-        if (fileId != null)
-            files.addAll(meta.directoryListing(fileId).keySet());
+        if (fileId != null) {
+            Map<String, GridGgfsListingEntry> listing = meta.directoryListing(fileId);
+
+            // Do not copy listing if there is nothing to merge it with.
+            if (files.isEmpty())
+                files = listing.keySet();
+            else
+                files.addAll(listing.keySet());
+        }
         else if (mode == PRIMARY) {
             checkConflictWithPrimary(path);
 
@@ -1031,6 +1064,18 @@ public final class GridGgfsImpl implements GridGgfsEx {
                     // If this is a file, return its description.
                     return Collections.<GridGgfsFile>singleton(new GridGgfsFileImpl(path, info, data.groupBlockSize()));
 
+                // Nothing to merge with, so return listing view which creates file descriptors
+                // on iteration instead of materializing all of them at once.
+                if (files.isEmpty()) {
+                    return F.viewReadOnly(info.listing().entrySet(),
+                        new C1<Map.Entry<String, GridGgfsListingEntry>, GridGgfsFile>() {
+                            @Override public GridGgfsFile apply(Map.Entry<String, GridGgfsListingEntry> e) {
+                                return new GridGgfsFileImpl(new GridGgfsPath(path, e.getKey()), e.getValue(),
+                                    data.groupBlockSize());
+                            }
+                        });
+                }
+
                 // Perform the listing.
                 for (Map.Entry<String, GridGgfsListingEntry> e : info.listing().entrySet()) {
                     GridGgfsPath p = new GridGgfsPath(path, e.getKey());
@@ -1445,7 +1490,10 @@ public final class GridGgfsImpl implements GridGgfsEx {
             metrics.readBytes(),
             metrics.readBytesTime(),
             metrics.writeBytes(),
-            metrics.writeBytesTime());
+            metrics.writeBytesTime(),
+            metrics.prefetchedBlocks(),
+            metrics.prefetchHits(),
+            metrics.prefetchWastedBytes());
     }
 
     /** {@inheritDoc} */
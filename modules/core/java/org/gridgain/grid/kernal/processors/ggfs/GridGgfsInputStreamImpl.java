@@ -28,10 +28,12 @@ import org.gridgain.grid.ggfs.*;
 import org.gridgain.grid.lang.*;
 import org.gridgain.grid.logger.*;
 import org.gridgain.grid.util.*;
+import org.gridgain.grid.util.tostring.*;
 import org.gridgain.grid.util.typedef.internal.*;
 import org.jetbrains.annotations.*;
 
 import java.io.*;
+import java.nio.*;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.locks.*;
@@ -43,6 +45,9 @@ public class GridGgfsInputStreamImpl extends GridGgfsInputStream {
     /** Empty chunks result. */
     private static final byte[][] EMPTY_CHUNKS = new byte[0][];
 
+    /** Empty buffers result. */
+    private static final ByteBuffer[] EMPTY_BUFS = new ByteBuffer[0];
+
     /** Meta manager. */
     private final GridGgfsMetaManager meta;
 
@@ -98,6 +103,13 @@ public class GridGgfsInputStreamImpl extends GridGgfsInputStream {
     /** Amount of sequential reads performed. */
     private int seqReads;
 
+    /** Current read-ahead window, adapted to the access pattern and bounded by {@link #prefetchBlocks}. */
+    private int prefetchWnd;
+
+    /** Indexes of pre-fetched blocks which were not read yet. */
+    @GridToStringExclude
+    private final Set<Long> prefetched = new HashSet<>();
+
     /** Time consumed on reading. */
     private long time;
 
@@ -231,13 +243,47 @@ public class GridGgfsInputStreamImpl extends GridGgfsInputStream {
     }
 
     /** {@inheritDoc} */
-    @SuppressWarnings("IfMayBeConditional")
     @Override public synchronized byte[][] readChunks(long pos, int len) throws IOException {
+        ByteBuffer[] bufs = readBuffers(pos, len);
+
+        if (bufs.length == 0)
+            return EMPTY_CHUNKS;
+
+        byte[][] chunks = new byte[bufs.length][];
+
+        for (int i = 0; i < bufs.length; i++) {
+            ByteBuffer buf = bufs[i];
+
+            // If whole block can be used as result, do not do array copy.
+            if (buf.remaining() == buf.array().length)
+                chunks[i] = buf.array();
+            else {
+                // Only first or last block can have non-full data.
+                assert i == 0 || i == bufs.length - 1;
+
+                chunks[i] = Arrays.copyOfRange(buf.array(), buf.position(), buf.limit());
+            }
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Reads bytes from given position as slices of file blocks. Unlike {@link #readChunks(long, int)},
+     * this method never copies block data, so partially read first and last blocks are also
+     * returned as views of cached block arrays and must not be modified.
+     *
+     * @param pos Position to read from.
+     * @param len Number of bytes to read.
+     * @return Heap buffers wrapping file blocks, one per block.
+     * @throws IOException If read failed.
+     */
+    public synchronized ByteBuffer[] readBuffers(long pos, int len) throws IOException {
         // Readable bytes in the file, starting from the specified position.
         long readable = fileInfo.length() - pos;
 
         if (readable <= 0)
-            return EMPTY_CHUNKS;
+            return EMPTY_BUFS;
 
         long startTime = System.nanoTime();
 
@@ -251,25 +297,17 @@ public class GridGgfsInputStreamImpl extends GridGgfsInputStream {
         int start = (int)(pos / fileInfo.blockSize());
         int end = (int)((pos + len - 1) / fileInfo.blockSize());
 
-        int chunkCnt = end - start + 1;
+        int bufCnt = end - start + 1;
 
-        byte[][] chunks = new byte[chunkCnt][];
+        ByteBuffer[] bufs = new ByteBuffer[bufCnt];
 
-        for (int i = 0; i < chunkCnt; i++) {
+        for (int i = 0; i < bufCnt; i++) {
             byte[] block = blockFragmentizerSafe(start + i);
 
             int blockOff = (int)(pos % fileInfo.blockSize());
             int blockLen = Math.min(len, block.length - blockOff);
 
-            // If whole block can be used as result, do not do array copy.
-            if (blockLen == block.length)
-                chunks[i] = block;
-            else {
-                // Only first or last block can have non-full data.
-                assert i == 0 || i == chunkCnt - 1;
-
-                chunks[i] = Arrays.copyOfRange(block, blockOff, blockOff + blockLen);
-            }
+            bufs[i] = ByteBuffer.wrap(block, blockOff, blockLen);
 
             len -= blockLen;
             pos += blockLen;
@@ -279,7 +317,7 @@ public class GridGgfsInputStreamImpl extends GridGgfsInputStream {
 
         time += System.nanoTime() - startTime;
 
-        return chunks;
+        return bufs;
     }
 
     /** {@inheritDoc} */
@@ -327,6 +365,8 @@ public class GridGgfsInputStreamImpl extends GridGgfsInputStream {
 
             metrics.addReadBytesTime(bytes, time);
 
+            discardPrefetched();
+
             locCache.clear();
         }
     }
@@ -411,6 +451,8 @@ public class GridGgfsInputStreamImpl extends GridGgfsInputStream {
                     fileInfo = newInfo;
 
                     // Must clear cache as it may have failed futures.
+                    discardPrefetched();
+
                     locCache.clear();
 
                     if (log.isDebugEnabled())
@@ -445,6 +487,10 @@ public class GridGgfsInputStreamImpl extends GridGgfsInputStream {
 
             seqReads = (prevBlockIdx != -1 && prevBlockIdx + 1 == blockIdx) ? ++seqReads : 0;
 
+            // Random access, shrink read-ahead window to avoid fetching blocks which will not be read.
+            if (seqReads == 0)
+                prefetchWnd /= 2;
+
             prevBlockIdx = blockIdx;
 
             bytesFut = dataBlock(fileInfo, blockIdx);
@@ -453,16 +499,44 @@ public class GridGgfsInputStreamImpl extends GridGgfsInputStream {
 
             addLocalCacheFuture(blockIdx, bytesFut);
         }
+        else if (prefetched.remove(blockIdx)) {
+            // Pre-fetched block is consumed, so read-ahead pays off and window can be extended.
+            metrics.addPrefetchHits(1);
+
+            if (prevBlockIdx + 1 == blockIdx)
+                seqReads++;
+
+            prevBlockIdx = blockIdx;
+
+            prefetchWnd = Math.min(prefetchWnd * 2, prefetchBlocks);
+        }
 
         // Schedule the next block(s) prefetch.
         if (prefetchBlocks > 0 && seqReads >= seqReadsBeforePrefetch - 1) {
-            for (int i = 1; i <= prefetchBlocks; i++) {
+            if (prefetchWnd == 0)
+                prefetchWnd = 1;
+
+            int cnt = 0;
+
+            // Futures for all blocks of the window are requested at once, so blocks residing
+            // on different affinity nodes are fetched in parallel.
+            for (int i = 1; i <= prefetchWnd; i++) {
+                long idx = blockIdx + i;
+
                 // Ensure that we do not prefetch over file size.
-                if (fileInfo.blockSize() * (i + blockIdx) >= fileInfo.length())
+                if (fileInfo.blockSize() * idx >= fileInfo.length())
                     break;
-                else if (locCache.get(blockIdx + i) == null)
-                    addLocalCacheFuture(blockIdx + i, dataBlock(fileInfo, blockIdx + i));
+                else if (locCache.get(idx) == null) {
+                    addLocalCacheFuture(idx, dataBlock(fileInfo, idx));
+
+                    prefetched.add(idx);
+
+                    cnt++;
+                }
             }
+
+            if (cnt > 0)
+                metrics.addPrefetchedBlocks(cnt);
         }
 
         byte[] bytes = bytesFut.get();
@@ -497,7 +571,12 @@ public class GridGgfsInputStreamImpl extends GridGgfsInputStream {
 
         if (!locCache.containsKey(idx)) {
             if (locCache.size() == maxLocCacheSize) {
-                final GridFuture<byte[]> evictFut = locCache.remove(locCache.keySet().iterator().next());
+                Long evictIdx = locCache.keySet().iterator().next();
+
+                final GridFuture<byte[]> evictFut = locCache.remove(evictIdx);
+
+                if (prefetched.remove(evictIdx))
+                    metrics.addPrefetchWastedBytes(blockLength(evictIdx));
 
                 if (!evictFut.isDone()) {
                     pendingFuts.add(evictFut);
@@ -523,6 +602,34 @@ public class GridGgfsInputStreamImpl extends GridGgfsInputStream {
         }
     }
 
+    /**
+     * Accounts all pre-fetched blocks which were not read as wasted.
+     */
+    private void discardPrefetched() {
+        assert Thread.holdsLock(this);
+
+        if (!prefetched.isEmpty()) {
+            long wasted = 0;
+
+            for (Long idx : prefetched)
+                wasted += blockLength(idx);
+
+            metrics.addPrefetchWastedBytes(wasted);
+
+            prefetched.clear();
+        }
+    }
+
+    /**
+     * @param blockIdx Block index.
+     * @return Length of the block with the given index.
+     */
+    private long blockLength(long blockIdx) {
+        long blockSize = fileInfo.blockSize();
+
+        return Math.max(0, Math.min(blockSize, fileInfo.length() - blockIdx * blockSize));
+    }
+
     /**
      * Get data block for specified block index.
      *
@@ -36,6 +36,7 @@ import org.gridgain.grid.util.lang.*;
 import org.jetbrains.annotations.*;
 
 import java.io.*;
+import java.nio.*;
 import java.util.*;
 import java.util.concurrent.atomic.*;
 
@@ -449,6 +450,22 @@ class GridGgfsIpcHandler implements GridGgfsServerHandler {
                 if (ggfsIn == null)
                     throw new GridException("Input stream not found (already closed?): " + rsrcId);
 
+                if (ggfsIn instanceof GridGgfsInputStreamImpl) {
+                    // Write cached blocks to client as is, without copying partially read ones.
+                    ByteBuffer[] bufs = ((GridGgfsInputStreamImpl)ggfsIn).readBuffers(pos, size);
+
+                    resp.response(bufs);
+
+                    int len = 0;
+
+                    for (ByteBuffer buf : bufs)
+                        len += buf.remaining();
+
+                    resp.length(len);
+
+                    break;
+                }
+
                 byte[][] chunks = ggfsIn.readChunks(pos, size);
 
                 resp.response(chunks);
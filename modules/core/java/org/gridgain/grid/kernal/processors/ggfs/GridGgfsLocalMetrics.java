@@ -43,6 +43,12 @@ public class GridGgfsLocalMetrics {
     /** Byte writes. First value - total bytes written, second value - consumed time. */
     private volatile GridBiTuple<LongAdder, LongAdder> bytesWritten;
 
+    /** Pre-fetched blocks. First value - total pre-fetched blocks, second value - pre-fetched blocks read. */
+    private volatile GridBiTuple<LongAdder, LongAdder> blocksPrefetched;
+
+    /** Bytes of pre-fetched blocks which were discarded without being read. */
+    private volatile LongAdder bytesPrefetchWasted;
+
     /** Number of files opened for read. */
     private final LongAdder filesOpenedForRead = new LongAdder();
 
@@ -164,6 +170,48 @@ public class GridGgfsLocalMetrics {
         blocksWritten0.get2().add(secondary);
     }
 
+    /**
+     * @return Pre-fetched blocks.
+     */
+    long prefetchedBlocks() {
+        return blocksPrefetched.get1().longValue();
+    }
+
+    /**
+     * @return Pre-fetched blocks which were read.
+     */
+    long prefetchHits() {
+        return blocksPrefetched.get2().longValue();
+    }
+
+    /**
+     * @return Bytes of pre-fetched blocks discarded without being read.
+     */
+    long prefetchWastedBytes() {
+        return bytesPrefetchWasted.longValue();
+    }
+
+    /**
+     * @param cnt Number of blocks requested ahead of reads.
+     */
+    void addPrefetchedBlocks(int cnt) {
+        blocksPrefetched.get1().add(cnt);
+    }
+
+    /**
+     * @param cnt Number of pre-fetched blocks which were read.
+     */
+    void addPrefetchHits(int cnt) {
+        blocksPrefetched.get2().add(cnt);
+    }
+
+    /**
+     * @param bytes Bytes of pre-fetched blocks discarded without being read.
+     */
+    void addPrefetchWastedBytes(long bytes) {
+        bytesPrefetchWasted.add(bytes);
+    }
+
     /**
      * Increment files opened for read.
      */
@@ -214,5 +262,7 @@ public class GridGgfsLocalMetrics {
         blocksWritten = F.t(new LongAdder(), new LongAdder());
         bytesRead = F.t(new LongAdder(), new LongAdder());
         bytesWritten = F.t(new LongAdder(), new LongAdder());
+        blocksPrefetched = F.t(new LongAdder(), new LongAdder());
+        bytesPrefetchWasted = new LongAdder();
     }
 }
@@ -624,6 +624,70 @@ public class GridGgfsMetaManager extends GridGgfsManager {
         return null;
     }
 
+    /**
+     * Creates chain of nested directories under the given parent in a single transaction. Only the parent
+     * is locked: listings of the new directories are built before they are stored, so a deep tree is
+     * created with one lock and one batch update instead of a transaction per path component.
+     *
+     * @param parentId Parent directory ID.
+     * @param names Names of nested directories to create, starting from the parent's child.
+     * @param props Properties of created directories.
+     * @return Infos of created directories in path order or {@code null} if the first directory
+     *      already exists in parent's listing.
+     * @throws GridException If failed.
+     */
+    @Nullable public List<GridGgfsFileInfo> mkdirs(GridUuid parentId, List<String> names,
+        @Nullable Map<String, String> props) throws GridException {
+        assert validTxState(false);
+        assert parentId != null;
+        assert !F.isEmpty(names);
+
+        GridGgfsFileInfo[] dirs = new GridGgfsFileInfo[names.size()];
+
+        // Build directories from the deepest one, so that each directory already lists its child.
+        for (int i = dirs.length - 1; i >= 0; i--) {
+            GridGgfsFileInfo dir = new GridGgfsFileInfo(true, props);
+
+            if (i < dirs.length - 1)
+                dir = new GridGgfsFileInfo(Collections.singletonMap(names.get(i + 1),
+                    new GridGgfsListingEntry(dirs[i + 1])), dir);
+
+            dirs[i] = dir;
+        }
+
+        GridCacheTx tx = metaCache.txStart(PESSIMISTIC, REPEATABLE_READ);
+
+        try {
+            // Lock only parent file ID.
+            GridGgfsFileInfo parentInfo = info(parentId);
+
+            if (parentInfo == null)
+                throw new GridGgfsFileNotFoundException("Failed to lock parent directory (not found): " + parentId);
+
+            if (!parentInfo.isDirectory())
+                throw new GridGgfsInvalidPathException("Parent file is not a directory: " + parentInfo);
+
+            if (parentInfo.listing().containsKey(names.get(0)))
+                return null;
+
+            Map<GridUuid, GridGgfsFileInfo> infos = new HashMap<>(dirs.length);
+
+            for (GridGgfsFileInfo dir : dirs)
+                infos.put(dir.id(), dir);
+
+            id2InfoPrj.putAll(infos);
+
+            id2InfoPrj.transform(parentId, new UpdateListing(names.get(0), new GridGgfsListingEntry(dirs[0]), false));
+
+            tx.commit();
+        }
+        finally {
+            tx.close();
+        }
+
+        return Arrays.asList(dirs);
+    }
+
     /**
      * Move or rename file.
      *
@@ -77,6 +77,15 @@ public class GridGgfsMetricsAdapter implements GridGgfsMetrics, Externalizable {
     /** Total bytes write time. */
     private long bytesWriteTime;
 
+    /** Total blocks pre-fetched. */
+    private long blocksPrefetched;
+
+    /** Total pre-fetched blocks read. */
+    private long blocksPrefetchHits;
+
+    /** Total bytes of pre-fetched blocks discarded without being read. */
+    private long bytesPrefetchWasted;
+
     /**
      * {@link Externalizable} support.
      */
@@ -100,11 +109,14 @@ public class GridGgfsMetricsAdapter implements GridGgfsMetrics, Externalizable {
      * @param bytesReadTime Total bytes read time.
      * @param bytesWritten Total bytes written.
      * @param bytesWriteTime Total bytes write time.
+     * @param blocksPrefetched Total blocks pre-fetched.
+     * @param blocksPrefetchHits Total pre-fetched blocks read.
+     * @param bytesPrefetchWasted Total bytes of pre-fetched blocks discarded without being read.
      */
     public GridGgfsMetricsAdapter(long locSpaceSize, long maxSpaceSize, long secondarySpaceSize, int dirsCnt,
         int filesCnt, int filesOpenedForRead, int filesOpenedForWrite, long blocksReadTotal, long blocksReadRmt,
         long blocksWrittenTotal, long blocksWrittenRmt, long bytesRead, long bytesReadTime, long bytesWritten,
-        long bytesWriteTime) {
+        long bytesWriteTime, long blocksPrefetched, long blocksPrefetchHits, long bytesPrefetchWasted) {
         this.locSpaceSize = locSpaceSize;
         this.maxSpaceSize = maxSpaceSize;
         this.secondarySpaceSize = secondarySpaceSize;
@@ -120,6 +132,9 @@ public class GridGgfsMetricsAdapter implements GridGgfsMetrics, Externalizable {
         this.bytesReadTime = bytesReadTime;
         this.bytesWritten = bytesWritten;
         this.bytesWriteTime = bytesWriteTime;
+        this.blocksPrefetched = blocksPrefetched;
+        this.blocksPrefetchHits = blocksPrefetchHits;
+        this.bytesPrefetchWasted = bytesPrefetchWasted;
     }
 
     /** {@inheritDoc} */
@@ -197,6 +212,21 @@ public class GridGgfsMetricsAdapter implements GridGgfsMetrics, Externalizable {
         return bytesWriteTime;
     }
 
+    /** {@inheritDoc} */
+    @Override public long blocksPrefetched() {
+        return blocksPrefetched;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long blocksPrefetchHits() {
+        return blocksPrefetchHits;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long bytesPrefetchWasted() {
+        return bytesPrefetchWasted;
+    }
+
     /** {@inheritDoc} */
     @Override public void writeExternal(ObjectOutput out) throws IOException {
         out.writeLong(locSpaceSize);
@@ -214,6 +244,9 @@ public class GridGgfsMetricsAdapter implements GridGgfsMetrics, Externalizable {
         out.writeLong(bytesReadTime);
         out.writeLong(bytesWritten);
         out.writeLong(bytesWriteTime);
+        out.writeLong(blocksPrefetched);
+        out.writeLong(blocksPrefetchHits);
+        out.writeLong(bytesPrefetchWasted);
     }
 
     /** {@inheritDoc} */
@@ -233,6 +266,9 @@ public class GridGgfsMetricsAdapter implements GridGgfsMetrics, Externalizable {
         bytesReadTime = in.readLong();
         bytesWritten = in.readLong();
         bytesWriteTime = in.readLong();
+        blocksPrefetched = in.readLong();
+        blocksPrefetchHits = in.readLong();
+        bytesPrefetchWasted = in.readLong();
     }
 
     /** {@inheritDoc} */
@@ -71,6 +71,12 @@ public class GridJobProcessor extends GridProcessorAdapter {
     /** */
     private final ConcurrentMap<GridUuid, GridJobWorker> activeJobs;
 
+    /**
+     * Work-stealing pool for local jobs without collision and session requirements,
+     * {@code null} if fast path is disabled.
+     */
+    private final ForkJoinPool fastPool;
+
     /** */
     private final ConcurrentMap<GridUuid, GridJobWorker> passiveJobs;
 
@@ -176,6 +182,9 @@ public class GridJobProcessor extends GridProcessorAdapter {
 
         passiveJobs = jobAlwaysActivate ? null : new JobsMap(1024, 0.75f, 256);
 
+        fastPool = jobAlwaysActivate && Boolean.getBoolean(GG_JOBS_WORK_STEALING_POOL) ?
+            new ForkJoinPool(fastPoolSize(), new FastPoolThreadFactory(ctx.gridName()), null, true) : null;
+
         evtLsnr = new JobEventListener();
         cancelLsnr = new JobCancelListener();
         jobExecLsnr = new JobExecutionListener();
@@ -212,6 +221,8 @@ public class GridJobProcessor extends GridProcessorAdapter {
         cancelledJobs.clear();
         cancelReqs.clear();
 
+        U.shutdownNow(getClass(), fastPool, log);
+
         if (log.isDebugEnabled())
             log.debug("Job processor stopped.");
     }
@@ -258,6 +269,9 @@ public class GridJobProcessor extends GridProcessorAdapter {
         U.join(activeJobs.values(), log);
         U.join(cancelledJobs.values(), log);
 
+        if (fastPool != null)
+            fastPool.shutdown();
+
         // Ignore topology changes.
         ctx.event().removeLocalEventListener(discoLsnr);
 
@@ -897,12 +911,131 @@ public class GridJobProcessor extends GridProcessorAdapter {
         ctx.jobMetric().addSnapshot(m);
     }
 
+    /**
+     * Processes jobs of the same task sent in one batch. Deployment is resolved and job
+     * siblings are unmarshalled once for the whole batch. All jobs but the last one are
+     * executed in public pool, and collisions are handled once after all jobs are queued.
+     *
+     * @param nodeId Node ID.
+     * @param batch Batch request.
+     */
+    public void processJobExecuteBatchRequest(UUID nodeId, GridJobExecuteBatchRequest batch) {
+        if (log.isDebugEnabled())
+            log.debug("Received job batch request message [batch=" + batch + ", nodeId=" + nodeId + ']');
+
+        Collection<GridJobExecuteRequest> reqs = batch.requests();
+
+        GridJobExecuteRequest first = F.first(reqs);
+
+        GridDeployment dep;
+
+        rwLock.readLock();
+
+        try {
+            if (stopping) {
+                if (log.isDebugEnabled())
+                    log.debug("Received job batch request while stopping this node (will ignore): " + batch);
+
+                return;
+            }
+
+            dep = deployment(nodeId, first);
+        }
+        finally {
+            rwLock.readUnlock();
+        }
+
+        Collection<GridComputeJobSibling> siblings = null;
+
+        if (!first.isDynamicSiblings() && batch.siblingsBytes() != null) {
+            try {
+                siblings = marsh.unmarshal(batch.siblingsBytes(), null);
+            }
+            catch (GridException e) {
+                // Failure will be reported for each job.
+                if (log.isDebugEnabled())
+                    log.debug("Failed to unmarshal job siblings for batch: " + e);
+            }
+        }
+
+        int cnt = 0;
+
+        for (GridJobExecuteRequest req : reqs) {
+            if (siblings != null)
+                req.siblings(siblings);
+
+            // Passive jobs never run in the calling thread, so all of them are treated as batched.
+            processJobExecuteRequest(nodeId, req, dep, !jobAlwaysActivate || ++cnt < reqs.size());
+        }
+
+        if (!jobAlwaysActivate) {
+            rwLock.readLock();
+
+            try {
+                if (!stopping)
+                    handleCollisions();
+            }
+            finally {
+                rwLock.readUnlock();
+            }
+        }
+    }
+
     /**
      * @param nodeId Node ID.
      * @param req Request.
      */
+    public void processJobExecuteRequest(UUID nodeId, GridJobExecuteRequest req) {
+        processJobExecuteRequest(nodeId, req, null, false);
+    }
+
+    /**
+     * @param nodeId Sender node ID.
+     * @param req Request.
+     * @return Task deployment or {@code null} if task is not deployed.
+     */
+    @Nullable private GridDeployment deployment(UUID nodeId, GridJobExecuteRequest req) {
+        GridDeployment dep = req.isForceLocalDeployment() ?
+            ctx.deploy().getLocalDeployment(req.getTaskClassName()) :
+            ctx.deploy().getGlobalDeployment(
+                req.getDeploymentMode(),
+                req.getTaskName(),
+                req.getTaskClassName(),
+                req.getUserVersion(),
+                nodeId,
+                req.getClassLoaderId(),
+                req.getLoaderParticipants(),
+                null);
+
+        if (dep == null) {
+            if (log.isDebugEnabled())
+                log.debug("Checking local tasks...");
+
+            // Check local tasks.
+            for (Map.Entry<String, GridDeployment> d : ctx.task().getUsedDeploymentMap().entrySet()) {
+                if (d.getValue().classLoaderId().equals(req.getClassLoaderId())) {
+                    assert d.getValue().local();
+
+                    dep = d.getValue();
+
+                    break;
+                }
+            }
+        }
+
+        return dep;
+    }
+
+    /**
+     * @param nodeId Node ID.
+     * @param req Request.
+     * @param batchDep Deployment resolved for the whole batch or {@code null} if it should be resolved.
+     * @param batched {@code True} if job is never executed in the calling thread and collisions
+     *      are handled by the caller once for the whole batch.
+     */
     @SuppressWarnings("TooBroadScope")
-    public void processJobExecuteRequest(UUID nodeId, final GridJobExecuteRequest req) {
+    private void processJobExecuteRequest(UUID nodeId, final GridJobExecuteRequest req,
+        @Nullable GridDeployment batchDep, boolean batched) {
         if (log.isDebugEnabled())
             log.debug("Received job request message [req=" + req + ", nodeId=" + nodeId + ']');
 
@@ -924,35 +1057,7 @@ public class GridJobProcessor extends GridProcessorAdapter {
             if (endTime < 0)
                 endTime = Long.MAX_VALUE;
 
-            GridDeployment tmpDep = req.isForceLocalDeployment() ?
-                ctx.deploy().getLocalDeployment(req.getTaskClassName()) :
-                ctx.deploy().getGlobalDeployment(
-                    req.getDeploymentMode(),
-                    req.getTaskName(),
-                    req.getTaskClassName(),
-                    req.getUserVersion(),
-                    nodeId,
-                    req.getClassLoaderId(),
-                    req.getLoaderParticipants(),
-                    null);
-
-            if (tmpDep == null) {
-                if (log.isDebugEnabled())
-                    log.debug("Checking local tasks...");
-
-                // Check local tasks.
-                for (Map.Entry<String, GridDeployment> d : ctx.task().getUsedDeploymentMap().entrySet()) {
-                    if (d.getValue().classLoaderId().equals(req.getClassLoaderId())) {
-                        assert d.getValue().local();
-
-                        tmpDep = d.getValue();
-
-                        break;
-                    }
-                }
-            }
-
-            final GridDeployment dep = tmpDep;
+            final GridDeployment dep = batchDep != null ? batchDep : deployment(nodeId, req);
 
             if (log.isDebugEnabled())
                 log.debug("Deployment: " + dep);
@@ -1058,9 +1163,12 @@ public class GridJobProcessor extends GridProcessorAdapter {
                         }
                         else if (jobAlwaysActivate) {
                             if (onBeforeActivateJob(job)) {
-                                if (ctx.localNodeId().equals(nodeId)) {
-                                    // Always execute in another thread for local node.
-                                    executeAsync(job);
+                                boolean loc = ctx.localNodeId().equals(nodeId);
+
+                                if (loc || batched) {
+                                    // Always execute in another thread for local node and batched jobs.
+                                    // Local jobs without session requirements may go to work-stealing pool.
+                                    executeAsync(job, loc && fastPool != null && !req.isSessionFullSupport());
 
                                     // No sync execution.
                                     job = null;
@@ -1077,8 +1185,11 @@ public class GridJobProcessor extends GridProcessorAdapter {
                         else {
                             GridJobWorker old = passiveJobs.putIfAbsent(job.getJobId(), job);
 
-                            if (old == null)
-                                handleCollisions();
+                            if (old == null) {
+                                // Collisions for batched jobs are handled once for the whole batch.
+                                if (!batched)
+                                    handleCollisions();
+                            }
                             else
                                 U.error(log, "Received computation request with duplicate job ID (could be " +
                                     "network malfunction, source node may hang if task timeout was not set) " +
@@ -1171,13 +1282,31 @@ public class GridJobProcessor extends GridProcessorAdapter {
         return true;
     }
 
+    /**
+     * Gets size of work-stealing pool. Jobs may block (e.g. wait for results of other jobs), so pool
+     * is sized as public executor service rather than by number of CPUs, otherwise blocked jobs
+     * could take all workers while jobs they wait for are queued in the same pool.
+     *
+     * @return Work-stealing pool size.
+     */
+    private int fastPoolSize() {
+        ExecutorService execSvc = ctx.config().getExecutorService();
+
+        return execSvc instanceof ThreadPoolExecutor ? ((ThreadPoolExecutor)execSvc).getMaximumPoolSize() :
+            GridConfiguration.DFLT_PUBLIC_MAX_THREAD_CNT;
+    }
+
     /**
      * @param jobWorker Job worker.
+     * @param fast If {@code true}, job is submitted to work-stealing pool instead of public executor service.
      * @return {@code True} if job has been submitted to pool.
      */
-    private boolean executeAsync(GridJobWorker jobWorker) {
+    private boolean executeAsync(GridJobWorker jobWorker, boolean fast) {
         try {
-            ctx.config().getExecutorService().execute(jobWorker);
+            if (fast)
+                fastPool.execute(jobWorker);
+            else
+                ctx.config().getExecutorService().execute(jobWorker);
 
             if (metricsUpdateFreq > -1L)
                 startedJobsCnt.increment();
@@ -1389,6 +1518,7 @@ public class GridJobProcessor extends GridProcessorAdapter {
         X.println(">>> Job processor memory stats [grid=" + ctx.gridName() + ']');
         X.println(">>>   activeJobsSize: " + activeJobs.size());
         X.println(">>>   passiveJobsSize: " + (jobAlwaysActivate ? "n/a" : passiveJobs.size()));
+        X.println(">>>   stealingPoolQueueSize: " + (fastPool == null ? "n/a" : fastPool.getQueuedTaskCount()));
         X.println(">>>   cancelledJobsSize: " + cancelledJobs.size());
         X.println(">>>   cancelReqsSize: " + cancelReqs.sizex());
         X.println(">>>   finishedJobsSize: " + finishedJobs.sizex());
@@ -1420,7 +1550,7 @@ public class GridJobProcessor extends GridProcessorAdapter {
 
             return passiveJobs.remove(jobWorker.getJobId(), jobWorker) &&
                 onBeforeActivateJob(jobWorker) &&
-                executeAsync(jobWorker);
+                executeAsync(jobWorker, false);
         }
 
         /** {@inheritDoc} */
@@ -1677,7 +1807,10 @@ public class GridJobProcessor extends GridProcessorAdapter {
                 return;
             }
 
-            processJobExecuteRequest(nodeId, (GridJobExecuteRequest)msg);
+            if (msg instanceof GridJobExecuteBatchRequest)
+                processJobExecuteBatchRequest(nodeId, (GridJobExecuteBatchRequest)msg);
+            else
+                processJobExecuteRequest(nodeId, (GridJobExecuteRequest)msg);
         }
     }
 
@@ -1823,4 +1956,31 @@ public class GridJobProcessor extends GridProcessorAdapter {
             return sizex();
         }
     }
+
+    /**
+     * Thread factory for work-stealing jobs pool.
+     */
+    private static class FastPoolThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+        /** Grid name. */
+        private final String gridName;
+
+        /** Thread index generator. */
+        private final AtomicInteger idxGen = new AtomicInteger();
+
+        /**
+         * @param gridName Grid name.
+         */
+        private FastPoolThreadFactory(@Nullable String gridName) {
+            this.gridName = gridName;
+        }
+
+        /** {@inheritDoc} */
+        @Override public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+
+            t.setName("gridgain-job-stealing-#" + idxGen.incrementAndGet() + '%' + gridName + '%');
+
+            return t;
+        }
+    }
 }
@@ -29,6 +29,7 @@ import org.gridgain.grid.kernal.*;
 import org.gridgain.grid.kernal.managers.communication.*;
 import org.gridgain.grid.kernal.managers.deployment.*;
 import org.gridgain.grid.kernal.managers.eventstorage.*;
+import org.gridgain.grid.kernal.processors.timeout.*;
 import org.gridgain.grid.logger.*;
 import org.gridgain.grid.streamer.*;
 import org.gridgain.grid.streamer.router.*;
@@ -142,6 +143,10 @@ public class GridStreamerImpl implements GridStreamerEx, Externalizable {
     /** Window lock. */
     private final GridSpinReadWriteLock winLock = new GridSpinReadWriteLock();
 
+    /** Micro-batches collecting events per stage. */
+    @GridToStringExclude
+    private final ConcurrentMap<String, MicroBatch> microBatches = new ConcurrentHashMap8<>();
+
     /**
      * Empty constructor required by {@link Externalizable}.
      */
@@ -192,6 +197,11 @@ public class GridStreamerImpl implements GridStreamerEx, Externalizable {
             throw new GridException("Streamer should have at least one window configured " +
                 "(fix configuration and restart): " + name);
 
+        if (c.getMicroBatchSize() > 0 && c.getMicroBatchLatency() <= 0)
+            throw new GridException("Streamer micro-batch latency should be positive if micro-batching is enabled " +
+                "(fix configuration and restart) [streamer=" + name + ", microBatchSize=" + c.getMicroBatchSize() +
+                ", microBatchLatency=" + c.getMicroBatchLatency() + ']');
+
         prepareResources();
 
         U.startLifecycleAware(lifecycleAwares());
@@ -319,6 +329,26 @@ public class GridStreamerImpl implements GridStreamerEx, Externalizable {
      * @param cancel Cancel.
      */
     public void onKernalStop(boolean cancel) {
+        // Submit or discard events collected in micro-batches.
+        for (MicroBatch batch : microBatches.values()) {
+            if (!batch.close())
+                continue; // Submitted concurrently.
+
+            microBatches.remove(batch.stageName, batch);
+
+            ctx.timeout().removeTimeoutObject(batch);
+
+            if (!cancel) {
+                try {
+                    batch.submit();
+                }
+                catch (GridException e) {
+                    U.warn(log, "Failed to submit micro-batch on node stop (will ignore) [batch=" + batch +
+                        ", err=" + e + ']');
+                }
+            }
+        }
+
         // No further requests will be processed neither locally nor remotely.
         lock.writeLock();
 
@@ -455,13 +485,64 @@ public class GridStreamerImpl implements GridStreamerEx, Externalizable {
         ctx.gateway().readLock();
 
         try {
-            addEvents0(null, 0, U.currentTimeMillis(), null, Collections.singleton(ctx.localNodeId()), stageName, evts);
+            if (c.getMicroBatchSize() > 0) {
+                // Errors that would not be reported to caller once events are batched.
+                if (!stages.containsKey(stageName))
+                    throw new GridException("Failed to add events to streamer (stage was not found) [streamer=" +
+                        name + ", stageName=" + stageName + ']');
+
+                addToMicroBatch(stageName, evts);
+            }
+            else
+                addEvents0(null, 0, U.currentTimeMillis(), null, Collections.singleton(ctx.localNodeId()), stageName,
+                    evts);
         }
         finally {
             ctx.gateway().readUnlock();
         }
     }
 
+    /**
+     * Adds events to current micro-batch of the stage, submitting it if it is full. Submission
+     * failures are reported to failure listeners, same as for batches submitted on timeout.
+     *
+     * @param stageName Stage name.
+     * @param evts Events.
+     */
+    private void addToMicroBatch(String stageName, Collection<?> evts) {
+        while (true) {
+            MicroBatch batch = microBatches.get(stageName);
+
+            if (batch == null) {
+                MicroBatch old = microBatches.putIfAbsent(stageName, batch = new MicroBatch(stageName));
+
+                if (old != null)
+                    batch = old;
+                else
+                    ctx.timeout().addTimeoutObject(batch);
+            }
+
+            int res = batch.add(evts);
+
+            if (res < 0) {
+                // Batch was concurrently submitted, retry with the next one.
+                microBatches.remove(stageName, batch);
+
+                continue;
+            }
+
+            if (res >= c.getMicroBatchSize() && batch.close()) {
+                microBatches.remove(stageName, batch);
+
+                ctx.timeout().removeTimeoutObject(batch);
+
+                batch.submitSafe();
+            }
+
+            return;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public GridStreamerContext context() {
         return streamerCtx;
@@ -1224,6 +1305,125 @@ public class GridStreamerImpl implements GridStreamerEx, Externalizable {
         }
     }
 
+    /**
+     * Events collected for a stage within micro-batch latency.
+     */
+    private class MicroBatch implements GridTimeoutObject {
+        /** */
+        private final GridUuid timeoutId = GridUuid.randomUuid();
+
+        /** Time when the first event was added. */
+        private final long startTime = U.currentTimeMillis();
+
+        /** */
+        private final long endTime = startTime + c.getMicroBatchLatency();
+
+        /** Stage name. */
+        private final String stageName;
+
+        /** Events, guarded by batch monitor until batch is closed. */
+        @GridToStringExclude
+        private final Collection<Object> evts = new ArrayList<>();
+
+        /** Whether batch is closed for new events and is submitted or about to be. */
+        private boolean closed;
+
+        /**
+         * @param stageName Stage name.
+         */
+        private MicroBatch(String stageName) {
+            this.stageName = stageName;
+        }
+
+        /** {@inheritDoc} */
+        @Override public GridUuid timeoutId() {
+            return timeoutId;
+        }
+
+        /** {@inheritDoc} */
+        @Override public long endTime() {
+            return endTime;
+        }
+
+        /**
+         * @param evts Events to add.
+         * @return Batch size after events were added or {@code -1} if batch is already closed.
+         */
+        synchronized int add(Collection<?> evts) {
+            if (closed)
+                return -1;
+
+            this.evts.addAll(evts);
+
+            return this.evts.size();
+        }
+
+        /**
+         * Closes batch for new events. Only one thread succeeds and is responsible for submission.
+         *
+         * @return {@code True} if batch was closed by this call.
+         */
+        synchronized boolean close() {
+            if (closed)
+                return false;
+
+            closed = true;
+
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void onTimeout() {
+            if (!close())
+                return; // Submitted because of size.
+
+            microBatches.remove(stageName, this);
+
+            // Submission may block on sessions semaphore, which is released by messages processed
+            // in system pool, so batch is submitted in public pool rather than in timeout thread
+            // or system pool.
+            ctx.closure().runLocalSafe(new GPR() {
+                @Override public void run() {
+                    submitSafe();
+                }
+            }, false);
+        }
+
+        /**
+         * Submits batch reporting failure to failure listeners.
+         */
+        void submitSafe() {
+            try {
+                submit();
+            }
+            catch (GridException e) {
+                U.error(log, "Failed to submit streamer micro-batch: " + this, e);
+
+                notifyFailure(stageName, evts, e);
+            }
+        }
+
+        /**
+         * Routes and submits collected events as a single execution.
+         *
+         * @throws GridException If failed.
+         */
+        void submit() throws GridException {
+            GridStreamerStageWrapper wrapper = stages.get(stageName);
+
+            if (wrapper != null)
+                streamerMetrics.onStageMicroBatchSubmitted(wrapper.index(), U.currentTimeMillis() - startTime);
+
+            addEvents0(null, 0, U.currentTimeMillis(), null, Collections.singleton(ctx.localNodeId()), stageName,
+                evts);
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(MicroBatch.class, this, "size", evts.size());
+        }
+    }
+
     /**
      * Stage batch worker.
      */
@@ -1280,7 +1480,7 @@ public class GridStreamerImpl implements GridStreamerEx, Externalizable {
             try {
                 long start = U.currentTimeMillis();
 
-                streamerHolder.onStageExecutionStarted(stageWrapper.index(), start - schedTs);
+                streamerHolder.onStageExecutionStarted(stageWrapper.index(), start - schedTs, batch.events().size());
 
                 long end = 0;
 
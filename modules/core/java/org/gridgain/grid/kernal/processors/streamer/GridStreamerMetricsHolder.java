@@ -303,15 +303,16 @@ public class GridStreamerMetricsHolder implements GridStreamerMetrics {
      *
      * @param idx Stage index.
      * @param waitTime Stage wait time.
+     * @param batchSize Number of events to process.
      */
-    public void onStageExecutionStarted(int idx, long waitTime) {
+    public void onStageExecutionStarted(int idx, long waitTime, int batchSize) {
         if (waitTime < 0)
             waitTime = 0;
 
         stageActiveCnt.increment();
         stageWaitingCnt.decrement();
 
-        stageMetrics[idx].onExecutionStarted(waitTime);
+        stageMetrics[idx].onExecutionStarted(waitTime, batchSize);
 
         sampleCurrentStages();
     }
@@ -402,6 +403,16 @@ public class GridStreamerMetricsHolder implements GridStreamerMetrics {
         failuresCnt.increment();
     }
 
+    /**
+     * Micro-batch submitted callback.
+     *
+     * @param idx Stage index.
+     * @param delay Time passed since the first event was added to micro-batch.
+     */
+    public void onStageMicroBatchSubmitted(int idx, long delay) {
+        stageMetrics[idx].onMicroBatchSubmitted(delay);
+    }
+
     /**
      * Stage failure callback.
      *
@@ -90,6 +90,26 @@ public class GridStreamerStageMBeanAdapter implements GridStreamerStageMBean {
         return streamer.metrics().stageMetrics(stageName).averageWaitingTime();
     }
 
+    /** {@inheritDoc} */
+    @Override public int getMaximumBatchSize() {
+        return streamer.metrics().stageMetrics(stageName).maximumBatchSize();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getAverageBatchSize() {
+        return streamer.metrics().stageMetrics(stageName).averageBatchSize();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long getMaximumQueueingDelay() {
+        return streamer.metrics().stageMetrics(stageName).maximumQueueingDelay();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long getAverageQueueingDelay() {
+        return streamer.metrics().stageMetrics(stageName).averageQueueingDelay();
+    }
+
     /** {@inheritDoc} */
     @Override public long getTotalExecutionCount() {
         return streamer.metrics().stageMetrics(stageName).totalExecutionCount();
@@ -51,6 +51,18 @@ public class GridStreamerStageMetricsAdapter implements GridStreamerStageMetrics
     /** */
     private long avgWaitTime;
 
+    /** */
+    private int maxBatchSize;
+
+    /** */
+    private int avgBatchSize;
+
+    /** */
+    private long maxQueueDelay;
+
+    /** */
+    private long avgQueueDelay;
+
     /** */
     private long totalExecCnt;
 
@@ -72,11 +84,15 @@ public class GridStreamerStageMetricsAdapter implements GridStreamerStageMetrics
      */
     public GridStreamerStageMetricsAdapter(GridStreamerStageMetrics metrics) {
         // Preserve alphabetic order for maintenance.
+        avgBatchSize = metrics.averageBatchSize();
         avgExecTime = metrics.averageExecutionTime();
+        avgQueueDelay = metrics.averageQueueingDelay();
         avgWaitTime = metrics.averageWaitingTime();
         executing = metrics.executing();
         failuresCnt = metrics.failuresCount();
+        maxBatchSize = metrics.maximumBatchSize();
         maxExecTime = metrics.maximumExecutionTime();
+        maxQueueDelay = metrics.maximumQueueingDelay();
         maxWaitTime = metrics.maximumWaitingTime();
         minExecTime = metrics.minimumExecutionTime();
         minWaitTime = metrics.minimumWaitingTime();
@@ -124,6 +140,26 @@ public class GridStreamerStageMetricsAdapter implements GridStreamerStageMetrics
         return avgWaitTime;
     }
 
+    /** {@inheritDoc} */
+    @Override public int maximumBatchSize() {
+        return maxBatchSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int averageBatchSize() {
+        return avgBatchSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long maximumQueueingDelay() {
+        return maxQueueDelay;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long averageQueueingDelay() {
+        return avgQueueDelay;
+    }
+
     /** {@inheritDoc} */
     @Override public int failuresCount() {
         return failuresCnt;
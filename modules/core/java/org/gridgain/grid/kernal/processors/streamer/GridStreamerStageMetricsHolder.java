@@ -52,6 +52,21 @@ public class GridStreamerStageMetricsHolder implements GridStreamerStageMetrics
     /** Stage average waiting time sum. */
     private LongAdder sumWaitTime = new LongAdder();
 
+    /** Maximum number of events processed by single execution. */
+    private GridAtomicInteger maxBatchSize = new GridAtomicInteger();
+
+    /** Sum of events processed by all executions. */
+    private LongAdder sumBatchSize = new LongAdder();
+
+    /** Maximum micro-batch queueing delay. */
+    private GridAtomicLong maxQueueDelay = new GridAtomicLong();
+
+    /** Sum of micro-batch queueing delays. */
+    private LongAdder sumQueueDelay = new LongAdder();
+
+    /** Number of micro-batches submitted to this stage. */
+    private LongAdder microBatchCnt = new LongAdder();
+
     /** Total number of times this stage was executed. */
     private LongAdder totalExecCnt = new LongAdder();
 
@@ -115,6 +130,30 @@ public class GridStreamerStageMetricsHolder implements GridStreamerStageMetrics
         return execs == 0 ? 0 : waitTime / execs;
     }
 
+    /** {@inheritDoc} */
+    @Override public int maximumBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int averageBatchSize() {
+        long execs = totalExecCnt.sum();
+
+        return execs == 0 ? 0 : (int)(sumBatchSize.sum() / execs);
+    }
+
+    /** {@inheritDoc} */
+    @Override public long maximumQueueingDelay() {
+        return maxQueueDelay.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long averageQueueingDelay() {
+        long batches = microBatchCnt.sum();
+
+        return batches == 0 ? 0 : sumQueueDelay.sum() / batches;
+    }
+
     /** {@inheritDoc} */
     @Override public long totalExecutionCount() {
         return totalExecCnt.longValue();
@@ -134,13 +173,17 @@ public class GridStreamerStageMetricsHolder implements GridStreamerStageMetrics
      * Execution started callback.
      *
      * @param waitTime Wait time.
+     * @param batchSize Number of events to process.
      */
-    public void onExecutionStarted(long waitTime) {
+    public void onExecutionStarted(long waitTime, int batchSize) {
         if (waitTime < 0)
             waitTime = 0;
 
         curActive.increment();
 
+        maxBatchSize.setIfGreater(batchSize);
+        sumBatchSize.add(batchSize);
+
         maxWaitTime.setIfGreater(waitTime);
         minWaitTime.setIfLess(waitTime);
         sumWaitTime.add(waitTime);
@@ -164,6 +207,21 @@ public class GridStreamerStageMetricsHolder implements GridStreamerStageMetrics
         totalExecCnt.increment();
     }
 
+    /**
+     * Micro-batch submitted callback.
+     *
+     * @param delay Time passed since the first event was added to micro-batch.
+     */
+    public void onMicroBatchSubmitted(long delay) {
+        if (delay < 0)
+            delay = 0;
+
+        maxQueueDelay.setIfGreater(delay);
+        sumQueueDelay.add(delay);
+
+        microBatchCnt.increment();
+    }
+
     /**
      * Failure callback.
      */
@@ -44,6 +44,7 @@ import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
 
+import static org.gridgain.grid.GridSystemProperties.*;
 import static org.gridgain.grid.compute.GridComputeJobResultPolicy.*;
 import static org.gridgain.grid.events.GridEventType.*;
 import static org.gridgain.grid.kernal.GridTopic.*;
@@ -59,6 +60,12 @@ class GridTaskWorker<T, R> extends GridWorker implements GridTimeoutObject {
     /** Split size threshold. */
     private static final int SPLIT_WARN_THRESHOLD = 1000;
 
+    /** Maximum number of jobs sent to the same node in one batch request. */
+    private static final int MAX_JOB_BATCH_SIZE = 512;
+
+    /** Whether delayed responses hold back message processing completion. */
+    private static final boolean RESP_BACK_PRESSURE = Boolean.getBoolean(GG_TASK_RESPONSE_BACK_PRESSURE);
+
     /** {@code True} for internal tasks. */
     private boolean internal;
 
@@ -511,10 +518,31 @@ class GridTaskWorker<T, R> extends GridWorker implements GridTimeoutObject {
         // Set mapped flag.
         fut.onMapped();
 
-        // Send out all remote mappedJobs.
+        // Send out all remote mappedJobs, jobs mapped to the same remote node are batched.
+        Map<UUID, List<GridJobResultImpl>> batches = null;
+
         for (GridJobResultImpl res : jobResList) {
             evtLsnr.onJobSend(this, res.getSibling());
 
+            if (jobResList.size() > 1 && !isLocal(res.getNode())) {
+                if (batches == null)
+                    batches = new LinkedHashMap<>();
+
+                UUID nodeId = res.getNode().id();
+
+                List<GridJobResultImpl> batch = batches.get(nodeId);
+
+                if (batch == null)
+                    batches.put(nodeId, batch = new ArrayList<>());
+
+                batch.add(res);
+
+                if (batch.size() == MAX_JOB_BATCH_SIZE)
+                    sendBatch(batches.remove(nodeId));
+
+                continue;
+            }
+
             try {
                 sendRequest(res);
             }
@@ -526,6 +554,11 @@ class GridTaskWorker<T, R> extends GridWorker implements GridTimeoutObject {
             }
         }
 
+        if (batches != null) {
+            for (List<GridJobResultImpl> batch : batches.values())
+                sendBatch(batch);
+        }
+
         processDelayedResponses();
     }
 
@@ -586,6 +619,9 @@ class GridTaskWorker<T, R> extends GridWorker implements GridTimeoutObject {
             // job response was changed in this method apply.
             boolean selfOccupied = false;
 
+            // Flag indicating whether response was put to delayed queue.
+            boolean delayed = false;
+
             try {
                 synchronized (mux) {
                     // If task is not waiting for responses,
@@ -636,13 +672,17 @@ class GridTaskWorker<T, R> extends GridWorker implements GridTimeoutObject {
                             log.debug("Adding response to delayed queue (job is either being sent or processing " +
                                 "another response): " + res);
 
-                        delayedRess.offer(res);
+                        delayResponse(res);
+
+                        delayed = true;
 
                         return;
                     }
 
                     if (lockRespProc) {
-                        delayedRess.offer(res);
+                        delayResponse(res);
+
+                        delayed = true;
 
                         return;
                     }
@@ -667,15 +707,17 @@ class GridTaskWorker<T, R> extends GridWorker implements GridTimeoutObject {
                     try {
                         boolean loc = ctx.localNodeId().equals(res.getNodeId()) && !ctx.config().isMarshalLocalJobs();
 
-                        Object res0 = loc ? res.getJobResult() : marsh.unmarshal(res.getJobResultBytes(), clsLdr);
-
                         GridException ex = loc ? res.getException() :
                             marsh.<GridException>unmarshal(res.getExceptionBytes(), clsLdr);
 
                         Map<Object, Object> attrs = loc ? res.getJobAttributes() :
                             marsh.<Map<Object, Object>>unmarshal(res.getJobAttributesBytes(), clsLdr);
 
-                        jobRes.onResponse(res0, ex, attrs, res.isCancelled());
+                        // Remote job result is unmarshalled lazily on first access.
+                        if (loc)
+                            jobRes.onResponse(res.getJobResult(), ex, attrs, res.isCancelled());
+                        else
+                            jobRes.onResponse(res.getJobResultBytes(), marsh, clsLdr, ex, attrs, res.isCancelled());
 
                         if (loc)
                             ctx.resource().invokeAnnotated(dep, jobRes.getJob(), GridComputeJobAfterSend.class);
@@ -687,6 +729,8 @@ class GridTaskWorker<T, R> extends GridWorker implements GridTimeoutObject {
                     }
                 }
 
+                ctx.loadBalancing().onJobResult(ses, jobRes);
+
                 List<GridComputeJobResult> results;
 
                 if (!resCache)
@@ -773,6 +817,10 @@ class GridTaskWorker<T, R> extends GridWorker implements GridTimeoutObject {
                 finishTask(null, e);
             }
             finally {
+                // Response is either processed or ignored by now.
+                if (!delayed)
+                    res.onProcessed();
+
                 // Open up job for processing responses.
                 // Only unset occupied flag, if it was
                 // set in this method.
@@ -792,6 +840,20 @@ class GridTaskWorker<T, R> extends GridWorker implements GridTimeoutObject {
         }
     }
 
+    /**
+     * Puts response to delayed queue. If response back-pressure is enabled, processing of the message
+     * that is handled by current thread is completed only after the response is processed, so that
+     * sending nodes are throttled by communication SPI once message queue limit is reached.
+     *
+     * @param res Job execution response.
+     */
+    private void delayResponse(GridJobExecuteResponse res) {
+        if (RESP_BACK_PRESSURE && !res.hasProcessedCallback())
+            res.processedCallback(ctx.io().detachMessageCompletion());
+
+        delayedRess.offer(res);
+    }
+
     /**
      * @param jobRes Job result.
      * @param results Existing job results.
@@ -1108,40 +1170,14 @@ class GridTaskWorker<T, R> extends GridWorker implements GridTimeoutObject {
                     ses.getEndTime() - U.currentTimeMillis();
 
                 if (timeout > 0) {
-                    boolean loc = node.id().equals(ctx.discovery().localNode().id()) &&
-                        !ctx.config().isMarshalLocalJobs();
+                    boolean loc = isLocal(node);
 
                     Map<Object, Object> sesAttrs = ses.isFullSupport() ? ses.getAttributes() : null;
-                    Map<? extends Serializable, ? extends Serializable> jobAttrs =
-                        (Map<? extends Serializable, ? extends Serializable>)res.getJobContext().getAttributes();
-
-                    boolean forceLocDep = internal || !ctx.deploy().enabled();
-
-                    req = new GridJobExecuteRequest(
-                        ses.getId(),
-                        res.getJobContext().getJobId(),
-                        ses.getTaskName(),
-                        ses.getUserVersion(),
-                        ses.getTaskClassName(),
-                        loc ? null : marsh.marshal(res.getJob()),
-                        loc ? res.getJob() : null,
-                        ses.getStartTime(),
-                        timeout,
-                        ses.getTopology(),
+
+                    req = createRequest(res, loc, timeout,
                         loc ? null : marsh.marshal(ses.getJobSiblings()),
-                        loc ? ses.getJobSiblings() : null,
-                        loc ? null : marsh.marshal(sesAttrs),
-                        loc ? sesAttrs : null,
-                        loc ? null: marsh.marshal(jobAttrs),
-                        loc ? jobAttrs : null,
-                        ses.getCheckpointSpi(),
-                        dep.classLoaderId(),
-                        dep.deployMode(),
-                        continuous,
-                        dep.participants(),
-                        forceLocDep,
-                        ses.isFullSupport(),
-                        internal);
+                        sesAttrs,
+                        loc ? null : marsh.marshal(sesAttrs));
 
                     if (loc)
                         ctx.job().processJobExecuteRequest(ctx.localNodeId(), req);
@@ -1161,29 +1197,163 @@ class GridTaskWorker<T, R> extends GridWorker implements GridTimeoutObject {
             }
         }
         catch (GridException e) {
-            boolean deadNode = isDeadNode(res.getNode().id());
+            onSendFailed(res, req, e);
+        }
+    }
 
-            // Avoid stack trace if node has left grid.
-            if (deadNode)
-                U.warn(log, "Failed to send job request because remote node left grid (if failover is enabled, " +
-                    "will attempt fail-over to another node) [node=" + node + ", taskName=" + ses.getTaskName() +
-                    ", taskSesId=" + ses.getId() + ", jobSesId=" + res.getJobContext().getJobId() + ']');
-            else
-                U.error(log, "Failed to send job request: " + req, e);
+    /**
+     * Sends requests for jobs mapped to the same remote node in one batch. Job siblings
+     * and session attributes are marshalled only once for the whole batch.
+     *
+     * @param batch Job results mapped to the same node.
+     */
+    private void sendBatch(List<GridJobResultImpl> batch) {
+        assert !batch.isEmpty();
 
-            GridJobExecuteResponse fakeRes = new GridJobExecuteResponse(node.id(), ses.getId(),
-                res.getJobContext().getJobId(), null, null, null, null, null, null, false);
+        try {
+            GridNode node = F.first(batch).getNode();
 
-            if (deadNode)
-                fakeRes.setFakeException(new GridTopologyException("Failed to send job due to node failure: " +
-                    node, e));
-            else
-                fakeRes.setFakeException(e);
+            long timeout = ses.getEndTime() == Long.MAX_VALUE ? Long.MAX_VALUE :
+                ses.getEndTime() - U.currentTimeMillis();
+
+            if (batch.size() == 1 || timeout <= 0 || ctx.discovery().node(node.id()) == null) {
+                // Node failure and timeout are handled on per-job basis.
+                for (GridJobResultImpl res : batch)
+                    sendRequest(res);
+
+                return;
+            }
+
+            GridJobExecuteBatchRequest req = null;
+
+            try {
+                Map<Object, Object> sesAttrs = ses.isFullSupport() ? ses.getAttributes() : null;
+
+                byte[] sibsBytes = marsh.marshal(ses.getJobSiblings());
+                byte[] sesAttrsBytes = marsh.marshal(sesAttrs);
 
-            onResponse(fakeRes);
+                Collection<GridJobExecuteRequest> reqs = new ArrayList<>(batch.size());
+
+                for (GridJobResultImpl res : batch)
+                    reqs.add(createRequest(res, false, timeout, sibsBytes, sesAttrs, sesAttrsBytes));
+
+                req = new GridJobExecuteBatchRequest(reqs);
+
+                ctx.io().send(node, TOPIC_JOB, req, internal ? MANAGEMENT_POOL : PUBLIC_POOL);
+
+                if (log.isDebugEnabled())
+                    log.debug("Sent job batch request [req=" + req + ", node=" + node + ']');
+            }
+            catch (GridException e) {
+                for (GridJobResultImpl res : batch)
+                    onSendFailed(res, req, e);
+
+                return;
+            }
+
+            for (GridJobResultImpl res : batch) {
+                try {
+                    ctx.resource().invokeAnnotated(dep, res.getJob(), GridComputeJobAfterSend.class);
+                }
+                catch (GridException e) {
+                    onSendFailed(res, req, e);
+                }
+            }
+        }
+        finally {
+            // Open jobs for processing results.
+            synchronized (mux) {
+                for (GridJobResultImpl res : batch)
+                    res.setOccupied(false);
+            }
         }
     }
 
+    /**
+     * @param res Job result.
+     * @param loc Whether job is executed on local node without marshalling.
+     * @param timeout Job timeout.
+     * @param sibsBytes Serialized job siblings, {@code null} for local job.
+     * @param sesAttrs Session attributes.
+     * @param sesAttrsBytes Serialized session attributes, {@code null} for local job.
+     * @return Job execution request.
+     * @throws GridException If job or job attributes could not be marshalled.
+     */
+    private GridJobExecuteRequest createRequest(GridComputeJobResult res, boolean loc, long timeout,
+        @Nullable byte[] sibsBytes, @Nullable Map<Object, Object> sesAttrs, @Nullable byte[] sesAttrsBytes)
+        throws GridException {
+        Map<? extends Serializable, ? extends Serializable> jobAttrs =
+            (Map<? extends Serializable, ? extends Serializable>)res.getJobContext().getAttributes();
+
+        boolean forceLocDep = internal || !ctx.deploy().enabled();
+
+        return new GridJobExecuteRequest(
+            ses.getId(),
+            res.getJobContext().getJobId(),
+            ses.getTaskName(),
+            ses.getUserVersion(),
+            ses.getTaskClassName(),
+            loc ? null : marsh.marshal(res.getJob()),
+            loc ? res.getJob() : null,
+            ses.getStartTime(),
+            timeout,
+            ses.getTopology(),
+            sibsBytes,
+            loc ? ses.getJobSiblings() : null,
+            sesAttrsBytes,
+            loc ? sesAttrs : null,
+            loc ? null: marsh.marshal(jobAttrs),
+            loc ? jobAttrs : null,
+            ses.getCheckpointSpi(),
+            dep.classLoaderId(),
+            dep.deployMode(),
+            continuous,
+            dep.participants(),
+            forceLocDep,
+            ses.isFullSupport(),
+            internal);
+    }
+
+    /**
+     * @param node Node.
+     * @return {@code True} if jobs for this node are executed locally without marshalling.
+     */
+    private boolean isLocal(GridNode node) {
+        return node.id().equals(ctx.discovery().localNode().id()) && !ctx.config().isMarshalLocalJobs();
+    }
+
+    /**
+     * Handles job request send failure by emulating failed response.
+     *
+     * @param res Job result.
+     * @param req Failed request.
+     * @param e Send error.
+     */
+    private void onSendFailed(GridComputeJobResult res, @Nullable Object req, GridException e) {
+        GridNode node = res.getNode();
+
+        boolean deadNode = isDeadNode(node.id());
+
+        // Avoid stack trace if node has left grid.
+        if (deadNode)
+            U.warn(log, "Failed to send job request because remote node left grid (if failover is enabled, " +
+                "will attempt fail-over to another node) [node=" + node + ", taskName=" + ses.getTaskName() +
+                ", taskSesId=" + ses.getId() + ", jobSesId=" + res.getJobContext().getJobId() + ']');
+        else
+            U.error(log, "Failed to send job request: " + req, e);
+
+        GridJobExecuteResponse fakeRes = new GridJobExecuteResponse(node.id(), ses.getId(),
+            res.getJobContext().getJobId(), null, null, null, null, null, null, false);
+
+        if (deadNode)
+            fakeRes.setFakeException(new GridTopologyException("Failed to send job due to node failure: " +
+                node, e));
+        else
+            fakeRes.setFakeException(e);
+
+        onResponse(fakeRes);
+    }
+
     /**
      * @param nodeId Node ID.
      */
@@ -1375,6 +1545,10 @@ class GridTaskWorker<T, R> extends GridWorker implements GridTimeoutObject {
         // Once we marked task as 'Finishing' we must complete it.
         finally {
             fut.onDone(res, e);
+
+            // Responses left in delayed queue will never be processed.
+            for (GridJobExecuteResponse delayed = delayedRess.poll(); delayed != null; delayed = delayedRess.poll())
+                delayed.onProcessed();
         }
     }
 
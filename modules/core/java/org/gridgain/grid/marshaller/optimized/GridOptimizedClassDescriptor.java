@@ -183,8 +183,8 @@ class GridOptimizedClassDescriptor {
     /** Fields. */
     private List<List<Field>> fields;
 
-    /** Fields. */
-    private List<List<T2<GridOptimizedFieldType, Long>>> fieldOffs;
+    /** Fields types and offsets for each class in hierarchy. */
+    private List<GridOptimizedFields> fieldOffs;
 
     /** {@code writeObject} methods. */
     private List<Method> writeObjMtds;
@@ -486,24 +486,28 @@ class GridOptimizedClassDescriptor {
                         });
 
                         List<Field> clsFields = new ArrayList<>(clsFields0.length);
-                        List<T2<GridOptimizedFieldType, Long>> clsFieldOffs =
-                            new ArrayList<>(clsFields0.length);
 
                         for (int i = 0; i < clsFields0.length; i++) {
                             Field f = clsFields0[i];
 
                             int mod = f.getModifiers();
 
-                            if (!isStatic(mod) && !isTransient(mod)) {
-                                GridOptimizedFieldType type = fieldType(f.getType());
-
+                            if (!isStatic(mod) && !isTransient(mod))
                                 clsFields.add(f);
-                                clsFieldOffs.add(new T2<>(type, UNSAFE.objectFieldOffset(f)));
-                            }
+                        }
+
+                        GridOptimizedFieldType[] clsFieldTypes = new GridOptimizedFieldType[clsFields.size()];
+                        long[] clsFieldOffs = new long[clsFields.size()];
+
+                        for (int i = 0; i < clsFields.size(); i++) {
+                            Field f = clsFields.get(i);
+
+                            clsFieldTypes[i] = fieldType(f.getType());
+                            clsFieldOffs[i] = UNSAFE.objectFieldOffset(f);
                         }
 
                         fields.add(clsFields);
-                        fieldOffs.add(clsFieldOffs);
+                        fieldOffs.add(new GridOptimizedFields(clsFieldTypes, clsFieldOffs));
                     }
 
                     Collections.reverse(writeObjMtds);
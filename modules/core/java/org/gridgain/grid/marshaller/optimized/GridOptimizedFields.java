@@ -0,0 +1,70 @@
+/* 
+ Copyright (C) GridGain Systems. All Rights Reserved.
+ 
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+ 
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+/*  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.gridgain.grid.marshaller.optimized;
+
+import org.gridgain.grid.util.typedef.internal.*;
+
+/**
+ * Serializable fields declared by a single class of serializable class hierarchy.
+ * Field types and {@code Unsafe} offsets are flattened into arrays once, when class
+ * descriptor is created, so that streams write and read fields in a single indexed
+ * loop without list traversal and offset unboxing.
+ */
+class GridOptimizedFields {
+    /** Field types. */
+    private final GridOptimizedFieldType[] types;
+
+    /** Field offsets. */
+    private final long[] offs;
+
+    /**
+     * @param types Field types.
+     * @param offs Field offsets.
+     */
+    GridOptimizedFields(GridOptimizedFieldType[] types, long[] offs) {
+        assert types.length == offs.length;
+
+        this.types = types;
+        this.offs = offs;
+    }
+
+    /**
+     * @return Field types in serialization order.
+     */
+    GridOptimizedFieldType[] types() {
+        return types;
+    }
+
+    /**
+     * @return Field offsets in serialization order.
+     */
+    long[] offsets() {
+        return offs;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridOptimizedFields.class, this, "cnt", types.length);
+    }
+}
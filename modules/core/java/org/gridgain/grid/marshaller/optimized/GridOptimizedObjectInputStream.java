@@ -26,7 +26,6 @@ package org.gridgain.grid.marshaller.optimized;
 import org.gridgain.grid.lang.*;
 import org.gridgain.grid.util.*;
 import org.gridgain.grid.util.io.*;
-import org.gridgain.grid.util.typedef.*;
 import org.gridgain.grid.util.typedef.internal.*;
 import sun.misc.*;
 
@@ -59,7 +58,7 @@ class GridOptimizedObjectInputStream extends ObjectInputStream {
     private Object curObj;
 
     /** */
-    private List<T2<GridOptimizedFieldType, Long>> curFields;
+    private GridOptimizedFields curFields;
 
     /** */
     private Class<?> curCls;
@@ -219,59 +218,60 @@ class GridOptimizedObjectInputStream extends ObjectInputStream {
      * Reads and sets all non-static and non-transient field values from this stream.
      *
      * @param obj Object.
-     * @param fieldOffs Field offsets.
+     * @param fields Fields.
      * @throws ClassNotFoundException If class not found.
      * @throws IOException In case of error.
      */
-    @SuppressWarnings("ForLoopReplaceableByForEach")
-    void readFields(Object obj, List<T2<GridOptimizedFieldType, Long>> fieldOffs) throws ClassNotFoundException,
-        IOException {
-        for (int i = 0; i < fieldOffs.size(); i++) {
-            T2<GridOptimizedFieldType, Long> t = fieldOffs.get(i);
+    void readFields(Object obj, GridOptimizedFields fields) throws ClassNotFoundException, IOException {
+        GridOptimizedFieldType[] types = fields.types();
+        long[] offs = fields.offsets();
+
+        for (int i = 0; i < types.length; i++) {
+            long off = offs[i];
 
-            switch ((t.get1())) {
+            switch (types[i]) {
                 case BYTE:
-                    setByte(obj, t.get2(), readByte());
+                    setByte(obj, off, readByte());
 
                     break;
 
                 case SHORT:
-                    setShort(obj, t.get2(), readShort());
+                    setShort(obj, off, readShort());
 
                     break;
 
                 case INT:
-                    setInt(obj, t.get2(), readInt());
+                    setInt(obj, off, readInt());
 
                     break;
 
                 case LONG:
-                    setLong(obj, t.get2(), readLong());
+                    setLong(obj, off, readLong());
 
                     break;
 
                 case FLOAT:
-                    setFloat(obj, t.get2(), readFloat());
+                    setFloat(obj, off, readFloat());
 
                     break;
 
                 case DOUBLE:
-                    setDouble(obj, t.get2(), readDouble());
+                    setDouble(obj, off, readDouble());
 
                     break;
 
                 case CHAR:
-                    setChar(obj, t.get2(), readChar());
+                    setChar(obj, off, readChar());
 
                     break;
 
                 case BOOLEAN:
-                    setBoolean(obj, t.get2(), readBoolean());
+                    setBoolean(obj, off, readBoolean());
 
                     break;
 
                 case OTHER:
-                    setObject(obj, t.get2(), readObject());
+                    setObject(obj, off, readObject());
             }
         }
     }
@@ -328,7 +328,7 @@ class GridOptimizedObjectInputStream extends ObjectInputStream {
      * @throws IOException In case of error.
      */
     @SuppressWarnings("ForLoopReplaceableByForEach")
-    Object readSerializable(Class<?> cls, List<List<T2<GridOptimizedFieldType, Long>>> fieldOffs,
+    Object readSerializable(Class<?> cls, List<GridOptimizedFields> fieldOffs,
         List<Method> mtds, Method readResolveMtd) throws ClassNotFoundException, IOException {
         Object obj;
 
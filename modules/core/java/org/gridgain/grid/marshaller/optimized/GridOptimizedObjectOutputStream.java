@@ -59,7 +59,7 @@ class GridOptimizedObjectOutputStream extends ObjectOutputStream {
     private Object curObj;
 
     /** */
-    private List<T2<GridOptimizedFieldType, Long>> curFields;
+    private GridOptimizedFields curFields;
 
     /** */
     private PutFieldImpl curPut;
@@ -279,7 +279,7 @@ class GridOptimizedObjectOutputStream extends ObjectOutputStream {
      * @throws IOException In case of error.
      */
     @SuppressWarnings("ForLoopReplaceableByForEach")
-    void writeSerializable(Object obj, List<List<T2<GridOptimizedFieldType, Long>>> fieldOffs, List<Method> mtds)
+    void writeSerializable(Object obj, List<GridOptimizedFields> fieldOffs, List<Method> mtds)
         throws IOException {
         for (int i = 0; i < mtds.size(); i++) {
             Method mtd = mtds.get(i);
@@ -425,57 +425,59 @@ class GridOptimizedObjectOutputStream extends ObjectOutputStream {
      * Writes all non-static and non-transient field values to this stream.
      *
      * @param obj Object.
-     * @param fieldOffs Field offsets.
+     * @param fields Fields.
      * @throws IOException In case of error.
      */
-    @SuppressWarnings("ForLoopReplaceableByForEach")
-    private void writeFields(Object obj, List<T2<GridOptimizedFieldType, Long>> fieldOffs) throws IOException {
-        for (int i = 0; i < fieldOffs.size(); i++) {
-            T2<GridOptimizedFieldType, Long> t = fieldOffs.get(i);
+    private void writeFields(Object obj, GridOptimizedFields fields) throws IOException {
+        GridOptimizedFieldType[] types = fields.types();
+        long[] offs = fields.offsets();
 
-            switch (t.get1()) {
+        for (int i = 0; i < types.length; i++) {
+            long off = offs[i];
+
+            switch (types[i]) {
                 case BYTE:
-                    writeByte(getByte(obj, t.get2()));
+                    writeByte(getByte(obj, off));
 
                     break;
 
                 case SHORT:
-                    writeShort(getShort(obj, t.get2()));
+                    writeShort(getShort(obj, off));
 
                     break;
 
                 case INT:
-                    writeInt(getInt(obj, t.get2()));
+                    writeInt(getInt(obj, off));
 
                     break;
 
                 case LONG:
-                    writeLong(getLong(obj, t.get2()));
+                    writeLong(getLong(obj, off));
 
                     break;
 
                 case FLOAT:
-                    writeFloat(getFloat(obj, t.get2()));
+                    writeFloat(getFloat(obj, off));
 
                     break;
 
                 case DOUBLE:
-                    writeDouble(getDouble(obj, t.get2()));
+                    writeDouble(getDouble(obj, off));
 
                     break;
 
                 case CHAR:
-                    writeChar(getChar(obj, t.get2()));
+                    writeChar(getChar(obj, off));
 
                     break;
 
                 case BOOLEAN:
-                    writeBoolean(getBoolean(obj, t.get2()));
+                    writeBoolean(getBoolean(obj, off));
 
                     break;
 
                 case OTHER:
-                    writeObject0(getObject(obj, t.get2()));
+                    writeObject0(getObject(obj, off));
             }
         }
     }
@@ -689,6 +689,11 @@ public abstract class GridSpiAdapter implements GridSpi, GridSpiManagementMBean,
             return -1;
         }
 
+        /** {@inheritDoc} */
+        @Override public Collection<GridNode> affinityNodes(@Nullable String cacheName, Object key) {
+            return Collections.emptyList();
+        }
+
         /** {@inheritDoc} */
         @Override public void removeFromSwap(String spaceName, Object key, @Nullable ClassLoader ldr)
             throws GridException {
@@ -322,6 +322,16 @@ public interface GridSpiContext {
      */
     public int partition(String cacheName, Object key);
 
+    /**
+     * Gets primary and backup nodes for given key. If cache with given name
+     * is not configured on local node, empty collection is returned.
+     *
+     * @param cacheName Cache name.
+     * @param key Key.
+     * @return Primary and backup nodes for the key, primary node goes first.
+     */
+    public Collection<GridNode> affinityNodes(@Nullable String cacheName, Object key);
+
     /**
      * Removes object from swap.
      *
@@ -37,6 +37,7 @@ import org.gridgain.grid.util.tostring.*;
 import org.gridgain.grid.util.typedef.*;
 import org.gridgain.grid.util.typedef.internal.*;
 import org.jdk8.backport.*;
+import org.jetbrains.annotations.*;
 
 import java.io.*;
 import java.util.*;
@@ -81,6 +82,13 @@ import static org.gridgain.grid.events.GridEventType.*;
  * exceeds a certain threshold {@link GridJobStealingCollisionSpi#setMaximumStealingAttempts(int)}.
  * </i>
  * <p>
+ * When choosing jobs to give away, the SPI prefers jobs that are not bound to cache data
+ * (see {@link org.gridgain.grid.cache.affinity.GridCacheAffinityKeyMapped}). If an affinity-bound
+ * job has to be given away, thief nodes holding primary or backup copy of its data are preferred.
+ * Number of jobs stolen with and without preserving data locality is available via
+ * {@link GridJobStealingCollisionSpiMBean#getLocalityHitsNumber()} and
+ * {@link GridJobStealingCollisionSpiMBean#getLocalityMissesNumber()}.
+ * <p>
  * <h1 class="header">Configuration</h1>
  * In order to use this SPI, you should configure your grid instance
  * to use {@code GridJobStealingCollisionSpi} either from Spring XML file or
@@ -271,6 +279,12 @@ public class GridJobStealingCollisionSpi extends GridSpiAdapter implements GridC
     /** Total number of stolen jobs. */
     private final AtomicInteger totalStolenJobsNum = new AtomicInteger();
 
+    /** Number of rejected jobs that kept data locality on thief node. */
+    private final AtomicInteger locHits = new AtomicInteger();
+
+    /** Number of rejected affinity-bound jobs that were given to thief node not holding their data. */
+    private final AtomicInteger locMisses = new AtomicInteger();
+
     /** Map of sent messages. */
     private final ConcurrentMap<UUID, MessageInfo> sndMsgMap = new ConcurrentHashMap8<>();
 
@@ -405,6 +419,16 @@ public class GridJobStealingCollisionSpi extends GridSpiAdapter implements GridC
         return stealReqs.get();
     }
 
+    /** {@inheritDoc} */
+    @Override public int getLocalityHitsNumber() {
+        return locHits.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getLocalityMissesNumber() {
+        return locMisses.get();
+    }
+
     /** {@inheritDoc} */
     @Override public Map<String, Object> getNodeAttributes() throws GridSpiException {
         return F.<String, Object>asMap(
@@ -629,11 +653,14 @@ public class GridJobStealingCollisionSpi extends GridSpiAdapter implements GridC
         int activated = 0;
         int rejected = 0;
 
-        Collection<GridCollisionJobContext> waitPriJobs = sortJobs(waitJobs, waitSize);
+        List<GridCollisionJobContext> waitPriJobs = sortJobs(waitJobs, waitSize);
 
         int activeJobsThreshold0 = activeJobsThreshold;
         int waitJobsThreshold0 = waitJobsThreshold;
 
+        if (stealReqs.get() > 0)
+            waitPriJobs = localityOrder(waitPriJobs, activeJobsThreshold0 - activeSize);
+
         for (GridCollisionJobContext waitCtx : waitPriJobs) {
             if (activeJobs.size() < activeJobsThreshold0) {
                 activated++;
@@ -681,18 +708,22 @@ public class GridJobStealingCollisionSpi extends GridSpiAdapter implements GridC
                 if (pri == null)
                     pri = DFLT_JOB_PRIORITY;
 
+                // Nodes holding primary or backup copy of job's data, null for jobs not bound to data.
+                Collection<UUID> dataNodeIds = dataNodeIds(waitCtx);
+
                 // If we have an excess of waiting jobs, reject as many as there are
                 // requested to be stolen. Note, that we use lose total steal request
                 // counter to prevent excessive iteration over nodes under load.
-                for (Iterator<Entry<UUID, MessageInfo>> iter = rcvMsgMap.entrySet().iterator();
-                     iter.hasNext() && stealReqs.get() > 0;) {
-                    Entry<UUID, MessageInfo> entry = iter.next();
+                // Thieves holding job's data are tried first.
+                for (Entry<UUID, MessageInfo> entry : thieves(dataNodeIds)) {
+                    if (stealReqs.get() <= 0)
+                        break;
 
                     UUID nodeId = entry.getKey();
 
                     // Node has left topology.
                     if (ctx.node(nodeId) == null) {
-                        iter.remove();
+                        rcvMsgMap.remove(nodeId);
 
                         continue;
                     }
@@ -763,6 +794,11 @@ public class GridJobStealingCollisionSpi extends GridSpiAdapter implements GridC
 
                                     info.reset(jobsAsked - 1);
 
+                                    if (dataNodeIds == null || dataNodeIds.contains(nodeId))
+                                        locHits.incrementAndGet();
+                                    else
+                                        locMisses.incrementAndGet();
+
                                     if (log.isDebugEnabled())
                                         log.debug("Rejected job due to steal request [ctx=" + waitCtx +
                                             ", nodeId=" + nodeId + ']');
@@ -800,7 +836,7 @@ public class GridJobStealingCollisionSpi extends GridSpiAdapter implements GridC
      * @param waitSize Snapshot size.
      * @return Sorted waiting jobs by priority.
      */
-    private Collection<GridCollisionJobContext> sortJobs(Collection<GridCollisionJobContext> waitJobs, int waitSize) {
+    private List<GridCollisionJobContext> sortJobs(Collection<GridCollisionJobContext> waitJobs, int waitSize) {
         List<GridCollisionJobContext> passiveList = new ArrayList<>(waitJobs.size());
 
         int i = 0;
@@ -817,6 +853,109 @@ public class GridJobStealingCollisionSpi extends GridSpiAdapter implements GridC
         return passiveList;
     }
 
+    /**
+     * Reorders jobs that are candidates for stealing (i.e. jobs that will not be activated)
+     * so that jobs not bound to cache data via
+     * {@link org.gridgain.grid.cache.affinity.GridCacheAffinityKeyMapped} go first.
+     * Order of jobs within each group is preserved, so priorities are still respected.
+     *
+     * @param jobs Waiting jobs sorted by priority.
+     * @param activateCnt Number of jobs that will be activated.
+     * @return Reordered jobs.
+     */
+    private List<GridCollisionJobContext> localityOrder(List<GridCollisionJobContext> jobs, int activateCnt) {
+        if (activateCnt >= jobs.size())
+            return jobs;
+
+        int from = Math.max(activateCnt, 0);
+
+        List<GridCollisionJobContext> res = new ArrayList<>(jobs.size());
+        List<GridCollisionJobContext> bound = null;
+
+        for (int i = 0; i < jobs.size(); i++) {
+            GridCollisionJobContext waitCtx = jobs.get(i);
+
+            if (i < from || affinityKey(waitCtx) == null)
+                res.add(waitCtx);
+            else {
+                if (bound == null)
+                    bound = new ArrayList<>(jobs.size() - i);
+
+                bound.add(waitCtx);
+            }
+        }
+
+        if (bound != null)
+            res.addAll(bound);
+
+        return res;
+    }
+
+    /**
+     * Gets IDs of nodes holding primary or backup copy of data the job is bound to.
+     *
+     * @param waitCtx Waiting job context.
+     * @return Data node IDs or {@code null} if job is not bound to cache data.
+     */
+    @Nullable private Collection<UUID> dataNodeIds(GridCollisionJobContext waitCtx) {
+        Object key = affinityKey(waitCtx);
+
+        if (key == null)
+            return null;
+
+        try {
+            return F.nodeIds(getSpiContext().affinityNodes(waitCtx.getJobContext().cacheName(), key));
+        }
+        catch (GridRuntimeException e) {
+            if (log.isDebugEnabled())
+                log.debug("Failed to map job affinity key to nodes [ctx=" + waitCtx + ", err=" + e + ']');
+
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * @param waitCtx Waiting job context.
+     * @return Job affinity key or {@code null} if job is not bound to cache data.
+     */
+    @Nullable private Object affinityKey(GridCollisionJobContext waitCtx) {
+        try {
+            return waitCtx.getJobContext().affinityKey();
+        }
+        catch (GridRuntimeException e) {
+            if (log.isDebugEnabled())
+                log.debug("Failed to get job affinity key (job will be treated as not bound to data) [ctx=" +
+                    waitCtx + ", err=" + e + ']');
+
+            return null;
+        }
+    }
+
+    /**
+     * Gets thief nodes in the order they should be offered a job. Thieves holding
+     * job's data go first.
+     *
+     * @param dataNodeIds Data node IDs or {@code null} if job is not bound to cache data.
+     * @return Thief nodes.
+     */
+    private Iterable<Entry<UUID, MessageInfo>> thieves(@Nullable Collection<UUID> dataNodeIds) {
+        if (F.isEmpty(dataNodeIds))
+            return rcvMsgMap.entrySet();
+
+        List<Entry<UUID, MessageInfo>> res = new ArrayList<>(rcvMsgMap.size());
+
+        int hits = 0;
+
+        for (Entry<UUID, MessageInfo> e : rcvMsgMap.entrySet()) {
+            if (dataNodeIds.contains(e.getKey()))
+                res.add(hits++, e);
+            else
+                res.add(e);
+        }
+
+        return res;
+    }
+
     /**
      * @return Comparator.
      */
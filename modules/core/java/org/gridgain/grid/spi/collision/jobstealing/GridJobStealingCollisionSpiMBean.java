@@ -83,6 +83,25 @@ public interface GridJobStealingCollisionSpiMBean extends GridSpiManagementMBean
     @GridMBeanDescription("Number of stolen jobs.")
     public int getTotalStolenJobsNumber();
 
+    /**
+     * Gets number of jobs rejected to thief nodes without losing data locality, i.e.
+     * jobs not bound to cache data and jobs given to nodes holding primary or backup
+     * copy of their data.
+     *
+     * @return Number of locality hits.
+     */
+    @GridMBeanDescription("Number of jobs stolen without losing data locality.")
+    public int getLocalityHitsNumber();
+
+    /**
+     * Gets number of affinity-bound jobs rejected to thief nodes that do not hold
+     * their data.
+     *
+     * @return Number of locality misses.
+     */
+    @GridMBeanDescription("Number of affinity-bound jobs stolen by nodes not holding their data.")
+    public int getLocalityMissesNumber();
+
     /**
      * Gets number of jobs that can be executed in parallel.
      *
@@ -487,8 +487,38 @@ public class GridTcpCommunicationSpi extends GridSpiAdapter
         @Override public void onBytesReceived(int bytesCnt) {
             rcvdBytesCnt.add(bytesCnt);
         }
+
+        @Override public void onMessagesSent(GridNioSession ses, int msgCnt, long waitTime) {
+            UUID nodeId = ses.meta(NODE_ID_META);
+
+            if (nodeId != null) {
+                WriteStatistics stats = writeStats.get(nodeId);
+
+                if (stats == null) {
+                    // Do not recreate statistics removed on node leave.
+                    if (getSpiContext().node(nodeId) == null)
+                        return;
+
+                    WriteStatistics old = writeStats.putIfAbsent(nodeId, stats = new WriteStatistics());
+
+                    if (old != null)
+                        stats = old;
+                    else if (getSpiContext().node(nodeId) == null) {
+                        // Node has left concurrently, statistics may have been already cleaned up.
+                        writeStats.remove(nodeId, stats);
+
+                        return;
+                    }
+                }
+
+                stats.onBatchSent(msgCnt, waitTime);
+            }
+        }
     };
 
+    /** Outbound write statistics per remote node. */
+    private final ConcurrentMap<UUID, WriteStatistics> writeStats = GridConcurrentFactory.newMap();
+
     /** Locks. */
     private final GridKeyLock locks = new GridKeyLock();
 
@@ -1029,6 +1059,26 @@ public class GridTcpCommunicationSpi extends GridSpiAdapter
         return nioSrvr.outboundMessagesQueueSize();
     }
 
+    /** {@inheritDoc} */
+    @Override public Map<UUID, long[]> getOutboundBatchSizeHistograms() {
+        Map<UUID, long[]> res = new HashMap<>(writeStats.size(), 1.0f);
+
+        for (Map.Entry<UUID, WriteStatistics> e : writeStats.entrySet())
+            res.put(e.getKey(), WriteStatistics.snapshot(e.getValue().batchSizes));
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Map<UUID, long[]> getOutboundLatencyHistograms() {
+        Map<UUID, long[]> res = new HashMap<>(writeStats.size(), 1.0f);
+
+        for (Map.Entry<UUID, WriteStatistics> e : writeStats.entrySet())
+            res.put(e.getKey(), WriteStatistics.snapshot(e.getValue().latencies));
+
+        return res;
+    }
+
     /** {@inheritDoc} */
     @Override public void resetMetrics() {
         // Can't use 'reset' method because it is not thread-safe
@@ -1037,6 +1087,8 @@ public class GridTcpCommunicationSpi extends GridSpiAdapter
         rcvdMsgsCnt.add(-rcvdMsgsCnt.sum());
         sentBytesCnt.add(-sentBytesCnt.sum());
         rcvdBytesCnt.add(-rcvdBytesCnt.sum());
+
+        writeStats.clear();
     }
 
     /** {@inheritDoc} */
@@ -1383,6 +1435,8 @@ public class GridTcpCommunicationSpi extends GridSpiAdapter
     void onNodeLeft(UUID nodeId) {
         assert nodeId != null;
 
+        writeStats.remove(nodeId);
+
         GridCommunicationClient client = clients.get(nodeId);
 
         if (client != null) {
@@ -1957,6 +2011,54 @@ public class GridTcpCommunicationSpi extends GridSpiAdapter
         }
     }
 
+    /**
+     * Histograms of outbound batches written to a remote node. Bucket {@code 0} counts zero values,
+     * bucket {@code i > 0} counts values from {@code 2^(i-1)} to {@code 2^i - 1}, last bucket also
+     * counts all larger values.
+     */
+    private static class WriteStatistics {
+        /** Number of histogram buckets. */
+        private static final int BUCKETS = 24;
+
+        /** Number of messages written with a single write call. */
+        private final AtomicLongArray batchSizes = new AtomicLongArray(BUCKETS);
+
+        /** Messages by their queueing latency in microseconds. */
+        private final AtomicLongArray latencies = new AtomicLongArray(BUCKETS);
+
+        /**
+         * @param msgCnt Number of messages in the batch.
+         * @param waitTime Total queueing time of batch messages in nanoseconds.
+         */
+        void onBatchSent(int msgCnt, long waitTime) {
+            batchSizes.incrementAndGet(bucket(msgCnt));
+
+            // Average latency is accounted for each message of the batch.
+            latencies.addAndGet(bucket(waitTime / msgCnt / 1000), msgCnt);
+        }
+
+        /**
+         * @param val Value.
+         * @return Histogram bucket.
+         */
+        private static int bucket(long val) {
+            return Math.min(64 - Long.numberOfLeadingZeros(Math.max(val, 0)), BUCKETS - 1);
+        }
+
+        /**
+         * @param hist Histogram.
+         * @return Histogram copy.
+         */
+        static long[] snapshot(AtomicLongArray hist) {
+            long[] res = new long[hist.length()];
+
+            for (int i = 0; i < res.length; i++)
+                res[i] = hist.get(i);
+
+            return res;
+        }
+    }
+
     /**
      * This worker takes responsibility to shut the server down when stopping,
      * No other thread shall stop passed server.
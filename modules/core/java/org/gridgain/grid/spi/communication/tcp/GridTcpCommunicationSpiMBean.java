@@ -3,6 +3,8 @@ package org.gridgain.grid.spi.communication.tcp;
 import org.gridgain.grid.spi.*;
 import org.gridgain.grid.util.mbean.*;
 
+import java.util.*;
+
 /**
  * MBean provide access to TCP-based communication SPI.
  */
@@ -118,6 +120,25 @@ public interface GridTcpCommunicationSpiMBean extends GridSpiManagementMBean {
     @GridMBeanDescription("Outbound messages queue size.")
     public int getOutboundMessagesQueueSize();
 
+    /**
+     * Gets histograms of number of messages written to socket with a single write call, per remote node.
+     * Bucket {@code i > 0} of a histogram counts writes of {@code 2^(i-1)} to {@code 2^i - 1} messages.
+     *
+     * @return Outbound batch size histograms per remote node ID.
+     */
+    @GridMBeanDescription("Outbound batch size histograms per remote node.")
+    public Map<UUID, long[]> getOutboundBatchSizeHistograms();
+
+    /**
+     * Gets histograms of time outbound messages spend in queue before they are written to socket, per remote
+     * node. Bucket {@code 0} of a histogram counts messages written within a microsecond, bucket {@code i > 0}
+     * counts messages which waited from {@code 2^(i-1)} to {@code 2^i - 1} microseconds.
+     *
+     * @return Outbound message latency histograms per remote node ID.
+     */
+    @GridMBeanDescription("Outbound message queueing latency histograms per remote node.")
+    public Map<UUID, long[]> getOutboundLatencyHistograms();
+
     /**
      * Gets port resolver for ports mapping determination.
      *
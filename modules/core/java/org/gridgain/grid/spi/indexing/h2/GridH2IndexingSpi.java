@@ -95,6 +95,7 @@ import static org.h2.result.SortOrder.*;
  * <li>Database user password(see {@link #setIndexPassword(String)})</li>
  * <li>Off-heap memory (see {@link #setMaxOffHeapMemory(long)})</li>
  * <li>Deserialized off-heap rows cache size (see {@link #setMaxOffheapRowsCacheSize(int)})</li>
+ * <li>Binary off-heap fields (see {@link #setOffHeapBinaryFields(boolean)})</li>
  * <li>Name (see {@link #setName(String)})</li>
  * <li>SPI will issue a warning if query execution takes longer than specified period in milliseconds (see
  * {@link #setLongQueryExecutionTimeout(long)})</li>
@@ -163,6 +164,9 @@ public class GridH2IndexingSpi extends GridSpiAdapter implements GridIndexingSpi
     /** Default Index write lock wait time in milliseconds. */
     private static final long DFLT_IDX_WRITE_LOCK_WAIT_TIME = 100;
 
+    /** Default index lock concurrency level. */
+    private static final int DFLT_IDX_LOCK_CONCURRENCY_LVL = 1;
+
     /** Default DB name. */
     private static final String DFLT_DB_NAME = "gridgain_indexes";
 
@@ -250,12 +254,18 @@ public class GridH2IndexingSpi extends GridSpiAdapter implements GridIndexingSpi
     /** */
     private long maxOffHeapMemory = -1;
 
+    /** */
+    private boolean offheapBinaryFields;
+
     /** */
     private long longQryExecTimeout = DFLT_LONG_QRY_EXEC_TIMEOUT;
 
     /** */
     private long idxWriteLockWaitTime = DFLT_IDX_WRITE_LOCK_WAIT_TIME;
 
+    /** */
+    private int idxLockConcurrencyLvl = DFLT_IDX_LOCK_CONCURRENCY_LVL;
+
     /** */
     private boolean longQryExplain;
 
@@ -1434,6 +1444,7 @@ public class GridH2IndexingSpi extends GridSpiAdapter implements GridIndexingSpi
             log.debug("Starting cache query index...");
 
         assertParameter(idxWriteLockWaitTime > 0, "'idxWriteLockWaitTime' must be positive.");
+        assertParameter(idxLockConcurrencyLvl > 0, "'idxLockConcurrencyLvl' must be positive.");
 
         startStopwatch();
 
@@ -1840,6 +1851,28 @@ public class GridH2IndexingSpi extends GridSpiAdapter implements GridIndexingSpi
         return maxOffHeapMemory;
     }
 
+    /**
+     * Sets flag indicating whether primitive fields of off-heap rows should be stored in binary
+     * order-preserving form next to the row key. Indexes on such fields compare rows by reading
+     * these sort keys straight from off-heap memory, and queries read such fields without
+     * deserializing the cache value, which removes most of GC pressure caused by range scans
+     * and lookups over off-heap indexes. The cost is {@code 9} bytes of off-heap memory per field
+     * in each row. Has effect only if off-heap memory is enabled (see {@link #setMaxOffHeapMemory(long)}).
+     * <p>
+     * Default value is {@code false}.
+     *
+     * @param offheapBinaryFields Flag indicating whether fields of off-heap rows are stored in binary form.
+     */
+    @GridSpiConfiguration(optional = true)
+    public void setOffHeapBinaryFields(boolean offheapBinaryFields) {
+        this.offheapBinaryFields = offheapBinaryFields;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean isOffHeapBinaryFields() {
+        return offheapBinaryFields;
+    }
+
     /**
      * Sets index write lock wait time in milliseconds. This parameter can affect query performance under high
      * thread contention. Default value is {@code 100}.
@@ -1855,6 +1888,24 @@ public class GridH2IndexingSpi extends GridSpiAdapter implements GridIndexingSpi
         return idxWriteLockWaitTime;
     }
 
+    /**
+     * Sets index lock concurrency level. Index updates of a table acquire only one of this many lock
+     * stripes, so concurrent updates do not contend on a single lock, while queries acquire all
+     * stripes for a short time to take a consistent snapshot of table indexes. Greater values reduce
+     * contention between updating threads at the cost of a slightly more expensive snapshot.
+     * Default value is {@code 1}.
+     *
+     * @param idxLockConcurrencyLvl Index lock concurrency level.
+     */
+    public void setIndexLockConcurrencyLevel(int idxLockConcurrencyLvl) {
+        this.idxLockConcurrencyLvl = idxLockConcurrencyLvl;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getIndexLockConcurrencyLevel() {
+        return idxLockConcurrencyLvl;
+    }
+
     /**
      * Specifies max allowed size of cache for deserialized offheap rows to avoid deserialization costs for most
      * frequently used ones. In general performance is better with greater cache size. Must be more than 128 items.
@@ -2503,6 +2554,11 @@ public class GridH2IndexingSpi extends GridSpiAdapter implements GridIndexingSpi
             return offheap;
         }
 
+        /** {@inheritDoc} */
+        @Override public boolean binaryFields() {
+            return offheapBinaryFields;
+        }
+
         /** {@inheritDoc} */
         @Override public GridH2IndexingSpi spi() {
             return GridH2IndexingSpi.this;
@@ -83,6 +83,15 @@ public interface GridH2IndexingSpiMBean extends GridSpiManagementMBean {
     @GridMBeanDescription("Maximum off-heap memory for indexes.")
     public long getMaxOffHeapMemory();
 
+    /**
+     * Gets flag indicating whether primitive fields of off-heap rows are stored in binary
+     * order-preserving form, so indexes compare them without deserialization.
+     *
+     * @return Flag indicating whether fields of off-heap rows are stored in binary form.
+     */
+    @GridMBeanDescription("Whether primitive fields of off-heap rows are stored in binary form.")
+    public boolean isOffHeapBinaryFields();
+
     /**
      * Gets index write lock wait time in milliseconds. This parameter can affect query performance under high
      * thread contention. Default value is {@code 100}.
@@ -92,6 +101,15 @@ public interface GridH2IndexingSpiMBean extends GridSpiManagementMBean {
     @GridMBeanDescription("Index write lock wait time in milliseconds.")
     public long getIndexWriteLockWaitTime();
 
+    /**
+     * Gets index lock concurrency level, i.e. number of lock stripes index updates are spread
+     * across. Default value is {@code 1}.
+     *
+     * @return Index lock concurrency level.
+     */
+    @GridMBeanDescription("Index lock concurrency level.")
+    public int getIndexLockConcurrencyLevel();
+
     /**
      * Gets maximum allowed off-heap rows cache size in items.
      *
@@ -43,7 +43,7 @@ import java.util.*;
  */
 public abstract class GridH2AbstractKeyValueRow extends GridH2Row {
     /** */
-    private static final int DEFAULT_COLUMNS_COUNT = 3;
+    static final int DEFAULT_COLUMNS_COUNT = 3;
 
     /** Key column. */
     public static final int KEY_COL = 0;
@@ -286,7 +286,12 @@ public abstract class GridH2AbstractKeyValueRow extends GridH2Row {
 
         assert col >= 0;
 
-        Value v = getValue(desc.isKeyColumn(col) ? KEY_COL : VAL_COL);
+        Value v = getOffheapField(col);
+
+        if (v != null)
+            return v;
+
+        v = getValue(desc.isKeyColumn(col) ? KEY_COL : VAL_COL);
 
         if (v == null)
             return null;
@@ -317,6 +322,14 @@ public abstract class GridH2AbstractKeyValueRow extends GridH2Row {
      */
     protected abstract Value getOffheapValue(int col);
 
+    /**
+     * @param field Field index.
+     * @return Field value read from its binary form in offheap memory or {@code null} if it is impossible.
+     */
+    @Nullable protected Value getOffheapField(int field) {
+        return null;
+    }
+
     /** {@inheritDoc} */
     @Override public String toString() {
         SB sb = new SB("Row@");
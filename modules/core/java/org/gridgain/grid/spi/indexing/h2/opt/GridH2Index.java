@@ -63,6 +63,9 @@ public class GridH2Index extends BaseIndex implements Comparator<GridSearchRowPo
     /** */
     protected final int valCol;
 
+    /** Field index for each index column compared by binary sort keys or {@code -1}, {@code null} if none. */
+    private final int[] binFields;
+
     /**
      * Constructor with index initialization.
      *
@@ -94,6 +97,8 @@ public class GridH2Index extends BaseIndex implements Comparator<GridSearchRowPo
 
         final GridH2RowDescriptor desc = tbl.rowDescriptor();
 
+        binFields = memory == null ? null : binaryFields(desc, cols);
+
         tree = memory == null ? new SnapTreeMap<GridSearchRowPointer, GridH2Row>(this) {
             @Override protected void afterNodeUpdate_nl(Node<GridSearchRowPointer, GridH2Row> node, Object val) {
                 if (val != null)
@@ -130,6 +135,38 @@ public class GridH2Index extends BaseIndex implements Comparator<GridSearchRowPo
         };
     }
 
+    /**
+     * @param desc Row descriptor.
+     * @param cols Index columns.
+     * @return Field index for each index column which can be compared by binary sort keys
+     *      or {@code null} if there are no such columns.
+     */
+    @Nullable private static int[] binaryFields(@Nullable GridH2RowDescriptor desc, IndexColumn[] cols) {
+        if (desc == null || !desc.binaryFields())
+            return null;
+
+        int[] res = null;
+
+        for (int i = 0; i < cols.length; i++) {
+            Column col = cols[i].column;
+
+            int field = col.getColumnId() - GridH2AbstractKeyValueRow.DEFAULT_COLUMNS_COUNT;
+
+            if (field >= 0 && GridH2KeyValueRowOffheap.binaryComparable(col.getType()) &&
+                desc.fieldType(field) == col.getType()) {
+                if (res == null) {
+                    res = new int[cols.length];
+
+                    Arrays.fill(res, -1);
+                }
+
+                res[i] = field;
+            }
+        }
+
+        return res;
+    }
+
     /**
      * Closes index and releases resources.
      */
@@ -245,6 +282,124 @@ public class GridH2Index extends BaseIndex implements Comparator<GridSearchRowPo
         return tree.size();
     }
 
+    /** {@inheritDoc} */
+    @Override public int compareRows(SearchRow rowData, SearchRow compare) {
+        if (binFields == null || rowData == compare)
+            return super.compareRows(rowData, compare);
+
+        GridH2KeyValueRowOffheap r1 = rowData instanceof GridH2KeyValueRowOffheap ?
+            (GridH2KeyValueRowOffheap)rowData : null;
+        GridH2KeyValueRowOffheap r2 = compare instanceof GridH2KeyValueRowOffheap ?
+            (GridH2KeyValueRowOffheap)compare : null;
+
+        for (int i = 0, len = indexColumns.length; i < len; i++) {
+            int idx = columnIds[i];
+            int sortType = indexColumns[i].sortType;
+            int field = binFields[i];
+
+            Value v1 = null;
+            Value v2 = null;
+
+            int c;
+
+            if (field >= 0) {
+                // Sort keys are read straight from offheap memory, search rows and rows
+                // which are not serialized yet have their values on heap.
+                int type = indexColumns[i].column.getType();
+
+                byte t2 = r2 == null ? GridH2KeyValueRowOffheap.FIELD_NONE : r2.fieldTag(field);
+                long k2 = 0;
+
+                if (t2 == GridH2KeyValueRowOffheap.FIELD_NONE) {
+                    v2 = compare.getValue(idx);
+
+                    if (v2 == null)
+                        return 0;
+
+                    t2 = GridH2KeyValueRowOffheap.binaryTag(v2, type);
+
+                    if (t2 == GridH2KeyValueRowOffheap.FIELD_VALUE)
+                        k2 = GridH2KeyValueRowOffheap.encode(v2);
+                }
+                else if (t2 == GridH2KeyValueRowOffheap.FIELD_VALUE)
+                    k2 = r2.fieldKey(field);
+
+                byte t1 = r1 == null ? GridH2KeyValueRowOffheap.FIELD_NONE : r1.fieldTag(field);
+                long k1 = 0;
+
+                if (t1 == GridH2KeyValueRowOffheap.FIELD_NONE) {
+                    v1 = rowData.getValue(idx);
+
+                    t1 = GridH2KeyValueRowOffheap.binaryTag(v1, type);
+
+                    if (t1 == GridH2KeyValueRowOffheap.FIELD_VALUE)
+                        k1 = GridH2KeyValueRowOffheap.encode(v1);
+                }
+                else if (t1 == GridH2KeyValueRowOffheap.FIELD_VALUE)
+                    k1 = r1.fieldKey(field);
+
+                if (t1 != GridH2KeyValueRowOffheap.FIELD_NONE && t2 != GridH2KeyValueRowOffheap.FIELD_NONE) {
+                    // SQL NULL is less than any value, same as in Value.compareTypeSave().
+                    if (t1 != t2)
+                        c = t1 == GridH2KeyValueRowOffheap.FIELD_NULL ? -1 : 1;
+                    else
+                        c = k1 < k2 ? -1 : k1 > k2 ? 1 : 0;
+
+                    if ((sortType & SortOrder.DESCENDING) != 0)
+                        c = -c;
+
+                    if (c != 0)
+                        return c;
+
+                    continue;
+                }
+            }
+
+            if (v2 == null) {
+                v2 = compare.getValue(idx);
+
+                if (v2 == null)
+                    return 0;
+            }
+
+            if (v1 == null)
+                v1 = rowData.getValue(idx);
+
+            c = compareValues(v1, v2, sortType);
+
+            if (c != 0)
+                return c;
+        }
+
+        return 0;
+    }
+
+    /**
+     * Compares values the same way {@link BaseIndex} does.
+     *
+     * @param a First value.
+     * @param b Second value.
+     * @param sortType Sort type.
+     * @return Comparison result.
+     */
+    private int compareValues(Value a, Value b, int sortType) {
+        if (a == b)
+            return 0;
+
+        boolean aNull = a == null;
+        boolean bNull = b == null;
+
+        if (aNull || bNull)
+            return SortOrder.compareNull(aNull, sortType);
+
+        int comp = table.compareTypeSave(a, b);
+
+        if ((sortType & SortOrder.DESCENDING) != 0)
+            comp = -comp;
+
+        return comp;
+    }
+
     /** {@inheritDoc} */
     @Override public int compare(GridSearchRowPointer r1, GridSearchRowPointer r2) {
         // Second row here must be data row if first is a search row.
@@ -63,7 +63,19 @@ public class GridH2KeyValueRowOffheap extends GridH2AbstractKeyValueRow {
     private static final int OFFSET_KEY_SIZE = OFFSET_VALUE_REF + 8;
 
     /** */
-    private static final int OFFSET_KEY = OFFSET_KEY_SIZE + 4;
+    private static final int OFFSET_FIELDS = OFFSET_KEY_SIZE + 4;
+
+    /** Size of binary field slot: tag byte followed by order-preserving sort key. */
+    private static final int FIELD_SLOT_SIZE = 9;
+
+    /** Field is not stored in binary form. */
+    static final byte FIELD_NONE = 0;
+
+    /** Field value is SQL {@code NULL}. */
+    static final byte FIELD_NULL = 1;
+
+    /** Field value is stored as sort key. */
+    static final byte FIELD_VALUE = 2;
 
     /** */
     private static final int OFFSET_VALUE = 4;
@@ -123,6 +135,153 @@ public class GridH2KeyValueRowOffheap extends GridH2AbstractKeyValueRow {
         desc.cache(this);
     }
 
+    /**
+     * @return Offset of serialized key, binary fields are stored in front of it.
+     */
+    private int keyOffset() {
+        return OFFSET_FIELDS + (desc.binaryFields() ? desc.fieldsCount() * FIELD_SLOT_SIZE : 0);
+    }
+
+    /**
+     * Reads tag of binary field slot without any deserialization.
+     *
+     * @param field Field index.
+     * @return One of {@link #FIELD_NONE}, {@link #FIELD_NULL} or {@link #FIELD_VALUE}.
+     */
+    byte fieldTag(int field) {
+        long p = ptr;
+
+        if (p == 0 || !desc.binaryFields())
+            return FIELD_NONE;
+
+        return desc.memory().readByte(p + OFFSET_FIELDS + field * FIELD_SLOT_SIZE);
+    }
+
+    /**
+     * Reads sort key of binary field. Must be called only if {@link #fieldTag(int)} returned {@link #FIELD_VALUE}.
+     *
+     * @param field Field index.
+     * @return Sort key.
+     */
+    long fieldKey(int field) {
+        long p = ptr;
+
+        assert p > 0 : p;
+
+        return desc.memory().readLong(p + OFFSET_FIELDS + field * FIELD_SLOT_SIZE + 1);
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override protected Value getOffheapField(int field) {
+        byte tag = fieldTag(field);
+
+        if (tag == FIELD_NONE)
+            return null;
+
+        if (tag == FIELD_NULL)
+            return ValueNull.INSTANCE;
+
+        return decode(fieldKey(field), desc.fieldType(field));
+    }
+
+    /**
+     * @param type SQL type.
+     * @return {@code True} if values of this type can be stored as order-preserving sort keys.
+     */
+    static boolean binaryComparable(int type) {
+        switch (type) {
+            case Value.BOOLEAN:
+            case Value.BYTE:
+            case Value.SHORT:
+            case Value.INT:
+            case Value.LONG:
+            case Value.FLOAT:
+            case Value.DOUBLE:
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @param v Value.
+     * @param type Expected SQL type.
+     * @return Binary field tag for given value.
+     */
+    static byte binaryTag(@Nullable Value v, int type) {
+        if (v == ValueNull.INSTANCE)
+            return FIELD_NULL;
+
+        return v != null && v.getType() == type && binaryComparable(type) ? FIELD_VALUE : FIELD_NONE;
+    }
+
+    /**
+     * Encodes value to sort key, signed comparison of sort keys gives the same result as comparison of values.
+     *
+     * @param v Value.
+     * @return Sort key.
+     */
+    static long encode(Value v) {
+        switch (v.getType()) {
+            case Value.BOOLEAN:
+                return v.getBoolean() ? 1 : 0;
+
+            case Value.BYTE:
+            case Value.SHORT:
+            case Value.INT:
+                return v.getInt();
+
+            case Value.LONG:
+                return v.getLong();
+
+            case Value.FLOAT:
+                int i = Float.floatToIntBits(v.getFloat());
+
+                return i ^ ((i >> 31) & Integer.MAX_VALUE);
+
+            case Value.DOUBLE:
+                long l = Double.doubleToLongBits(v.getDouble());
+
+                return l ^ ((l >> 63) & Long.MAX_VALUE);
+        }
+
+        throw new IllegalStateException("Value is not binary comparable: " + v);
+    }
+
+    /**
+     * @param key Sort key.
+     * @param type SQL type.
+     * @return Decoded value.
+     */
+    private static Value decode(long key, int type) {
+        switch (type) {
+            case Value.BOOLEAN:
+                return ValueBoolean.get(key != 0);
+
+            case Value.BYTE:
+                return ValueByte.get((byte)key);
+
+            case Value.SHORT:
+                return ValueShort.get((short)key);
+
+            case Value.INT:
+                return ValueInt.get((int)key);
+
+            case Value.LONG:
+                return ValueLong.get(key);
+
+            case Value.FLOAT:
+                int i = (int)key;
+
+                return ValueFloat.get(Float.intBitsToFloat(i ^ ((i >> 31) & Integer.MAX_VALUE)));
+
+            case Value.DOUBLE:
+                return ValueDouble.get(Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE)));
+        }
+
+        throw new IllegalStateException("Type is not binary comparable: " + type);
+    }
+
     /** {@inheritDoc} */
     @SuppressWarnings("LockAcquiredButNotSafelyReleased")
     @Override protected Value getOffheapValue(int col) {
@@ -139,7 +298,7 @@ public class GridH2KeyValueRowOffheap extends GridH2AbstractKeyValueRow {
 
             assert size > 0 : size;
 
-            bytes = mem.readBytes(p + OFFSET_KEY, size);
+            bytes = mem.readBytes(p + keyOffset(), size);
         }
         else if (col == VAL_COL) {
             Lock l = lock.getLock(p);
@@ -296,7 +455,9 @@ public class GridH2KeyValueRowOffheap extends GridH2AbstractKeyValueRow {
 
             int keySize = data.length();
 
-            p = mem.allocate(keySize + OFFSET_KEY);
+            int keyOff = keyOffset();
+
+            p = mem.allocate(keySize + keyOff);
 
             // We don't need any synchronization or volatility here because we publish via
             // volatile write to tree node.
@@ -304,7 +465,22 @@ public class GridH2KeyValueRowOffheap extends GridH2AbstractKeyValueRow {
             mem.writeLong(p + OFFSET_EXPIRATION, expirationTime);
             mem.writeByte(p + OFFSET_STATE, (byte)0);
             mem.writeInt(p + OFFSET_KEY_SIZE, keySize);
-            mem.writeBytes(p + OFFSET_KEY, data.getBytes(), 0, keySize);
+            mem.writeBytes(p + keyOff, data.getBytes(), 0, keySize);
+
+            if (desc.binaryFields()) {
+                // Indexed primitive fields are stored as sort keys, so indexes can compare them
+                // and queries can read them without deserializing the value.
+                for (int i = 0, cnt = desc.fieldsCount(); i < cnt; i++) {
+                    Value f = getValue(DEFAULT_COLUMNS_COUNT + i);
+
+                    byte tag = binaryTag(f, desc.fieldType(i));
+
+                    long slot = p + OFFSET_FIELDS + i * FIELD_SLOT_SIZE;
+
+                    mem.writeByte(slot, tag);
+                    mem.writeLong(slot + 1, tag == FIELD_VALUE ? encode(f) : 0);
+                }
+            }
 
             data = Data.create(null, new byte[SIZE_CALCULATOR.getValueLen(val)]);
 
@@ -363,6 +539,6 @@ public class GridH2KeyValueRowOffheap extends GridH2AbstractKeyValueRow {
         if (valPtr > 0)
             mem.release(valPtr, mem.readInt(valPtr) + OFFSET_VALUE);
 
-        mem.release(p, mem.readInt(p + OFFSET_KEY_SIZE) + OFFSET_KEY);
+        mem.release(p, mem.readInt(p + OFFSET_KEY_SIZE) + keyOffset());
     }
 }
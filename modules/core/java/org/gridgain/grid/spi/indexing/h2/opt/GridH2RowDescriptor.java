@@ -95,6 +95,11 @@ public interface GridH2RowDescriptor extends GridOffHeapSmartPointerFactory<Grid
      */
     public boolean isKeyColumn(int col);
 
+    /**
+     * @return {@code True} if primitive fields of offheap rows are stored in binary order-preserving form.
+     */
+    public boolean binaryFields();
+
     /**
      * @return Unsafe memory.
      */
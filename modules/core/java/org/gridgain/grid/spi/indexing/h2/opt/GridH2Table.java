@@ -26,7 +26,9 @@ package org.gridgain.grid.spi.indexing.h2.opt;
 
 import org.gridgain.grid.*;
 import org.gridgain.grid.spi.*;
+import org.gridgain.grid.util.*;
 import org.gridgain.grid.util.offheap.unsafe.*;
+import org.gridgain.grid.util.typedef.internal.*;
 import org.h2.api.*;
 import org.h2.command.ddl.*;
 import org.h2.engine.*;
@@ -56,8 +58,11 @@ public class GridH2Table extends TableBase {
     /** */
     private final ArrayList<Index> idxs;
 
-    /** */
-    private final ReadWriteLock lock;
+    /**
+     * Index lock. Updates acquire read lock of a single stripe, so they can run concurrently,
+     * while snapshot taking and index rebuild acquire write locks of all stripes.
+     */
+    private final GridStripedReadWriteLock lock;
 
     /** */
     private final boolean manyUniqueIdxs;
@@ -97,7 +102,7 @@ public class GridH2Table extends TableBase {
         assert idxs != null;
         assert idxs.size() >= 1;
 
-        lock =  new ReentrantReadWriteLock();
+        lock = new GridStripedReadWriteLock(desc == null ? 1 : desc.spi().getIndexLockConcurrencyLevel());
 
         if (idxs.size() > 1) {
             int uniqueIndexesCnt = 0;
@@ -169,7 +174,9 @@ public class GridH2Table extends TableBase {
 
         GridUnsafeMemory mem = desc.memory();
 
-        lock.readLock().lock();
+        Lock l = updateLock();
+
+        l.lock();
 
         GridUnsafeMemory.Operation op = mem == null ? null : mem.begin(); // Begin concurrent unsafe memory operation.
 
@@ -187,7 +194,7 @@ public class GridH2Table extends TableBase {
             return true;
         }
         finally {
-            lock.readLock().unlock();
+            l.unlock();
 
             if (mem != null)
                 mem.end(op);
@@ -227,7 +234,7 @@ public class GridH2Table extends TableBase {
             }
 
             try {
-                if (lock.writeLock().tryLock(waitTime, TimeUnit.MILLISECONDS))
+                if (tryLockAll(waitTime))
                     break;
             }
             catch (InterruptedException e) {
@@ -250,7 +257,7 @@ public class GridH2Table extends TableBase {
             }
         }
         finally {
-            lock.writeLock().unlock();
+            unlockAll();
         }
 
         if (!snapshoted) {
@@ -308,19 +315,70 @@ public class GridH2Table extends TableBase {
      * Closes table and releases resources.
      */
     public void close() {
-        Lock l = lock.writeLock();
-
-        l.lock();
+        lockAll();
 
         try {
             for (int i = 1, len = idxs.size(); i < len; i++)
                 index(i).close();
         }
         finally {
-            l.unlock();
+            unlockAll();
         }
     }
 
+    /**
+     * Gets lock stripe for index update made by current thread.
+     *
+     * @return Update lock.
+     */
+    private Lock updateLock() {
+        return lock.getLock(Thread.currentThread().getId()).readLock();
+    }
+
+    /**
+     * Acquires write locks of all stripes.
+     */
+    private void lockAll() {
+        for (ReadWriteLock l : lock.getAllLocks())
+            l.writeLock().lock();
+    }
+
+    /**
+     * Tries to acquire write locks of all stripes within given time. If failed,
+     * releases all locks acquired so far.
+     *
+     * @param waitTime Wait time in milliseconds.
+     * @return {@code True} if all locks were acquired.
+     * @throws InterruptedException If interrupted.
+     */
+    @SuppressWarnings("LockAcquiredButNotSafelyReleased")
+    private boolean tryLockAll(long waitTime) throws InterruptedException {
+        ReadWriteLock[] locks = lock.getAllLocks();
+
+        long end = U.currentTimeMillis() + waitTime;
+
+        for (int i = 0; i < locks.length; i++) {
+            if (!locks[i].writeLock().tryLock(Math.max(end - U.currentTimeMillis(), 0), TimeUnit.MILLISECONDS)) {
+                for (int j = i - 1; j >= 0; j--)
+                    locks[j].writeLock().unlock();
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Releases write locks of all stripes.
+     */
+    private void unlockAll() {
+        ReadWriteLock[] locks = lock.getAllLocks();
+
+        for (int i = locks.length - 1; i >= 0; i--)
+            locks[i].writeLock().unlock();
+    }
+
     /**
      * Updates table for given key. If value is null then row with given key will be removed from table,
      * otherwise value and expiration time will be updated or new row will be added.
@@ -361,7 +419,9 @@ public class GridH2Table extends TableBase {
         // getting updated from different threads with different rows with the same key is impossible.
         GridUnsafeMemory mem = desc == null ? null : desc.memory();
 
-        lock.readLock().lock();
+        Lock l = updateLock();
+
+        l.lock();
 
         GridUnsafeMemory.Operation op = null;
 
@@ -471,13 +531,15 @@ public class GridH2Table extends TableBase {
                     return false;
             }
 
-            // The snapshot is not actual after update.
-            actualSnapshot = null;
+            // The snapshot is not actual after update. Check before write to avoid
+            // invalidating the cache line shared by all updating threads.
+            if (actualSnapshot != null)
+                actualSnapshot = null;
 
             return true;
         }
         finally {
-            lock.readLock().unlock();
+            l.unlock();
 
             if (mem != null)
                 mem.end(op);
@@ -516,7 +578,7 @@ public class GridH2Table extends TableBase {
     public void rebuildIndexes() {
         GridUnsafeMemory memory = desc == null ? null : desc.memory();
 
-        lock.writeLock().lock();
+        lockAll();
 
         try {
             if (memory == null && actualSnapshot == null)
@@ -535,7 +597,7 @@ public class GridH2Table extends TableBase {
             // No-op.
         }
         finally {
-            lock.writeLock().unlock();
+            unlockAll();
 
             actualSnapshot = null;
         }
@@ -0,0 +1,45 @@
+/* 
+ Copyright (C) GridGain Systems. All Rights Reserved.
+ 
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+ 
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+/*  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.gridgain.grid.spi.loadbalancing;
+
+import org.gridgain.grid.compute.*;
+
+import java.util.*;
+
+/**
+ * Optional interface for {@link GridLoadBalancingSpi} implementations that take outcomes of
+ * balanced jobs into account. If load balancing SPI of the task implements this interface,
+ * it is notified on task node about every received job result (including failed results and
+ * results of jobs which nodes left topology) before the result is passed to
+ * {@link GridComputeTask#result(GridComputeJobResult, List)}.
+ */
+public interface GridLoadBalancingJobResultListener extends EventListener {
+    /**
+     * Callback invoked when job result is received by task node.
+     *
+     * @param ses Task session.
+     * @param res Job result.
+     */
+    public void onJobResult(GridComputeTaskSession ses, GridComputeJobResult res);
+}
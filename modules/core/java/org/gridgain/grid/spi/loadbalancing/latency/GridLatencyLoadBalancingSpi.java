@@ -0,0 +1,573 @@
+/* 
+ Copyright (C) GridGain Systems. All Rights Reserved.
+ 
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+ 
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+/*  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.gridgain.grid.spi.loadbalancing.latency;
+
+import org.gridgain.grid.*;
+import org.gridgain.grid.compute.*;
+import org.gridgain.grid.events.*;
+import org.gridgain.grid.kernal.managers.eventstorage.*;
+import org.gridgain.grid.logger.*;
+import org.gridgain.grid.resources.*;
+import org.gridgain.grid.spi.*;
+import org.gridgain.grid.spi.loadbalancing.*;
+import org.gridgain.grid.util.typedef.internal.*;
+import org.jdk8.backport.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.gridgain.grid.events.GridEventType.*;
+
+/**
+ * Load balancing SPI that picks nodes based on job service times and numbers of jobs
+ * in flight observed locally on the node that maps jobs.
+ * <p>
+ * Unlike {@link org.gridgain.grid.spi.loadbalancing.adaptive.GridAdaptiveLoadBalancingSpi}, which relies
+ * on node metrics delivered with discovery heartbeats, this SPI does not exchange any
+ * information with other nodes. It listens to local job mapping events and job results and keeps
+ * exponentially weighted moving averages of job service time and failure rate and count of not
+ * yet completed jobs for every node, so it reacts to slow, overloaded or failing nodes as soon as
+ * their results are received. Only successful results contribute to service time, failed results
+ * (including rejected jobs and jobs which nodes left topology) increase failure rate, which
+ * inflates expected completion time of the node.
+ * <p>
+ * Every job is mapped using power-of-two-choices: two random nodes are picked from task
+ * topology and the one with smaller expected completion time, i.e. average service time
+ * multiplied by number of jobs in flight plus one and divided by success rate, is selected.
+ * Selected node is accounted as having one more job in flight right away, so that jobs mapped
+ * by the same {@link GridComputeTask#map(List, Object)} call are spread across nodes. Random
+ * sampling avoids herding all jobs to a single node when statistics are momentarily equal or stale.
+ * Nodes without recent service time are compared by number of jobs in flight and failure rate only.
+ * <p>
+ * Note that {@link GridEventType#EVT_JOB_MAPPED}, {@link GridEventType#EVT_JOB_FAILED_OVER},
+ * {@link GridEventType#EVT_TASK_FINISHED} and {@link GridEventType#EVT_TASK_FAILED} events
+ * must be enabled for this SPI.
+ * <h1 class="header">Configuration</h1>
+ * In order to use this load balancer, you should configure your grid instance
+ * to use {@code GridLatencyLoadBalancingSpi} either from Spring XML file or
+ * directly. The following configuration parameters are supported:
+ * <h2 class="header">Mandatory</h2>
+ * This SPI has no mandatory configuration parameters.
+ * <h2 class="header">Optional</h2>
+ * The following configuration parameters are optional:
+ * <ul>
+ * <li>Smoothing factor of service time moving average (see {@link #setSmoothingFactor(double)})</li>
+ * <li>Statistics expire time (see {@link #setStatisticsExpireTime(long)})</li>
+ * </ul>
+ * Below is Java configuration example:
+ * <pre name="code" class="java">
+ * GridLatencyLoadBalancingSpi spi = new GridLatencyLoadBalancingSpi();
+ *
+ * // React faster to service time changes.
+ * spi.setSmoothingFactor(0.5);
+ *
+ * GridConfiguration cfg = new GridConfiguration();
+ *
+ * // Override default load balancing SPI.
+ * cfg.setLoadBalancingSpi(spi);
+ *
+ * // Starts grid.
+ * G.start(cfg);
+ * </pre>
+ * Here is how you can configure {@code GridLatencyLoadBalancingSpi} using Spring XML configuration:
+ * <pre name="code" class="xml">
+ * &lt;property name="loadBalancingSpi"&gt;
+ *     &lt;bean class="org.gridgain.grid.spi.loadbalancing.latency.GridLatencyLoadBalancingSpi"&gt;
+ *         &lt;property name="smoothingFactor" value="0.5"/&gt;
+ *     &lt;/bean&gt;
+ * &lt;/property&gt;
+ * </pre>
+ * <p>
+ * <img src="http://www.gridgain.com/images/spring-small.png">
+ * <br>
+ * For information about Spring framework visit <a href="http://www.springframework.org/">www.springframework.org</a>
+ */
+@GridSpiInfo(
+    author = /*@java.spi.author*/"GridGain Systems",
+    url = /*@java.spi.url*/"www.gridgain.com",
+    email = /*@java.spi.email*/"support@gridgain.com",
+    version = /*@java.spi.version*/"x.x")
+@GridSpiMultipleInstancesSupport(true)
+public class GridLatencyLoadBalancingSpi extends GridSpiAdapter implements GridLoadBalancingSpi,
+    GridLoadBalancingJobResultListener, GridLatencyLoadBalancingSpiMBean {
+    /** Default smoothing factor of service time moving average (value is {@code 0.2}). */
+    public static final double DFLT_SMOOTHING_FACTOR = 0.2;
+
+    /** Default time after which node statistics are considered stale (value is {@code 10000}). */
+    public static final long DFLT_STATISTICS_EXPIRE_TIME = 10000;
+
+    /** Lower bound of success rate used to inflate expected completion time of failing nodes. */
+    private static final double MIN_SUCCESS_RATE = 0.01;
+
+    /** Grid logger. */
+    @GridLoggerResource private GridLogger log;
+
+    /** Smoothing factor. */
+    private double smoothing = DFLT_SMOOTHING_FACTOR;
+
+    /** Statistics expire time. */
+    private long statsExpireTime = DFLT_STATISTICS_EXPIRE_TIME;
+
+    /** Statistics of nodes jobs were mapped to. */
+    private final ConcurrentMap<UUID, NodeStatistics> nodeStats = new ConcurrentHashMap8<>();
+
+    /** Jobs in flight and nodes reserved for not yet mapped jobs grouped by task session ID. */
+    private final ConcurrentMap<GridUuid, TaskJobs> tasks = new ConcurrentHashMap8<>();
+
+    /** Event listener. */
+    private final GridLocalEventListener lsnr = new GridLocalEventListener() {
+        @Override public void onEvent(GridEvent evt) {
+            switch (evt.type()) {
+                case EVT_JOB_MAPPED:
+                case EVT_JOB_FAILED_OVER: {
+                    GridJobEvent jobEvt = (GridJobEvent)evt;
+
+                    // Task node ID of job event is ID of the node job was mapped to.
+                    onJobStarted(jobEvt.taskSessionId(), jobEvt.jobId(), jobEvt.taskNodeId());
+
+                    break;
+                }
+
+                case EVT_TASK_FINISHED:
+                case EVT_TASK_FAILED: {
+                    onTaskFinished(((GridTaskEvent)evt).taskSessionId());
+
+                    break;
+                }
+
+                default: {
+                    assert evt.type() == EVT_NODE_LEFT || evt.type() == EVT_NODE_FAILED;
+
+                    nodeStats.remove(((GridDiscoveryEvent)evt).eventNodeId());
+                }
+            }
+        }
+    };
+
+    /**
+     * Sets smoothing factor of job service time exponentially weighted moving average.
+     * Larger values make SPI react faster to service time changes, smaller values make
+     * it less sensitive to outliers. Must be greater than {@code 0} and not greater than
+     * {@code 1}.
+     * <p>
+     * If not provided, default value is {@link #DFLT_SMOOTHING_FACTOR}.
+     *
+     * @param smoothing Smoothing factor.
+     */
+    @GridSpiConfiguration(optional = true)
+    public void setSmoothingFactor(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    /** {@inheritDoc} */
+    @Override public double getSmoothingFactor() {
+        return smoothing;
+    }
+
+    /**
+     * Sets time in milliseconds after which service time of a node is considered stale if no
+     * new results were received from it. Nodes with stale statistics are compared by number
+     * of jobs in flight only, which lets nodes that were slow in the past get jobs again.
+     * <p>
+     * If not provided, default value is {@link #DFLT_STATISTICS_EXPIRE_TIME}.
+     *
+     * @param statsExpireTime Statistics expire time.
+     */
+    @GridSpiConfiguration(optional = true)
+    public void setStatisticsExpireTime(long statsExpireTime) {
+        this.statsExpireTime = statsExpireTime;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long getStatisticsExpireTime() {
+        return statsExpireTime;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getJobsInFlight() {
+        int cnt = 0;
+
+        for (NodeStatistics stats : nodeStats.values())
+            cnt += stats.inFlight.get();
+
+        return cnt;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void spiStart(@Nullable String gridName) throws GridSpiException {
+        startStopwatch();
+
+        assertParameter(smoothing > 0 && smoothing <= 1, "smoothing > 0 && smoothing <= 1");
+        assertParameter(statsExpireTime > 0, "statsExpireTime > 0");
+
+        if (log.isDebugEnabled()) {
+            log.debug(configInfo("smoothing", smoothing));
+            log.debug(configInfo("statsExpireTime", statsExpireTime));
+        }
+
+        registerMBean(gridName, this, GridLatencyLoadBalancingSpiMBean.class);
+
+        // Ack ok start.
+        if (log.isDebugEnabled())
+            log.debug(startInfo());
+    }
+
+    /** {@inheritDoc} */
+    @Override public void spiStop() throws GridSpiException {
+        nodeStats.clear();
+        tasks.clear();
+
+        unregisterMBean();
+
+        // Ack ok stop.
+        if (log.isDebugEnabled())
+            log.debug(stopInfo());
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void onContextInitialized0(GridSpiContext spiCtx) throws GridSpiException {
+        if (!getSpiContext().isEventRecordable(EVT_JOB_MAPPED, EVT_JOB_FAILED_OVER, EVT_TASK_FINISHED,
+            EVT_TASK_FAILED))
+            throw new GridSpiException("Required event types are disabled: " +
+                U.gridEventName(EVT_JOB_MAPPED) + ", " +
+                U.gridEventName(EVT_JOB_FAILED_OVER) + ", " +
+                U.gridEventName(EVT_TASK_FINISHED) + ", " +
+                U.gridEventName(EVT_TASK_FAILED));
+
+        getSpiContext().addLocalEventListener(lsnr, EVT_JOB_MAPPED, EVT_JOB_FAILED_OVER, EVT_TASK_FINISHED,
+            EVT_TASK_FAILED, EVT_NODE_LEFT, EVT_NODE_FAILED);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void onContextDestroyed0() {
+        GridSpiContext spiCtx = getSpiContext();
+
+        if (spiCtx != null)
+            spiCtx.removeLocalEventListener(lsnr);
+    }
+
+    /** {@inheritDoc} */
+    @Override public GridNode getBalancedNode(GridComputeTaskSession ses, List<GridNode> top, GridComputeJob job)
+        throws GridException {
+        A.notNull(ses, "ses", top, "top");
+
+        int size = top.size();
+
+        if (size == 0)
+            throw new GridException("Task topology does not have alive nodes: " + top);
+
+        GridNode node;
+
+        if (size == 1)
+            node = top.get(0);
+        else {
+            ThreadLocalRandom8 rnd = ThreadLocalRandom8.current();
+
+            int idx1 = rnd.nextInt(size);
+
+            // Pick second node distinct from the first one.
+            int idx2 = rnd.nextInt(size - 1);
+
+            if (idx2 >= idx1)
+                idx2++;
+
+            node = choose(top.get(idx1), top.get(idx2), rnd);
+        }
+
+        // Job mapped event is recorded only after task map() returns, so node is reserved
+        // right away for other jobs of the same map() call to see it.
+        NodeStatistics stats = statistics(node.id());
+
+        stats.inFlight.incrementAndGet();
+
+        task(ses.getId()).reserve(stats);
+
+        return node;
+    }
+
+    /**
+     * @param node1 First candidate.
+     * @param node2 Second candidate.
+     * @param rnd Random used to break ties.
+     * @return Node with smaller expected completion time.
+     */
+    private GridNode choose(GridNode node1, GridNode node2, ThreadLocalRandom8 rnd) {
+        NodeStatistics stats1 = nodeStats.get(node1.id());
+        NodeStatistics stats2 = nodeStats.get(node2.id());
+
+        long now = U.currentTimeMillis();
+
+        double time1 = stats1 == null ? -1 : stats1.averageTime(now, statsExpireTime);
+        double time2 = stats2 == null ? -1 : stats2.averageTime(now, statsExpireTime);
+
+        // If service time is unknown for one of nodes, compare by jobs in flight and failures only.
+        if (time1 < 0 || time2 < 0)
+            time1 = time2 = 1;
+
+        double cost1 = stats1 == null ? time1 :
+            (stats1.inFlight.get() + 1) * time1 / stats1.successRate(now, statsExpireTime);
+        double cost2 = stats2 == null ? time2 :
+            (stats2.inFlight.get() + 1) * time2 / stats2.successRate(now, statsExpireTime);
+
+        if (cost1 < cost2)
+            return node1;
+
+        if (cost2 < cost1)
+            return node2;
+
+        return rnd.nextBoolean() ? node1 : node2;
+    }
+
+    /**
+     * @param nodeId Node ID.
+     * @return Statistics for given node.
+     */
+    private NodeStatistics statistics(UUID nodeId) {
+        NodeStatistics stats = nodeStats.get(nodeId);
+
+        if (stats == null) {
+            NodeStatistics old = nodeStats.putIfAbsent(nodeId, stats = new NodeStatistics());
+
+            if (old != null)
+                stats = old;
+        }
+
+        return stats;
+    }
+
+    /**
+     * @param sesId Task session ID.
+     * @return Jobs of the task.
+     */
+    private TaskJobs task(GridUuid sesId) {
+        TaskJobs task = tasks.get(sesId);
+
+        if (task == null) {
+            TaskJobs old = tasks.putIfAbsent(sesId, task = new TaskJobs());
+
+            if (old != null)
+                task = old;
+        }
+
+        return task;
+    }
+
+    /**
+     * @param sesId Task session ID.
+     * @param jobId Job ID.
+     * @param nodeId ID of the node job was sent to.
+     */
+    private void onJobStarted(GridUuid sesId, GridUuid jobId, UUID nodeId) {
+        TaskJobs task = task(sesId);
+
+        NodeStatistics stats = statistics(nodeId);
+
+        JobStart old = task.jobs.put(jobId, new JobStart(stats, System.nanoTime()));
+
+        // Job in flight is already accounted if node was picked by this SPI.
+        if (!task.release(stats))
+            stats.inFlight.incrementAndGet();
+
+        // Job was failed over before its result was received.
+        if (old != null)
+            old.stats.inFlight.decrementAndGet();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onJobResult(GridComputeTaskSession ses, GridComputeJobResult res) {
+        TaskJobs task = tasks.get(ses.getId());
+
+        if (task == null)
+            return;
+
+        JobStart start = task.jobs.remove(res.getJobContext().getJobId());
+
+        if (start != null) {
+            start.stats.inFlight.decrementAndGet();
+
+            // Failed jobs (including rejected and failed over ones) usually complete fast,
+            // so they are not taken as service time samples.
+            start.stats.onResult(System.nanoTime() - start.time, res.getException() == null, smoothing,
+                statsExpireTime);
+        }
+    }
+
+    /**
+     * @param sesId Task session ID.
+     */
+    private void onTaskFinished(GridUuid sesId) {
+        TaskJobs task = tasks.remove(sesId);
+
+        // Results of remaining jobs will not be processed.
+        if (task != null) {
+            for (JobStart start : task.jobs.values())
+                start.stats.inFlight.decrementAndGet();
+
+            // Nodes were picked, but jobs were not mapped to them.
+            for (Map.Entry<NodeStatistics, AtomicInteger> e : task.reserved.entrySet())
+                e.getKey().inFlight.addAndGet(-e.getValue().get());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridLatencyLoadBalancingSpi.class, this);
+    }
+
+    /**
+     * Job start.
+     */
+    private static class JobStart {
+        /** Statistics of the node job was sent to. */
+        private final NodeStatistics stats;
+
+        /** Start time in nanoseconds. */
+        private final long time;
+
+        /**
+         * @param stats Statistics of the node job was sent to.
+         * @param time Start time in nanoseconds.
+         */
+        private JobStart(NodeStatistics stats, long time) {
+            this.stats = stats;
+            this.time = time;
+        }
+    }
+
+    /**
+     * Jobs of a task.
+     */
+    private static class TaskJobs {
+        /** Jobs in flight. */
+        private final ConcurrentMap<GridUuid, JobStart> jobs = new ConcurrentHashMap8<>();
+
+        /** Numbers of jobs in flight accounted for nodes picked by SPI, which mapped events are not received yet. */
+        private final ConcurrentMap<NodeStatistics, AtomicInteger> reserved = new ConcurrentHashMap8<>();
+
+        /**
+         * @param stats Statistics of picked node.
+         */
+        void reserve(NodeStatistics stats) {
+            AtomicInteger cnt = reserved.get(stats);
+
+            if (cnt == null) {
+                AtomicInteger old = reserved.putIfAbsent(stats, cnt = new AtomicInteger());
+
+                if (old != null)
+                    cnt = old;
+            }
+
+            cnt.incrementAndGet();
+        }
+
+        /**
+         * @param stats Statistics of the node job was mapped to.
+         * @return {@code True} if job was already accounted by reservation.
+         */
+        boolean release(NodeStatistics stats) {
+            AtomicInteger cnt = reserved.get(stats);
+
+            if (cnt == null)
+                return false;
+
+            while (true) {
+                int c = cnt.get();
+
+                if (c == 0)
+                    return false;
+
+                if (cnt.compareAndSet(c, c - 1))
+                    return true;
+            }
+        }
+    }
+
+    /**
+     * Node statistics.
+     */
+    private static class NodeStatistics {
+        /** Number of jobs in flight. */
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        /** Moving average of job service time in nanoseconds, {@code -1} if unknown. */
+        private volatile double avgTime = -1;
+
+        /** Moving average of job failure rate. */
+        private volatile double failRate;
+
+        /** Time of last service time sample. */
+        private volatile long sampleTime;
+
+        /** Time of last result. */
+        private volatile long resTime;
+
+        /**
+         * @param time Time passed since job was mapped in nanoseconds.
+         * @param success Whether job completed successfully.
+         * @param smoothing Smoothing factor.
+         * @param expireTime Statistics expire time.
+         */
+        synchronized void onResult(long time, boolean success, double smoothing, long expireTime) {
+            long now = U.currentTimeMillis();
+
+            // Let node that failed in the past start over.
+            if (now - resTime > expireTime)
+                failRate = 0;
+
+            if (success) {
+                double avg = avgTime;
+
+                avgTime = avg < 0 ? time : avg + smoothing * (time - avg);
+
+                sampleTime = now;
+            }
+
+            failRate += smoothing * ((success ? 0 : 1) - failRate);
+
+            resTime = now;
+        }
+
+        /**
+         * @param now Current time.
+         * @param expireTime Statistics expire time.
+         * @return Success rate, {@code 1} if it is unknown or stale.
+         */
+        double successRate(long now, long expireTime) {
+            return now - resTime <= expireTime ? Math.max(1 - failRate, MIN_SUCCESS_RATE) : 1;
+        }
+
+        /**
+         * @param now Current time.
+         * @param expireTime Statistics expire time.
+         * @return Average service time or {@code -1} if it is unknown or stale.
+         */
+        double averageTime(long now, long expireTime) {
+            double avg = avgTime;
+
+            return avg >= 0 && now - sampleTime <= expireTime ? avg : -1;
+        }
+    }
+}
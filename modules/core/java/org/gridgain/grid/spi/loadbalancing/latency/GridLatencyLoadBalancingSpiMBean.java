@@ -0,0 +1,57 @@
+/* 
+ Copyright (C) GridGain Systems. All Rights Reserved.
+ 
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+ 
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+/*  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.gridgain.grid.spi.loadbalancing.latency;
+
+import org.gridgain.grid.spi.*;
+import org.gridgain.grid.util.mbean.*;
+
+/**
+ * Management MBean for {@link GridLatencyLoadBalancingSpi} SPI.
+ */
+@GridMBeanDescription("MBean that provides access to latency-driven load balancing SPI configuration.")
+public interface GridLatencyLoadBalancingSpiMBean extends GridSpiManagementMBean {
+    /**
+     * Gets smoothing factor of job service time moving average.
+     *
+     * @return Smoothing factor.
+     */
+    @GridMBeanDescription("Smoothing factor of job service time moving average.")
+    public double getSmoothingFactor();
+
+    /**
+     * Gets time in milliseconds after which node service time statistics are considered stale.
+     *
+     * @return Statistics expire time.
+     */
+    @GridMBeanDescription("Time in milliseconds after which node service time statistics are considered stale.")
+    public long getStatisticsExpireTime();
+
+    /**
+     * Gets number of jobs mapped from this node for which results are not received yet.
+     *
+     * @return Number of jobs in flight.
+     */
+    @GridMBeanDescription("Number of jobs mapped from this node for which results are not received yet.")
+    public int getJobsInFlight();
+}
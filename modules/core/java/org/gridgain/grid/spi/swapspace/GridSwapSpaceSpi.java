@@ -27,6 +27,7 @@ import org.gridgain.grid.*;
 import org.gridgain.grid.lang.*;
 import org.gridgain.grid.spi.*;
 import org.gridgain.grid.spi.swapspace.file.*;
+import org.gridgain.grid.spi.swapspace.mmap.*;
 import org.gridgain.grid.spi.swapspace.noop.*;
 import org.jetbrains.annotations.*;
 
@@ -49,6 +50,10 @@ import java.util.*;
  *     {@link GridFileSwapSpaceSpi} - pure Java implementation with in-memory keys. This SPI is used by default.
  * </li>
  * <li>
+ *     {@link GridMmapSwapSpaceSpi} - implementation which appends values to memory-mapped segment files
+ *     and compacts them incrementally.
+ * </li>
+ * <li>
  *     {@link GridNoopSwapSpaceSpi} - no-op SPI mainly for testing.
  * </li>
  * </ul>
@@ -0,0 +1,1258 @@
+/* 
+ Copyright (C) GridGain Systems. All Rights Reserved.
+ 
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+ 
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+/*  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+package org.gridgain.grid.spi.swapspace.mmap;
+
+import org.gridgain.grid.*;
+import org.gridgain.grid.lang.*;
+import org.gridgain.grid.logger.*;
+import org.gridgain.grid.marshaller.*;
+import org.gridgain.grid.resources.*;
+import org.gridgain.grid.spi.*;
+import org.gridgain.grid.spi.swapspace.*;
+import org.gridgain.grid.spi.swapspace.file.*;
+import org.gridgain.grid.util.*;
+import org.gridgain.grid.util.typedef.*;
+import org.gridgain.grid.util.typedef.internal.*;
+import org.gridgain.grid.util.tostring.*;
+import org.jdk8.backport.*;
+import org.jetbrains.annotations.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
+
+import static org.gridgain.grid.events.GridEventType.*;
+
+/**
+ * Swap space SPI implementation which appends values to memory-mapped segment files and
+ * keeps keys in memory.
+ * <p>
+ * Every space is a log of fixed-size segments. Values are always appended to the single active
+ * segment of the space, and once it is full it gets sealed and a new one is mapped. Reads
+ * are served directly from the mapping without any system calls or file positioning, which
+ * makes random swap-in noticeably cheaper than in {@link GridFileSwapSpaceSpi}.
+ * <p>
+ * Overwritten and removed values leave garbage in sealed segments. Compaction is incremental:
+ * background compactor picks the most sparse sealed segment, moves its live values to the
+ * active segment and deletes the segment file, so only one segment is rewritten at a time.
+ * <p>
+ * Every space has a name and when used in combination with in-memory data grid name and local node ID,
+ * space name represents the actual cache name associated with this swap space. Default name is {@code null}
+ * which is represented by {@link #DFLT_SPACE_NAME}.
+ *
+ * <h1 class="header">Configuration</h1>
+ * <h2 class="header">Mandatory</h2>
+ * This SPI has no mandatory configuration parameters.
+ * <h2 class="header">Optional SPI configuration.</h2>
+ * <ul>
+ *     <li>Base directory path (see {@link #setBaseDirectory(String)}).</li>
+ *     <li>Segment size in bytes (see {@link #setSegmentSize(int)}).</li>
+ *     <li>Maximum sparsity (see {@link #setMaximumSparsity(float)}).</li>
+ * </ul>
+ *
+ * <h2 class="header">Java Example</h2>
+ * <pre name="code" class="java">
+ * GridMmapSwapSpaceSpi spi = new GridMmapSwapSpaceSpi();
+ *
+ * // Configure root folder path.
+ * spi.setBaseDirectory("/path/to/swap/folder");
+ *
+ * GridConfiguration cfg = new GridConfiguration();
+ *
+ * // Override default swap space SPI.
+ * cfg.setSwapSpaceSpi(spi);
+ *
+ * // Starts grid.
+ * G.start(cfg);
+ * </pre>
+ * <h2 class="header">Spring Example</h2>
+ * GridMmapSwapSpaceSpi can be configured from Spring XML configuration file:
+ * <pre name="code" class="xml">
+ * &lt;bean id=&quot;grid.cfg&quot; class=&quot;org.gridgain.grid.GridConfiguration&quot; scope=&quot;singleton&quot;&gt;
+ *     ...
+ *     &lt;property name=&quot;swapSpaceSpi&quot;&gt;
+ *         &lt;bean class=&quot;org.gridgain.grid.spi.swapspace.mmap.GridMmapSwapSpaceSpi&quot;&gt;
+ *             &lt;property name=&quot;baseDirectory&quot; value=&quot;/path/to/swap/folder&quot;/&gt;
+ *             &lt;property name=&quot;segmentSize&quot; value=&quot;67108864&quot;/&gt;
+ *         &lt;/bean&gt;
+ *     &lt;/property&gt;
+ *     ...
+ * &lt;/bean&gt;
+ * </pre>
+ * <p>
+ * <img src="http://www.gridgain.com/images/spring-small.png">
+ * <br>
+ * For information about Spring framework visit <a href="http://www.springframework.org/">www.springframework.org</a>
+ * @see GridSwapSpaceSpi
+ */
+@GridSpiInfo(
+    author = /*@java.spi.author*/"GridGain Systems",
+    url = /*@java.spi.url*/"www.gridgain.com",
+    email = /*@java.spi.email*/"support@gridgain.com",
+    version = /*@java.spi.version*/"x.x")
+@GridSpiMultipleInstancesSupport(true)
+public class GridMmapSwapSpaceSpi extends GridSpiAdapter implements GridSwapSpaceSpi, GridMmapSwapSpaceSpiMBean {
+    /** Default base directory. */
+    public static final String DFLT_BASE_DIR = "work/swapspace";
+
+    /**
+     * Default directory name for SPI when {@code GRIDGAIN_HOME} not defined.
+     * This directory name relative to file path in {@code java.io.tmpdir} system property value.
+     */
+    private static final String DFLT_TMP_DIR = ".gg.mmap.ss";
+
+    /** Default segment size in bytes. */
+    public static final int DFLT_SEG_SIZE = 64 * 1024 * 1024;
+
+    /** Default maximum sparsity. */
+    public static final float DFLT_MAX_SPARSITY = 0.5f;
+
+    /** Name for {@code null} space. */
+    public static final String DFLT_SPACE_NAME = "gg-dflt-space";
+
+    /** Compactor wake up period in milliseconds when nothing is signalled. */
+    private static final long COMPACT_CHECK_FREQ = 1000;
+
+    /** Spaces. */
+    private final ConcurrentMap<String, Space> spaces = new ConcurrentHashMap<>();
+
+    /** Number of compacted segments. */
+    private final AtomicLong compactedCnt = new AtomicLong();
+
+    /** Base directory. */
+    private String baseDir = DFLT_BASE_DIR;
+
+    /** Segment size. */
+    private int segSize = DFLT_SEG_SIZE;
+
+    /** Maximum sparsity. */
+    private float maxSparsity = DFLT_MAX_SPARSITY;
+
+    /** Eviction listener. */
+    private volatile GridSwapSpaceSpiListener evictLsnr;
+
+    /** Directory. */
+    private File dir;
+
+    /** Logger. */
+    @GridLoggerResource
+    private GridLogger log;
+
+    /** Local node ID. */
+    @GridLocalNodeIdResource
+    private UUID locNodeId;
+
+    /** Name of the grid. */
+    @GridNameResource
+    private String gridName;
+
+    /** Marshaller. */
+    @GridMarshallerResource
+    private GridMarshaller marsh;
+
+    /** {@inheritDoc} */
+    @Override public String getBaseDirectory() {
+        return baseDir;
+    }
+
+    /**
+     * Sets base directory.
+     *
+     * @param baseDir Base directory.
+     */
+    @GridSpiConfiguration(optional = true)
+    public void setBaseDirectory(String baseDir) {
+        this.baseDir = baseDir;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getSegmentSize() {
+        return segSize;
+    }
+
+    /**
+     * Sets segment size in bytes. Every segment file is mapped into memory as a whole, values
+     * larger than segment size get a dedicated segment. Default is {@link #DFLT_SEG_SIZE}.
+     *
+     * @param segSize Segment size in bytes.
+     */
+    @GridSpiConfiguration(optional = true)
+    public void setSegmentSize(int segSize) {
+        this.segSize = segSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override public float getMaximumSparsity() {
+        return maxSparsity;
+    }
+
+    /**
+     * Sets maximum sparsity. This property defines maximum acceptable wasted space to used space ratio
+     * of a sealed segment. When this ratio becomes higher than specified number the segment is compacted.
+     *
+     * @param maxSparsity Maximum sparsity. Must be between 0 and 1, default is {@link #DFLT_MAX_SPARSITY}.
+     */
+    @GridSpiConfiguration(optional = true)
+    public void setMaximumSparsity(float maxSparsity) {
+        this.maxSparsity = maxSparsity;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getSegmentsCount() {
+        int cnt = 0;
+
+        for (Space space : spaces.values())
+            cnt += space.segs.size();
+
+        return cnt;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long getCompactedSegmentsCount() {
+        return compactedCnt.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void spiStart(@Nullable String gridName) throws GridSpiException {
+        assertParameter(!F.isEmpty(baseDir), "!F.isEmpty(baseDir)");
+        assertParameter(segSize > 0, "segSize > 0");
+        assertParameter(maxSparsity >= 0 && maxSparsity < 1, "maxSparsity >= 0 && maxSparsity < 1");
+
+        startStopwatch();
+
+        registerMBean(gridName, this, GridMmapSwapSpaceSpiMBean.class);
+
+        String path = baseDir + File.separator + gridName + File.separator + locNodeId;
+
+        try {
+            dir = U.resolveWorkDirectory(path, DFLT_TMP_DIR, false, true);
+        }
+        catch (GridException e) {
+            throw new GridSpiException(e);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(configInfo("baseDir", baseDir));
+            log.debug(configInfo("segSize", segSize));
+            log.debug(configInfo("maxSparsity", maxSparsity));
+        }
+
+        if (log.isDebugEnabled())
+            log.debug(startInfo());
+    }
+
+    /** {@inheritDoc} */
+    @Override public void spiStop() throws GridSpiException {
+        unregisterMBean();
+
+        for (Space space : spaces.values()) {
+            try {
+                space.stop();
+            }
+            catch (GridInterruptedException e) {
+                U.error(log, "Interrupted.", e);
+            }
+        }
+
+        if (dir != null && dir.exists() && !U.delete(dir))
+            U.warn(log, "Failed to delete swap directory: " + dir.getAbsolutePath());
+
+        if (log.isDebugEnabled())
+            log.debug(stopInfo());
+    }
+
+    /** {@inheritDoc} */
+    @Override public void clear(@Nullable String spaceName) throws GridSpiException {
+        Space space = space(spaceName, false);
+
+        if (space == null)
+            return;
+
+        space.clear();
+
+        notifyListener(EVT_SWAP_SPACE_CLEARED, spaceName);
+    }
+
+    /** {@inheritDoc} */
+    @Override public long size(@Nullable String spaceName) throws GridSpiException {
+        Space space = space(spaceName, false);
+
+        if (space == null)
+            return 0;
+
+        return space.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long count(@Nullable String spaceName) throws GridSpiException {
+        Space space = space(spaceName, false);
+
+        if (space == null)
+            return 0;
+
+        return space.count();
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override public byte[] read(@Nullable String spaceName, GridSwapKey key, GridSwapContext ctx)
+        throws GridSpiException {
+        assert key != null;
+        assert ctx != null;
+
+        Space space = space(spaceName, false);
+
+        if (space == null)
+            return null;
+
+        byte[] val = space.read(key);
+
+        notifyListener(EVT_SWAP_SPACE_DATA_READ, spaceName);
+
+        return val;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Map<GridSwapKey, byte[]> readAll(@Nullable String spaceName, Iterable<GridSwapKey> keys,
+        GridSwapContext ctx) throws GridSpiException {
+        assert keys != null;
+        assert ctx != null;
+
+        Space space = space(spaceName, false);
+
+        if (space == null)
+            return Collections.emptyMap();
+
+        Map<GridSwapKey, byte[]> res = new HashMap<>();
+
+        for (GridSwapKey key : keys) {
+            if (key != null) {
+                byte[] val = space.read(key);
+
+                if (val != null)
+                    res.put(key, val);
+
+                notifyListener(EVT_SWAP_SPACE_DATA_READ, spaceName);
+            }
+        }
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void remove(@Nullable String spaceName, GridSwapKey key, @Nullable GridInClosure<byte[]> c,
+        GridSwapContext ctx) throws GridSpiException {
+        assert key != null;
+        assert ctx != null;
+
+        Space space = space(spaceName, false);
+
+        if (space == null)
+            return;
+
+        byte[] val = space.remove(key, c != null);
+
+        if (c != null)
+            c.apply(val);
+
+        notifyListener(EVT_SWAP_SPACE_DATA_REMOVED, spaceName);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void removeAll(@Nullable String spaceName, Collection<GridSwapKey> keys,
+        @Nullable GridBiInClosure<GridSwapKey, byte[]> c, GridSwapContext ctx) throws GridSpiException {
+        assert keys != null;
+        assert ctx != null;
+
+        Space space = space(spaceName, false);
+
+        if (space == null)
+            return;
+
+        for (GridSwapKey key : keys) {
+            if (key != null) {
+                byte[] val = space.remove(key, c != null);
+
+                if (c != null)
+                    c.apply(key, val);
+
+                notifyListener(EVT_SWAP_SPACE_DATA_REMOVED, spaceName);
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void store(@Nullable String spaceName, GridSwapKey key, @Nullable byte[] val,
+        GridSwapContext ctx) throws GridSpiException {
+        assert key != null;
+        assert ctx != null;
+
+        Space space = space(spaceName, true);
+
+        assert space != null;
+
+        space.store(key, val);
+
+        notifyListener(EVT_SWAP_SPACE_DATA_STORED, spaceName);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void storeAll(@Nullable String spaceName, Map<GridSwapKey, byte[]> pairs,
+        GridSwapContext ctx) throws GridSpiException {
+        assert pairs != null;
+        assert ctx != null;
+
+        Space space = space(spaceName, true);
+
+        assert space != null;
+
+        for (Map.Entry<GridSwapKey, byte[]> pair : pairs.entrySet()) {
+            GridSwapKey key = pair.getKey();
+
+            if (key != null) {
+                space.store(key, pair.getValue());
+
+                notifyListener(EVT_SWAP_SPACE_DATA_STORED, spaceName);
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void setListener(@Nullable GridSwapSpaceSpiListener evictLsnr) {
+        this.evictLsnr = evictLsnr;
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override public Collection<Integer> partitions(@Nullable String spaceName)
+        throws GridSpiException {
+        Space space = space(spaceName, false);
+
+        if (space == null)
+            return null;
+
+        return space.partitions();
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override public <K> GridSpiCloseableIterator<K> keyIterator(@Nullable String spaceName,
+        GridSwapContext ctx) throws GridSpiException {
+        final Space space = space(spaceName, false);
+
+        if (space == null)
+            return null;
+
+        final Iterator<Map.Entry<GridSwapKey, byte[]>> iter = space.entriesIterator();
+
+        return new GridCloseableIteratorAdapter<K>() {
+            @Override protected boolean onHasNext() {
+                return iter.hasNext();
+            }
+
+            @Override protected K onNext() {
+                return (K)iter.next().getKey().key();
+            }
+
+            @Override protected void onRemove() {
+                iter.remove();
+            }
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override public GridSpiCloseableIterator<Map.Entry<byte[], byte[]>> rawIterator(
+        @Nullable String spaceName) throws GridSpiException {
+        Space space = space(spaceName, false);
+
+        if (space == null)
+            return null;
+
+        return rawIterator(space.entriesIterator());
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override public GridSpiCloseableIterator<Map.Entry<byte[], byte[]>> rawIterator(
+        @Nullable String spaceName, int part) throws GridSpiException {
+        Space space = space(spaceName, false);
+
+        if (space == null)
+            return null;
+
+        return rawIterator(space.entriesIterator(part));
+    }
+
+    /**
+     * Creates raw iterator based on provided entries iterator.
+     *
+     * @param iter Entries iterator.
+     * @return Raw iterator.
+     */
+    private GridSpiCloseableIterator<Map.Entry<byte[], byte[]>> rawIterator(
+        final Iterator<Map.Entry<GridSwapKey, byte[]>> iter) {
+        return new GridCloseableIteratorAdapter<Map.Entry<byte[], byte[]>>() {
+            @Override protected Map.Entry<byte[], byte[]> onNext() throws GridException {
+                Map.Entry<GridSwapKey, byte[]> x = iter.next();
+
+                return new T2<>(keyBytes(x.getKey()), x.getValue());
+            }
+
+            @Override protected boolean onHasNext() {
+                return iter.hasNext();
+            }
+
+            @Override protected void onRemove() {
+                iter.remove();
+            }
+        };
+    }
+
+    /**
+     * Gets key bytes.
+     *
+     * @param key Swap key.
+     * @return Key bytes.
+     * @throws GridSpiException In case of error.
+     */
+    private byte[] keyBytes(GridSwapKey key) throws GridSpiException {
+        assert key != null;
+
+        byte[] keyBytes = key.keyBytes();
+
+        if (keyBytes == null) {
+            try {
+                keyBytes = marsh.marshal(key.key());
+            }
+            catch (GridException e) {
+                throw new GridSpiException("Failed to marshal key: " + key.key(), e);
+            }
+
+            key.keyBytes(keyBytes);
+        }
+
+        return keyBytes;
+    }
+
+    /**
+     * Notifies eviction listener.
+     *
+     * @param evtType Event type.
+     * @param spaceName Space name.
+     */
+    private void notifyListener(int evtType, @Nullable String spaceName) {
+        GridSwapSpaceSpiListener lsnr = evictLsnr;
+
+        if (lsnr != null)
+            lsnr.onSwapEvent(evtType, spaceName, null);
+    }
+
+    /**
+     * Gets space by name.
+     *
+     * @param name Space name.
+     * @param create Whether to create space if it doesn't exist.
+     * @return Space.
+     * @throws GridSpiException In case of error.
+     */
+    @Nullable private Space space(@Nullable String name, boolean create) throws GridSpiException {
+        String masked = name != null ? name : DFLT_SPACE_NAME;
+
+        assert masked != null;
+
+        Space space = spaces.get(masked);
+
+        if (space == null && create) {
+            validateName(name);
+
+            Space old = spaces.putIfAbsent(masked, space = new Space(masked));
+
+            if (old != null)
+                space = old;
+        }
+
+        if (space != null)
+            space.initialize();
+
+        return space;
+    }
+
+    /**
+     * Validates space name.
+     *
+     * @param name Space name.
+     * @throws GridSpiException If name is invalid.
+     */
+    private void validateName(@Nullable String name) throws GridSpiException {
+        if (name == null)
+            return;
+
+        if (name.isEmpty())
+            throw new GridSpiException("Space name cannot be empty: " + name);
+        else if (DFLT_SPACE_NAME.equalsIgnoreCase(name))
+            throw new GridSpiException("Space name is reserved for default space: " + name);
+        else if (name.contains("/") || name.contains("\\"))
+            throw new GridSpiException("Space name contains invalid characters: " + name);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridMmapSwapSpaceSpi.class, this);
+    }
+
+    /**
+     * Location of a value in segment log. Instances are immutable and compared by identity,
+     * so relocation by compactor is a simple compare-and-set in partition map.
+     */
+    private static class Location {
+        /** Segment. */
+        private final Segment seg;
+
+        /** Offset within segment. */
+        private final int off;
+
+        /** Value length. */
+        private final int len;
+
+        /**
+         * @param seg Segment.
+         * @param off Offset within segment.
+         * @param len Value length.
+         */
+        private Location(Segment seg, int off, int len) {
+            this.seg = seg;
+            this.off = off;
+            this.len = len;
+        }
+
+        /**
+         * @return Value bytes.
+         */
+        byte[] value() {
+            return seg.read(off, len);
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(Location.class, this);
+        }
+    }
+
+    /**
+     * Memory-mapped segment file. Segment is written only by the thread holding space write
+     * lock and is never written after it gets sealed.
+     */
+    private static class Segment {
+        /** Segment ID. */
+        private final int id;
+
+        /** Segment file. */
+        private final File file;
+
+        /** Mapped buffer. */
+        private final MappedByteBuffer buf;
+
+        /** Segment capacity. */
+        private final int cap;
+
+        /** Number of live bytes. */
+        private final AtomicLong live = new AtomicLong();
+
+        /** Keys of live values by their locations, used by compaction. */
+        @GridToStringExclude
+        private final ConcurrentMap<Location, GridSwapKey> liveKeys = new ConcurrentHashMap8<>();
+
+        /** Whether compactor should skip segment until it changes (e.g. after incomplete compaction). */
+        private volatile boolean skip;
+
+        /** Write position. */
+        private volatile int pos;
+
+        /** Whether segment is full and no longer written. */
+        private volatile boolean sealed;
+
+        /**
+         * @param id Segment ID.
+         * @param file Segment file.
+         * @param cap Segment capacity.
+         * @throws GridSpiException If failed to create or map segment file.
+         */
+        private Segment(int id, File file, int cap) throws GridSpiException {
+            this.id = id;
+            this.file = file;
+            this.cap = cap;
+
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(cap);
+
+                // Mapping stays valid after channel is closed.
+                buf = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, cap);
+            }
+            catch (IOException e) {
+                throw new GridSpiException("Failed to map swap segment: " + file.getAbsolutePath(), e);
+            }
+        }
+
+        /**
+         * @param len Value length.
+         * @return {@code True} if value of given length fits into segment.
+         */
+        boolean hasRoom(int len) {
+            return cap - pos >= len;
+        }
+
+        /**
+         * Appends value to segment.
+         *
+         * @param val Value.
+         * @return Offset of appended value.
+         */
+        int append(byte[] val) {
+            assert !sealed;
+            assert hasRoom(val.length);
+
+            int off = pos;
+
+            ByteBuffer b = buf.duplicate();
+
+            b.position(off);
+            b.put(val);
+
+            live.addAndGet(val.length);
+
+            pos = off + val.length;
+
+            return off;
+        }
+
+        /**
+         * Marks value as garbage.
+         *
+         * @param loc Location of removed, overwritten or relocated value.
+         */
+        void release(Location loc) {
+            assert loc.seg == this;
+
+            liveKeys.remove(loc);
+
+            live.addAndGet(-loc.len);
+
+            skip = false;
+        }
+
+        /**
+         * Reads value straight from the mapping.
+         *
+         * @param off Offset.
+         * @param len Length.
+         * @return Value bytes.
+         */
+        byte[] read(int off, int len) {
+            byte[] val = new byte[len];
+
+            ByteBuffer b = buf.duplicate();
+
+            b.position(off);
+            b.get(val);
+
+            return val;
+        }
+
+        /**
+         * @return Fraction of written bytes that are no longer referenced.
+         */
+        float sparsity() {
+            int written = pos;
+
+            return written == 0 ? 0 : (written - live.get()) / (float)written;
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(Segment.class, this, "file", file.getName());
+        }
+    }
+
+    /**
+     * Space.
+     */
+    private class Space {
+        /** Space name. */
+        private final String name;
+
+        /** */
+        private final GridAtomicInitializer<Void> initializer = new GridAtomicInitializer<>();
+
+        /** Partitions. */
+        private final ConcurrentMap<Integer, ConcurrentMap<GridSwapKey, Location>> parts =
+            new ConcurrentHashMap8<>();
+
+        /** Segments by ID. */
+        private final ConcurrentMap<Integer, Segment> segs = new ConcurrentHashMap8<>();
+
+        /** Write lock, guards active segment and appends. */
+        private final Object mux = new Object();
+
+        /** Total count. */
+        private final AtomicLong cnt = new AtomicLong();
+
+        /** Active segment. */
+        private Segment active;
+
+        /** Segment ID generator. Guarded by {@link #mux}. */
+        private int segIdGen;
+
+        /** Compactor. */
+        private Thread compactor;
+
+        /**
+         * @param name Space name.
+         */
+        private Space(String name) {
+            assert name != null;
+
+            this.name = name;
+        }
+
+        /**
+         * Initializes space.
+         *
+         * @throws GridSpiException If initialization failed.
+         */
+        public void initialize() throws GridSpiException {
+            if (initializer.succeeded())
+                return;
+
+            assert dir.exists();
+            assert dir.isDirectory();
+
+            try {
+                initializer.init(new Callable<Void>() {
+                    @Override public Void call() throws Exception {
+                        compactor = new GridSpiThread(gridName, "Swap compactor: " + name, log) {
+                            @Override protected void body() throws InterruptedException {
+                                while (!isInterrupted()) {
+                                    Segment seg = nextToCompact();
+
+                                    if (seg == null) {
+                                        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(COMPACT_CHECK_FREQ));
+
+                                        continue;
+                                    }
+
+                                    try {
+                                        compact(seg);
+                                    }
+                                    catch (GridSpiException e) {
+                                        U.error(log, "Failed to compact swap segment (will retry): " + seg, e);
+
+                                        // Back off, failure is most likely caused by lack of disk space.
+                                        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(COMPACT_CHECK_FREQ));
+                                    }
+                                }
+                            }
+                        };
+
+                        compactor.start();
+
+                        return null;
+                    }
+                });
+            }
+            catch (GridException e) {
+                throw new GridSpiException(e);
+            }
+        }
+
+        /**
+         * Gets total space size in bytes.
+         *
+         * @return Total size.
+         */
+        public long size() {
+            long size = 0;
+
+            for (Segment seg : segs.values())
+                size += seg.pos;
+
+            return size;
+        }
+
+        /**
+         * Gets total space count.
+         *
+         * @return Total count.
+         */
+        public long count() {
+            return cnt.get();
+        }
+
+        /**
+         * Clears space.
+         *
+         * @throws GridSpiException If failed.
+         */
+        public void clear() throws GridSpiException {
+            for (ConcurrentMap<GridSwapKey, Location> part : parts.values()) {
+                for (GridSwapKey key : part.keySet())
+                    remove(key, false);
+            }
+        }
+
+        /**
+         * Stops space.
+         *
+         * @throws GridInterruptedException If interrupted.
+         */
+        public void stop() throws GridInterruptedException {
+            if (initializer.succeeded()) {
+                U.interrupt(compactor);
+
+                U.join(compactor);
+            }
+
+            for (Segment seg : segs.values())
+                deleteSegment(seg);
+        }
+
+        /**
+         * Stores value in space.
+         *
+         * @param key Key.
+         * @param val Value.
+         * @throws GridSpiException In case of error.
+         */
+        public void store(GridSwapKey key, @Nullable byte[] val) throws GridSpiException {
+            assert key != null;
+
+            ConcurrentMap<GridSwapKey, Location> part = partition(key.partition(), true);
+
+            assert part != null;
+
+            if (val == null) {
+                Location old = part.remove(key);
+
+                if (old != null) {
+                    cnt.decrementAndGet();
+
+                    release(old);
+                }
+
+                return;
+            }
+
+            Location loc = append(key, val);
+
+            Location old = part.put(key, loc);
+
+            // Segment might have been compacted before this value was published.
+            if (loc.seg.sealed)
+                loc.seg.skip = false;
+
+            if (old != null)
+                release(old);
+            else
+                cnt.incrementAndGet();
+        }
+
+        /**
+         * Reads value from space.
+         *
+         * @param key Key.
+         * @return Value.
+         * @throws GridSpiException In case of error.
+         */
+        @Nullable public byte[] read(GridSwapKey key) throws GridSpiException {
+            assert key != null;
+
+            Map<GridSwapKey, Location> part = partition(key.partition(), false);
+
+            if (part == null)
+                return null;
+
+            Location loc = part.get(key);
+
+            // Segment of a relocated value may be already deleted, but
+            // its mapping stays valid while we hold reference to it.
+            return loc == null ? null : loc.value();
+        }
+
+        /**
+         * Removes value from space.
+         *
+         * @param key Key.
+         * @param read If value has to be read.
+         * @return Value.
+         * @throws GridSpiException In case of error.
+         */
+        @Nullable public byte[] remove(GridSwapKey key, boolean read) throws GridSpiException {
+            assert key != null;
+
+            Map<GridSwapKey, Location> part = partition(key.partition(), false);
+
+            if (part == null)
+                return null;
+
+            Location loc = part.remove(key);
+
+            if (loc == null)
+                return null;
+
+            cnt.decrementAndGet();
+
+            byte[] bytes = read ? loc.value() : null;
+
+            release(loc);
+
+            return bytes;
+        }
+
+        /**
+         * Appends value to the active segment, mapping a new one if needed.
+         *
+         * @param key Key.
+         * @param val Value.
+         * @return Location of appended value.
+         * @throws GridSpiException If failed to map new segment.
+         */
+        private Location append(GridSwapKey key, byte[] val) throws GridSpiException {
+            synchronized (mux) {
+                Segment seg = active;
+
+                if (seg == null || !seg.hasRoom(val.length)) {
+                    if (seg != null)
+                        seg.sealed = true;
+
+                    int id = segIdGen++;
+
+                    File file = new File(dir, name + '-' + id + ".seg");
+
+                    seg = new Segment(id, file, Math.max(segSize, val.length));
+
+                    segs.put(id, seg);
+
+                    active = seg;
+                }
+
+                Location loc = new Location(seg, seg.append(val), val.length);
+
+                seg.liveKeys.put(loc, key);
+
+                return loc;
+            }
+        }
+
+        /**
+         * Marks value as garbage in its segment.
+         *
+         * @param loc Location of removed or overwritten value.
+         */
+        private void release(Location loc) {
+            Segment seg = loc.seg;
+
+            seg.release(loc);
+
+            if (seg.sealed && seg.sparsity() > maxSparsity)
+                LockSupport.unpark(compactor);
+        }
+
+        /**
+         * @return Most sparse sealed segment exceeding maximum sparsity or {@code null}.
+         */
+        @Nullable private Segment nextToCompact() {
+            Segment res = null;
+            float max = maxSparsity;
+
+            for (Segment seg : segs.values()) {
+                if (!seg.sealed || seg.skip)
+                    continue;
+
+                float s = seg.sparsity();
+
+                if (s > max) {
+                    res = seg;
+                    max = s;
+                }
+            }
+
+            return res;
+        }
+
+        /**
+         * Moves live values of a sealed segment to the active one and deletes it. Only live values
+         * of the segment are visited, so compaction cost does not depend on the total space size.
+         * If segment can not be deleted after that, it is skipped until it changes.
+         *
+         * @param seg Segment to compact.
+         * @throws GridSpiException If failed.
+         */
+        private void compact(Segment seg) throws GridSpiException {
+            assert seg.sealed;
+
+            for (Map.Entry<Location, GridSwapKey> e : seg.liveKeys.entrySet()) {
+                Location loc = e.getKey();
+                GridSwapKey key = e.getValue();
+
+                ConcurrentMap<GridSwapKey, Location> part = partition(key.partition(), false);
+
+                // Value is not published in index yet or was concurrently updated.
+                if (part == null || part.get(key) != loc)
+                    continue;
+
+                Location moved = append(key, loc.value());
+
+                if (part.replace(key, loc, moved))
+                    seg.release(loc);
+                else
+                    moved.seg.release(moved); // Concurrently updated or removed.
+            }
+
+            // Value appended right before sealing may be published after the scan above,
+            // such segment is skipped until next release in it (which resets the flag).
+            seg.skip = true;
+
+            if (seg.live.get() == 0) {
+                segs.remove(seg.id);
+
+                deleteSegment(seg);
+
+                compactedCnt.incrementAndGet();
+            }
+        }
+
+        /**
+         * Deletes segment file. Mapping itself is released by GC once no readers reference it.
+         *
+         * @param seg Segment.
+         */
+        private void deleteSegment(Segment seg) {
+            if (seg.file.exists() && !seg.file.delete())
+                U.warn(log, "Failed to delete swap segment: " + seg.file.getAbsolutePath());
+        }
+
+        /**
+         * Gets numbers of partitioned stored in this space.
+         *
+         * @return Partition numbers.
+         */
+        public Collection<Integer> partitions() {
+            return parts.keySet();
+        }
+
+        /**
+         * Gets partition map by its number.
+         *
+         * @param part Partition number.
+         * @param create Whether to create partition if it doesn't exist.
+         * @return Partition map.
+         */
+        @Nullable private ConcurrentMap<GridSwapKey, Location> partition(int part, boolean create) {
+            ConcurrentMap<GridSwapKey, Location> map = parts.get(part);
+
+            if (map == null && create) {
+                ConcurrentMap<GridSwapKey, Location> old = parts.putIfAbsent(part,
+                    map = new ConcurrentHashMap<>());
+
+                if (old != null)
+                    map = old;
+            }
+
+            return map;
+        }
+
+        /**
+         * @param part Partition.
+         * @return Iterator over partition.
+         */
+        public Iterator<Map.Entry<GridSwapKey, byte[]>> entriesIterator(int part) {
+            Map<GridSwapKey, Location> partMap = partition(part, false);
+
+            if (partMap == null)
+                return Collections.<Map.Entry<GridSwapKey, byte[]>>emptySet().iterator();
+
+            return transform(partMap.entrySet().iterator());
+        }
+
+        /**
+         * @return Iterator over all entries.
+         */
+        public Iterator<Map.Entry<GridSwapKey, byte[]>> entriesIterator() {
+            final Iterator<ConcurrentMap<GridSwapKey, Location>> iter = parts.values().iterator();
+
+            return transform(F.concat(new Iterator<Iterator<Map.Entry<GridSwapKey, Location>>>() {
+                @Override public boolean hasNext() {
+                    return iter.hasNext();
+                }
+
+                @Override public Iterator<Map.Entry<GridSwapKey, Location>> next() {
+                    return iter.next().entrySet().iterator();
+                }
+
+                @Override public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            }));
+        }
+
+        /**
+         * Gets iterator for all entries in space.
+         *
+         * @param iter Iterator with {@link Location} to transform.
+         * @return Entries iterator.
+         */
+        private Iterator<Map.Entry<GridSwapKey, byte[]>> transform(final Iterator<Map.Entry<GridSwapKey,
+            Location>> iter) {
+            return new Iterator<Map.Entry<GridSwapKey, byte[]>>() {
+                /** */
+                private GridSwapKey last;
+
+                @Override public boolean hasNext() {
+                    return iter.hasNext();
+                }
+
+                @Override public Map.Entry<GridSwapKey, byte[]> next() {
+                    Map.Entry<GridSwapKey, Location> e = iter.next();
+
+                    last = e.getKey();
+
+                    return new T2<>(e.getKey(), e.getValue().value());
+                }
+
+                @Override public void remove() {
+                    if (last == null)
+                        throw new IllegalStateException();
+
+                    try {
+                        Space.this.remove(last, false);
+                    }
+                    catch (GridSpiException e) {
+                        throw new GridRuntimeException(e);
+                    }
+                    finally {
+                        last = null;
+                    }
+                }
+            };
+        }
+    }
+}
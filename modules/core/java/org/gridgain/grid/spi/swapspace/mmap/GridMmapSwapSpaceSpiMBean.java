@@ -0,0 +1,72 @@
+/* 
+ Copyright (C) GridGain Systems. All Rights Reserved.
+ 
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+ 
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+/*  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+package org.gridgain.grid.spi.swapspace.mmap;
+
+import org.gridgain.grid.spi.*;
+import org.gridgain.grid.util.mbean.*;
+
+/**
+ * Management bean for {@link GridMmapSwapSpaceSpi}.
+ */
+@GridMBeanDescription("MBean that provides configuration information on memory-mapped swapspace SPI.")
+public interface GridMmapSwapSpaceSpiMBean extends GridSpiManagementMBean {
+    /**
+     * Gets base directory.
+     *
+     * @return Base directory.
+     */
+    @GridMBeanDescription("Base directory.")
+    public String getBaseDirectory();
+
+    /**
+     * Gets segment size in bytes.
+     *
+     * @return Segment size in bytes.
+     */
+    @GridMBeanDescription("Segment size in bytes.")
+    public int getSegmentSize();
+
+    /**
+     * Gets maximum sparsity of a sealed segment.
+     *
+     * @return Maximum sparsity.
+     */
+    @GridMBeanDescription("Maximum sparsity of a sealed segment.")
+    public float getMaximumSparsity();
+
+    /**
+     * Gets number of segment files currently mapped by all spaces.
+     *
+     * @return Number of segments.
+     */
+    @GridMBeanDescription("Number of segment files currently mapped by all spaces.")
+    public int getSegmentsCount();
+
+    /**
+     * Gets number of segments compacted since SPI start.
+     *
+     * @return Number of compacted segments.
+     */
+    @GridMBeanDescription("Number of segments compacted since SPI start.")
+    public long getCompactedSegmentsCount();
+}
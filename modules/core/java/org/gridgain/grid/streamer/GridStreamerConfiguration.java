@@ -40,6 +40,12 @@ public class GridStreamerConfiguration {
     /** Default value for maximum failover attempts. */
     public static final int DFLT_MAX_FAILOVER_ATTEMPTS = 3;
 
+    /** By default micro-batching is disabled. */
+    public static final int DFLT_MICRO_BATCH_SIZE = 0;
+
+    /** Default micro-batch latency in milliseconds. */
+    public static final long DFLT_MICRO_BATCH_LATENCY = 10;
+
     /** Name. */
     private String name;
 
@@ -62,6 +68,12 @@ public class GridStreamerConfiguration {
     /** Maximum number of concurrent sessions to be processed. */
     private int maxConcurrentSessions = DFLT_MAX_CONCURRENT_SESSIONS;
 
+    /** Micro-batch size. */
+    private int microBatchSize = DFLT_MICRO_BATCH_SIZE;
+
+    /** Micro-batch latency. */
+    private long microBatchLatency = DFLT_MICRO_BATCH_LATENCY;
+
     /** Streamer executor service. */
     private ExecutorService execSvc;
 
@@ -84,6 +96,8 @@ public class GridStreamerConfiguration {
         execSvcShutdown = c.isExecutorServiceShutdown();
         maxConcurrentSessions = c.getMaximumConcurrentSessions();
         maxFailoverAttempts = c.getMaximumFailoverAttempts();
+        microBatchLatency = c.getMicroBatchLatency();
+        microBatchSize = c.getMicroBatchSize();
         name = c.getName();
         router = c.getRouter();
         stages = c.getStages();
@@ -232,6 +246,53 @@ public class GridStreamerConfiguration {
         this.maxConcurrentSessions = maxConcurrentSessions;
     }
 
+    /**
+     * Gets maximum number of events accumulated into a single micro-batch. If positive, events added
+     * to a stage via {@link GridStreamer#addEvents(Collection)} and similar methods are not submitted
+     * immediately. Instead, they are accumulated per stage until either micro-batch size reaches this
+     * value or {@link #getMicroBatchLatency()} elapses since the first event was added. Then the whole
+     * micro-batch is routed and submitted at once, creating a single execution session.
+     * <p>
+     * If not positive, micro-batching is disabled and events are submitted on every call.
+     * Default value is {@link #DFLT_MICRO_BATCH_SIZE}.
+     *
+     * @return Maximum micro-batch size.
+     */
+    public int getMicroBatchSize() {
+        return microBatchSize;
+    }
+
+    /**
+     * Sets maximum micro-batch size.
+     *
+     * @param microBatchSize Maximum micro-batch size.
+     * @see #getMicroBatchSize()
+     */
+    public void setMicroBatchSize(int microBatchSize) {
+        this.microBatchSize = microBatchSize;
+    }
+
+    /**
+     * Gets maximum time in milliseconds events may wait in a micro-batch before it is submitted. This
+     * property is taken into account only if {@link #getMicroBatchSize()} is positive.
+     * Default value is {@link #DFLT_MICRO_BATCH_LATENCY}.
+     *
+     * @return Micro-batch latency.
+     */
+    public long getMicroBatchLatency() {
+        return microBatchLatency;
+    }
+
+    /**
+     * Sets micro-batch latency.
+     *
+     * @param microBatchLatency Micro-batch latency.
+     * @see #getMicroBatchLatency()
+     */
+    public void setMicroBatchLatency(long microBatchLatency) {
+        this.microBatchLatency = microBatchLatency;
+    }
+
     /**
      * Gets streamer executor service. Defines a thread pool in which streamer stages will be executed.
      * <p>
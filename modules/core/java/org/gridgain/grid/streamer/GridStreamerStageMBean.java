@@ -94,6 +94,38 @@ public interface GridStreamerStageMBean {
     @GridMBeanDescription("Stage average waiting time.")
     public long getAverageWaitingTime();
 
+    /**
+     * Gets maximum number of events processed by a single stage execution.
+     *
+     * @return Maximum batch size.
+     */
+    @GridMBeanDescription("Maximum number of events processed by a single stage execution.")
+    public int getMaximumBatchSize();
+
+    /**
+     * Gets average number of events processed by a single stage execution.
+     *
+     * @return Average batch size.
+     */
+    @GridMBeanDescription("Average number of events processed by a single stage execution.")
+    public int getAverageBatchSize();
+
+    /**
+     * Gets maximum time events spent in a micro-batch before it was submitted to this stage.
+     *
+     * @return Maximum queueing delay.
+     */
+    @GridMBeanDescription("Maximum time events spent in a micro-batch before submission.")
+    public long getMaximumQueueingDelay();
+
+    /**
+     * Gets average time events spent in a micro-batch before it was submitted to this stage.
+     *
+     * @return Average queueing delay.
+     */
+    @GridMBeanDescription("Average time events spent in a micro-batch before submission.")
+    public long getAverageQueueingDelay();
+
     /**
      * Gets total stage execution count since last reset.
      *
@@ -76,6 +76,38 @@ public interface GridStreamerStageMetrics {
      */
     public long averageWaitingTime();
 
+    /**
+     * Gets maximum number of events processed by a single stage execution.
+     *
+     * @return Maximum batch size.
+     */
+    public int maximumBatchSize();
+
+    /**
+     * Gets average number of events processed by a single stage execution.
+     *
+     * @return Average batch size.
+     */
+    public int averageBatchSize();
+
+    /**
+     * Gets maximum time events spent in a micro-batch before it was submitted to this stage.
+     * Is always {@code 0} if micro-batching is disabled (see
+     * {@link GridStreamerConfiguration#getMicroBatchSize()}).
+     *
+     * @return Maximum queueing delay.
+     */
+    public long maximumQueueingDelay();
+
+    /**
+     * Gets average time events spent in a micro-batch before it was submitted to this stage.
+     * Is always {@code 0} if micro-batching is disabled (see
+     * {@link GridStreamerConfiguration#getMicroBatchSize()}).
+     *
+     * @return Average queueing delay.
+     */
+    public long averageQueueingDelay();
+
     /**
      * Gets total stage execution count since last reset.
      *
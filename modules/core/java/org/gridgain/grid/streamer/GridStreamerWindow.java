@@ -45,6 +45,8 @@ import java.util.*;
  * <li>{@link GridStreamerBoundedSizeSortedWindow}</li>
  * <li>{@link GridStreamerBoundedTimeWindow}</li>
  * <li>{@link GridStreamerBoundedTimeBatchWindow}</li>
+ * <li>{@link GridStreamerColumnarBoundedSizeWindow}</li>
+ * <li>{@link GridStreamerColumnarBoundedTimeWindow}</li>
  * </ul>
  * <p>
  * Streamer window is configured vis {@link GridStreamerConfiguration#getWindows()} method.
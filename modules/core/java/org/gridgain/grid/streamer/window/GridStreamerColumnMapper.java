@@ -0,0 +1,78 @@
+/* 
+ Copyright (C) GridGain Systems. All Rights Reserved.
+ 
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+ 
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+/*  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.gridgain.grid.streamer.window;
+
+/**
+ * Maps fixed-schema streamer events to primitive columns of columnar windows
+ * (see {@link GridStreamerColumnarWindowAdapter}). Every event is decomposed into
+ * {@link #longColumns()} values of type {@code long} and {@link #doubleColumns()}
+ * values of type {@code double}. For example, market tick {@code (symbol, price, qty, ts)}
+ * could be mapped to long columns {@code (symbolId, qty, ts)} and a double column {@code (price)}.
+ * <p>
+ * Since columnar windows do not keep event instances, events returned from
+ * dequeue and eviction methods are re-created via {@link #event(long[], double[])}.
+ * Such events must be equal to the original ones if window has indexes configured.
+ */
+public interface GridStreamerColumnMapper<E> {
+    /**
+     * Gets number of {@code long} columns.
+     *
+     * @return Number of {@code long} columns.
+     */
+    public int longColumns();
+
+    /**
+     * Gets number of {@code double} columns.
+     *
+     * @return Number of {@code double} columns.
+     */
+    public int doubleColumns();
+
+    /**
+     * Gets value of {@code long} column for given event.
+     *
+     * @param evt Event.
+     * @param col Column index.
+     * @return Column value.
+     */
+    public long longValue(E evt, int col);
+
+    /**
+     * Gets value of {@code double} column for given event.
+     *
+     * @param evt Event.
+     * @param col Column index.
+     * @return Column value.
+     */
+    public double doubleValue(E evt, int col);
+
+    /**
+     * Re-creates event from column values.
+     *
+     * @param longs Values of {@code long} columns.
+     * @param doubles Values of {@code double} columns.
+     * @return Event.
+     */
+    public E event(long[] longs, double[] doubles);
+}
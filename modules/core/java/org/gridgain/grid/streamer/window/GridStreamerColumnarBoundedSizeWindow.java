@@ -0,0 +1,78 @@
+/* 
+ Copyright (C) GridGain Systems. All Rights Reserved.
+ 
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+ 
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+/*  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.gridgain.grid.streamer.window;
+
+import org.gridgain.grid.*;
+
+import java.util.*;
+
+/**
+ * Columnar counterpart of {@link GridStreamerBoundedSizeWindow}. Window is bounded by number of events,
+ * after adding events to this window caller must check for evicted events. Events are dequeued starting
+ * from the oldest one.
+ * <p>
+ * Events are stored in primitive column buffers, see {@link GridStreamerColumnarWindowAdapter} for details.
+ */
+public class GridStreamerColumnarBoundedSizeWindow<E> extends GridStreamerColumnarWindowAdapter<E> {
+    /** Window maximum size. */
+    private int maxSize;
+
+    /**
+     * Gets window maximum size.
+     *
+     * @return Maximum size.
+     */
+    public int getMaximumSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets window maximum size.
+     *
+     * @param maxSize Maximum size.
+     */
+    public void setMaximumSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void checkConfiguration() throws GridException {
+        super.checkConfiguration();
+
+        if (maxSize < 0)
+            throw new GridException("Failed to initialize window (maximumSize cannot be negative) " +
+                "[windowClass=" + getClass().getSimpleName() +
+                ", maxSize=" + maxSize + ']');
+    }
+
+    /** {@inheritDoc} */
+    @Override protected int evictable(int size, long now) {
+        return size > maxSize ? size - maxSize : 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Collection<E> dequeue0(int cnt) {
+        return pollFirst(cnt);
+    }
+}
@@ -0,0 +1,824 @@
+/* 
+ Copyright (C) GridGain Systems. All Rights Reserved.
+ 
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+ 
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+
+/*  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.gridgain.grid.streamer.window;
+
+import org.gridgain.grid.*;
+import org.gridgain.grid.kernal.processors.streamer.*;
+import org.gridgain.grid.util.*;
+import org.gridgain.grid.util.typedef.internal.*;
+
+import java.util.*;
+
+/**
+ * Adapter for columnar windows. Columnar windows do not keep event instances. Instead, every event is
+ * decomposed by configured {@link GridStreamerColumnMapper} into primitive values which are stored in
+ * per-column ring buffers. This makes memory footprint close to the size of event payload and allows
+ * to aggregate window contents with tight loops over primitive arrays, for example from
+ * {@link org.gridgain.grid.streamer.GridStreamerStage#run(org.gridgain.grid.streamer.GridStreamerContext, Collection)}:
+ * <pre name="code" class="java">
+ * GridStreamerColumnarWindowAdapter&lt;Tick&gt; win = (GridStreamerColumnarWindowAdapter&lt;Tick&gt;)ctx.window();
+ *
+ * win.enqueueAll(ticks);
+ *
+ * double avgPrice = win.doubleAverage(PRICE_COL);
+ * double p99Price = win.doublePercentile(PRICE_COL, 99);
+ * </pre>
+ * Aggregation methods take into account only events which are not yet qualified for eviction.
+ * <p>
+ * Events returned from dequeue, eviction and iteration methods are re-created by
+ * {@link GridStreamerColumnMapper#event(long[], double[])}. Removal via window iterator is not supported.
+ */
+public abstract class GridStreamerColumnarWindowAdapter<E> extends GridStreamerWindowAdapter<E> {
+    /** Default initial capacity of column buffers. */
+    public static final int DFLT_INIT_CAP = 1024;
+
+    /** Column mapper. */
+    private GridStreamerColumnMapper<E> mapper;
+
+    /** Initial capacity. */
+    private int initCap = DFLT_INIT_CAP;
+
+    /** Lock guarding column buffers. */
+    private final GridSpinReadWriteLock lock = new GridSpinReadWriteLock();
+
+    /** Values of {@code long} columns. */
+    private long[][] longs;
+
+    /** Values of {@code double} columns. */
+    private double[][] dbls;
+
+    /** Enqueue timestamps. */
+    private long[] tss;
+
+    /** Mask to get buffer index from event sequence. */
+    private int mask;
+
+    /** Sequence of the oldest event in window. */
+    private long first;
+
+    /** Sequence to be assigned to the next added event. */
+    private long last;
+
+    /**
+     * Gets column mapper.
+     *
+     * @return Column mapper.
+     */
+    public GridStreamerColumnMapper<E> getColumnMapper() {
+        return mapper;
+    }
+
+    /**
+     * Sets column mapper used to decompose events into columns. This property is mandatory.
+     *
+     * @param mapper Column mapper.
+     */
+    public void setColumnMapper(GridStreamerColumnMapper<E> mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * Gets initial capacity of column buffers.
+     *
+     * @return Initial capacity.
+     */
+    public int getInitialCapacity() {
+        return initCap;
+    }
+
+    /**
+     * Sets initial capacity of column buffers. Buffers grow when window holds more events
+     * than capacity allows. Capacity is rounded up to the nearest power of two. If not
+     * provided, {@link #DFLT_INIT_CAP} is used.
+     *
+     * @param initCap Initial capacity.
+     */
+    public void setInitialCapacity(int initCap) {
+        this.initCap = initCap;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void checkConfiguration() throws GridException {
+        if (mapper == null)
+            throw new GridException("Failed to initialize window (columnMapper must be set) [windowClass=" +
+                getClass().getSimpleName() + ']');
+
+        if (mapper.longColumns() < 0 || mapper.doubleColumns() < 0)
+            throw new GridException("Failed to initialize window (number of columns cannot be negative) " +
+                "[windowClass=" + getClass().getSimpleName() +
+                ", longColumns=" + mapper.longColumns() +
+                ", doubleColumns=" + mapper.doubleColumns() + ']');
+
+        if (initCap <= 0)
+            throw new GridException("Failed to initialize window (initialCapacity must be positive) " +
+                "[windowClass=" + getClass().getSimpleName() + ", initCap=" + initCap + ']');
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void reset0() {
+        lock.writeLock();
+
+        try {
+            int cap = U.ceilPow2(initCap);
+
+            longs = new long[mapper.longColumns()][cap];
+            dbls = new double[mapper.doubleColumns()][cap];
+            tss = new long[cap];
+
+            mask = cap - 1;
+
+            first = 0;
+            last = 0;
+        }
+        finally {
+            lock.writeUnlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void stop0() {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public int size() {
+        lock.readLock();
+
+        try {
+            return (int)(last - first);
+        }
+        finally {
+            lock.readUnlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public int evictionQueueSize() {
+        lock.readLock();
+
+        try {
+            return evictable((int)(last - first), U.currentTimeMillis());
+        }
+        finally {
+            lock.readUnlock();
+        }
+    }
+
+    /**
+     * Gets number of the oldest events which qualify for eviction. Called under window lock.
+     *
+     * @param size Current window size.
+     * @param now Current time.
+     * @return Number of events to evict.
+     */
+    protected abstract int evictable(int size, long now);
+
+    /**
+     * Gets number of the oldest events which were added to window before given time. Since
+     * events are added in time order, this is a binary search. Must be called from
+     * {@link #evictable(int, long)}.
+     *
+     * @param ts Time bound.
+     * @return Number of events added before {@code ts}.
+     */
+    protected int countAddedBefore(long ts) {
+        long lo = first;
+        long hi = last;
+
+        while (lo < hi) {
+            long mid = (lo + hi) >>> 1;
+
+            if (tss[(int)(mid & mask)] < ts)
+                lo = mid + 1;
+            else
+                hi = mid;
+        }
+
+        return (int)(lo - first);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean enqueue0(E evt) {
+        lock.writeLock();
+
+        try {
+            if (last - first > mask)
+                grow();
+
+            int idx = (int)(last & mask);
+
+            for (int c = 0; c < longs.length; c++)
+                longs[c][idx] = mapper.longValue(evt, c);
+
+            for (int c = 0; c < dbls.length; c++)
+                dbls[c][idx] = mapper.doubleValue(evt, c);
+
+            tss[idx] = U.currentTimeMillis();
+
+            last++;
+
+            return true;
+        }
+        finally {
+            lock.writeUnlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Collection<E> pollEvicted0(int cnt) {
+        lock.writeLock();
+
+        try {
+            int n = Math.min(cnt, evictable((int)(last - first), U.currentTimeMillis()));
+
+            Collection<E> res = new ArrayList<>(n);
+
+            for (int i = 0; i < n; i++)
+                res.add(event(first++));
+
+            return res;
+        }
+        finally {
+            lock.writeUnlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Collection<E> pollEvictedBatch0() {
+        return pollEvicted0(1);
+    }
+
+    /**
+     * Removes up to {@code cnt} oldest events from window.
+     *
+     * @param cnt Maximum number of events to remove.
+     * @return Removed events.
+     */
+    protected Collection<E> pollFirst(int cnt) {
+        lock.writeLock();
+
+        try {
+            int n = (int)Math.min(cnt, last - first);
+
+            Collection<E> res = new ArrayList<>(n);
+
+            for (int i = 0; i < n; i++)
+                res.add(event(first++));
+
+            return res;
+        }
+        finally {
+            lock.writeUnlock();
+        }
+    }
+
+    /**
+     * Removes up to {@code cnt} newest events from window.
+     *
+     * @param cnt Maximum number of events to remove.
+     * @return Removed events.
+     */
+    protected Collection<E> pollLast(int cnt) {
+        lock.writeLock();
+
+        try {
+            int n = (int)Math.min(cnt, last - first);
+
+            Collection<E> res = new ArrayList<>(n);
+
+            for (int i = 0; i < n; i++)
+                res.add(event(--last));
+
+            return res;
+        }
+        finally {
+            lock.writeUnlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override protected GridStreamerWindowIterator<E> iterator0() {
+        final long start;
+
+        lock.readLock();
+
+        try {
+            start = first;
+        }
+        finally {
+            lock.readUnlock();
+        }
+
+        return new GridStreamerWindowIterator<E>() {
+            /** Sequence of the next event to return. */
+            private long pos = start;
+
+            @Override public boolean hasNext() {
+                lock.readLock();
+
+                try {
+                    return Math.max(pos, first) < last;
+                }
+                finally {
+                    lock.readUnlock();
+                }
+            }
+
+            @Override public E next() {
+                lock.readLock();
+
+                try {
+                    // Skip events evicted or dequeued since previous call.
+                    if (pos < first)
+                        pos = first;
+
+                    if (pos >= last)
+                        throw new NoSuchElementException();
+
+                    return event(pos++);
+                }
+                finally {
+                    lock.readUnlock();
+                }
+            }
+
+            @Override public E removex() {
+                throw new UnsupportedOperationException("Columnar windows do not support removal via iterator.");
+            }
+        };
+    }
+
+    /**
+     * Gets sum of {@code double} column values.
+     *
+     * @param col Column index.
+     * @return Sum of values or {@code 0} if window is empty.
+     */
+    public double doubleSum(int col) {
+        lock.readLock();
+
+        try {
+            double[] vals = dbls[col];
+
+            long from = liveStart();
+
+            int off = (int)(from & mask);
+            int n = (int)(last - from);
+            int n1 = Math.min(n, vals.length - off);
+
+            return sum(vals, off, off + n1) + sum(vals, 0, n - n1);
+        }
+        finally {
+            lock.readUnlock();
+        }
+    }
+
+    /**
+     * Gets minimum of {@code double} column values.
+     *
+     * @param col Column index.
+     * @return Minimum value or {@link Double#NaN} if window is empty.
+     */
+    public double doubleMin(int col) {
+        lock.readLock();
+
+        try {
+            double[] vals = dbls[col];
+
+            long from = liveStart();
+
+            int off = (int)(from & mask);
+            int n = (int)(last - from);
+            int n1 = Math.min(n, vals.length - off);
+
+            return n == 0 ? Double.NaN : Math.min(min(vals, off, off + n1), min(vals, 0, n - n1));
+        }
+        finally {
+            lock.readUnlock();
+        }
+    }
+
+    /**
+     * Gets maximum of {@code double} column values.
+     *
+     * @param col Column index.
+     * @return Maximum value or {@link Double#NaN} if window is empty.
+     */
+    public double doubleMax(int col) {
+        lock.readLock();
+
+        try {
+            double[] vals = dbls[col];
+
+            long from = liveStart();
+
+            int off = (int)(from & mask);
+            int n = (int)(last - from);
+            int n1 = Math.min(n, vals.length - off);
+
+            return n == 0 ? Double.NaN : Math.max(max(vals, off, off + n1), max(vals, 0, n - n1));
+        }
+        finally {
+            lock.readUnlock();
+        }
+    }
+
+    /**
+     * Gets average of {@code double} column values.
+     *
+     * @param col Column index.
+     * @return Average value or {@link Double#NaN} if window is empty.
+     */
+    public double doubleAverage(int col) {
+        lock.readLock();
+
+        try {
+            double[] vals = dbls[col];
+
+            long from = liveStart();
+
+            int off = (int)(from & mask);
+            int n = (int)(last - from);
+            int n1 = Math.min(n, vals.length - off);
+
+            return n == 0 ? Double.NaN : (sum(vals, off, off + n1) + sum(vals, 0, n - n1)) / n;
+        }
+        finally {
+            lock.readUnlock();
+        }
+    }
+
+    /**
+     * Gets percentile of {@code double} column values using nearest-rank method.
+     *
+     * @param col Column index.
+     * @param pct Percentile, between {@code 0} and {@code 100}.
+     * @return Percentile value or {@link Double#NaN} if window is empty.
+     */
+    public double doublePercentile(int col, double pct) {
+        A.ensure(pct >= 0 && pct <= 100, "pct >= 0 && pct <= 100");
+
+        double[] sorted;
+
+        lock.readLock();
+
+        try {
+            double[] vals = dbls[col];
+
+            long from = liveStart();
+
+            int off = (int)(from & mask);
+            int n = (int)(last - from);
+            int n1 = Math.min(n, vals.length - off);
+
+            sorted = new double[n];
+
+            System.arraycopy(vals, off, sorted, 0, n1);
+            System.arraycopy(vals, 0, sorted, n1, n - n1);
+        }
+        finally {
+            lock.readUnlock();
+        }
+
+        if (sorted.length == 0)
+            return Double.NaN;
+
+        Arrays.sort(sorted);
+
+        return sorted[rank(sorted.length, pct)];
+    }
+
+    /**
+     * Gets sum of {@code long} column values.
+     *
+     * @param col Column index.
+     * @return Sum of values or {@code 0} if window is empty.
+     */
+    public long longSum(int col) {
+        lock.readLock();
+
+        try {
+            long[] vals = longs[col];
+
+            long from = liveStart();
+
+            int off = (int)(from & mask);
+            int n = (int)(last - from);
+            int n1 = Math.min(n, vals.length - off);
+
+            return sum(vals, off, off + n1) + sum(vals, 0, n - n1);
+        }
+        finally {
+            lock.readUnlock();
+        }
+    }
+
+    /**
+     * Gets minimum of {@code long} column values.
+     *
+     * @param col Column index.
+     * @return Minimum value or {@link Long#MAX_VALUE} if window is empty.
+     */
+    public long longMin(int col) {
+        lock.readLock();
+
+        try {
+            long[] vals = longs[col];
+
+            long from = liveStart();
+
+            int off = (int)(from & mask);
+            int n = (int)(last - from);
+            int n1 = Math.min(n, vals.length - off);
+
+            return Math.min(min(vals, off, off + n1), min(vals, 0, n - n1));
+        }
+        finally {
+            lock.readUnlock();
+        }
+    }
+
+    /**
+     * Gets maximum of {@code long} column values.
+     *
+     * @param col Column index.
+     * @return Maximum value or {@link Long#MIN_VALUE} if window is empty.
+     */
+    public long longMax(int col) {
+        lock.readLock();
+
+        try {
+            long[] vals = longs[col];
+
+            long from = liveStart();
+
+            int off = (int)(from & mask);
+            int n = (int)(last - from);
+            int n1 = Math.min(n, vals.length - off);
+
+            return Math.max(max(vals, off, off + n1), max(vals, 0, n - n1));
+        }
+        finally {
+            lock.readUnlock();
+        }
+    }
+
+    /**
+     * Gets average of {@code long} column values.
+     *
+     * @param col Column index.
+     * @return Average value or {@link Double#NaN} if window is empty.
+     */
+    public double longAverage(int col) {
+        lock.readLock();
+
+        try {
+            long[] vals = longs[col];
+
+            long from = liveStart();
+
+            int off = (int)(from & mask);
+            int n = (int)(last - from);
+            int n1 = Math.min(n, vals.length - off);
+
+            return n == 0 ? Double.NaN : (double)(sum(vals, off, off + n1) + sum(vals, 0, n - n1)) / n;
+        }
+        finally {
+            lock.readUnlock();
+        }
+    }
+
+    /**
+     * Gets percentile of {@code long} column values using nearest-rank method.
+     *
+     * @param col Column index.
+     * @param pct Percentile, between {@code 0} and {@code 100}.
+     * @return Percentile value or {@code 0} if window is empty.
+     */
+    public long longPercentile(int col, double pct) {
+        A.ensure(pct >= 0 && pct <= 100, "pct >= 0 && pct <= 100");
+
+        long[] sorted;
+
+        lock.readLock();
+
+        try {
+            long[] vals = longs[col];
+
+            long from = liveStart();
+
+            int off = (int)(from & mask);
+            int n = (int)(last - from);
+            int n1 = Math.min(n, vals.length - off);
+
+            sorted = new long[n];
+
+            System.arraycopy(vals, off, sorted, 0, n1);
+            System.arraycopy(vals, 0, sorted, n1, n - n1);
+        }
+        finally {
+            lock.readUnlock();
+        }
+
+        if (sorted.length == 0)
+            return 0;
+
+        Arrays.sort(sorted);
+
+        return sorted[rank(sorted.length, pct)];
+    }
+
+    /**
+     * Gets sequence of the oldest event which does not qualify for eviction. Called under window lock.
+     *
+     * @return Sequence.
+     */
+    private long liveStart() {
+        return first + evictable((int)(last - first), U.currentTimeMillis());
+    }
+
+    /**
+     * Re-creates event from column values. Called under window lock.
+     *
+     * @param seq Event sequence.
+     * @return Event.
+     */
+    private E event(long seq) {
+        int idx = (int)(seq & mask);
+
+        long[] l = new long[longs.length];
+        double[] d = new double[dbls.length];
+
+        for (int c = 0; c < l.length; c++)
+            l[c] = longs[c][idx];
+
+        for (int c = 0; c < d.length; c++)
+            d[c] = dbls[c][idx];
+
+        return mapper.event(l, d);
+    }
+
+    /**
+     * Doubles capacity of column buffers. Called under window write lock. Event sequences
+     * are not changed, so concurrent iterators stay valid.
+     */
+    private void grow() {
+        int cap = (mask + 1) << 1;
+
+        if (cap < 0)
+            throw new GridRuntimeException("Failed to add event to window (maximum capacity reached) [windowClass=" +
+                getClass().getSimpleName() + ", size=" + (last - first) + ']');
+
+        int newMask = cap - 1;
+
+        for (int c = 0; c < longs.length; c++) {
+            long[] src = longs[c];
+            long[] dst = new long[cap];
+
+            for (long s = first; s < last; s++)
+                dst[(int)(s & newMask)] = src[(int)(s & mask)];
+
+            longs[c] = dst;
+        }
+
+        for (int c = 0; c < dbls.length; c++) {
+            double[] src = dbls[c];
+            double[] dst = new double[cap];
+
+            for (long s = first; s < last; s++)
+                dst[(int)(s & newMask)] = src[(int)(s & mask)];
+
+            dbls[c] = dst;
+        }
+
+        long[] newTss = new long[cap];
+
+        for (long s = first; s < last; s++)
+            newTss[(int)(s & newMask)] = tss[(int)(s & mask)];
+
+        tss = newTss;
+        mask = newMask;
+    }
+
+    /**
+     * @param n Number of values.
+     * @param pct Percentile.
+     * @return Index of percentile value in sorted array.
+     */
+    private static int rank(int n, double pct) {
+        int rank = (int)Math.ceil(pct / 100 * n);
+
+        return rank > 0 ? rank - 1 : 0;
+    }
+
+    /**
+     * @param vals Values.
+     * @param from Start index, inclusive.
+     * @param to End index, exclusive.
+     * @return Sum.
+     */
+    private static double sum(double[] vals, int from, int to) {
+        double res = 0;
+
+        for (int i = from; i < to; i++)
+            res += vals[i];
+
+        return res;
+    }
+
+    /**
+     * @param vals Values.
+     * @param from Start index, inclusive.
+     * @param to End index, exclusive.
+     * @return Minimum or {@link Double#POSITIVE_INFINITY} if range is empty.
+     */
+    private static double min(double[] vals, int from, int to) {
+        double res = Double.POSITIVE_INFINITY;
+
+        for (int i = from; i < to; i++)
+            res = Math.min(res, vals[i]);
+
+        return res;
+    }
+
+    /**
+     * @param vals Values.
+     * @param from Start index, inclusive.
+     * @param to End index, exclusive.
+     * @return Maximum or {@link Double#NEGATIVE_INFINITY} if range is empty.
+     */
+    private static double max(double[] vals, int from, int to) {
+        double res = Double.NEGATIVE_INFINITY;
+
+        for (int i = from; i < to; i++)
+            res = Math.max(res, vals[i]);
+
+        return res;
+    }
+
+    /**
+     * @param vals Values.
+     * @param from Start index, inclusive.
+     * @param to End index, exclusive.
+     * @return Sum.
+     */
+    private static long sum(long[] vals, int from, int to) {
+        long res = 0;
+
+        for (int i = from; i < to; i++)
+            res += vals[i];
+
+        return res;
+    }
+
+    /**
+     * @param vals Values.
+     * @param from Start index, inclusive.
+     * @param to End index, exclusive.
+     * @return Minimum or {@link Long#MAX_VALUE} if range is empty.
+     */
+    private static long min(long[] vals, int from, int to) {
+        long res = Long.MAX_VALUE;
+
+        for (int i = from; i < to; i++)
+            res = Math.min(res, vals[i]);
+
+        return res;
+    }
+
+    /**
+     * @param vals Values.
+     * @param from Start index, inclusive.
+     * @param to End index, exclusive.
+     * @return Maximum or {@link Long#MIN_VALUE} if range is empty.
+     */
+    private static long max(long[] vals, int from, int to) {
+        long res = Long.MIN_VALUE;
+
+        for (int i = from; i < to; i++)
+            res = Math.max(res, vals[i]);
+
+        return res;
+    }
+}
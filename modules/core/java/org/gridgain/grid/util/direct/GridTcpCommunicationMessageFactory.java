@@ -311,6 +311,9 @@ public class GridTcpCommunicationMessageFactory {
             case 78:
                 return new GridJobStealingRequest();
 
+            case 79:
+                return new GridJobExecuteBatchRequest();
+
             default:
                 return createCustom(type);
         }
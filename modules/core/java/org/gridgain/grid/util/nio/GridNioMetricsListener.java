@@ -36,4 +36,13 @@ public interface GridNioMetricsListener {
      * @param bytesCnt Number of received bytes.
      */
     public void onBytesReceived(int bytesCnt);
+
+    /**
+     * Called when a batch of messages is written to socket with a single write call.
+     *
+     * @param ses Session messages were sent over.
+     * @param msgCnt Number of messages in the batch.
+     * @param waitTime Total time messages of the batch spent in session queue, in nanoseconds.
+     */
+    public void onMessagesSent(GridNioSession ses, int msgCnt, long waitTime);
 }
@@ -69,6 +69,12 @@ public class GridNioServer<T> {
     /** Buffer metadata key. */
     private static final int BUF_META_KEY = GridNioSessionMetaKey.nextUniqueKey();
 
+    /** Initial size of direct mode session buffers. */
+    private static final int INIT_BUF_SIZE = 8 << 10;
+
+    /** Maximum size write buffer can grow to under sustained outbound load. */
+    private static final int MAX_WRITE_BUF_SIZE = 64 << 10;
+
     /** Node ID meta key (set only if versions are different). */
     public static final int DIFF_VER_NODE_ID_META_KEY = GridNioSessionMetaKey.nextUniqueKey();
 
@@ -350,6 +356,9 @@ public class GridNioServer<T> {
         assert ses != null;
         assert fut != null;
 
+        if (metricsLsnr != null)
+            fut.enqueueTime(System.nanoTime());
+
         int msgCnt = ses.offerFuture(fut);
 
         if (ses.closed()) {
@@ -749,6 +758,12 @@ public class GridNioServer<T> {
                 GridTcpCommunicationMessageAdapter msg;
                 boolean finished = false;
 
+                // Messages completely put to buffer in this round and their total queueing time.
+                int msgCnt = 0;
+                long waitTime = 0;
+
+                long now = metricsLsnr != null ? System.nanoTime() : 0;
+
                 if (req != null) {
                     msg = req.directMessage();
 
@@ -756,6 +771,11 @@ public class GridNioServer<T> {
                     assert msgWriter != null;
 
                     finished = msgWriter.write(nodeId, msg, buf);
+
+                    if (finished && metricsLsnr != null) {
+                        msgCnt++;
+                        waitTime += now - req.enqueueTime();
+                    }
                 }
 
                 // Fill up as many messages as possible to write buffer.
@@ -771,8 +791,16 @@ public class GridNioServer<T> {
                     assert msgWriter != null;
 
                     finished = msgWriter.write(nodeId, msg, buf);
+
+                    if (finished && metricsLsnr != null) {
+                        msgCnt++;
+                        waitTime += now - req.enqueueTime();
+                    }
                 }
 
+                // Buffer is full and there are messages waiting for it.
+                boolean full = !finished && req != null;
+
                 buf.flip();
 
                 assert buf.hasRemaining();
@@ -783,9 +811,13 @@ public class GridNioServer<T> {
                     if (log.isTraceEnabled())
                         log.trace("Bytes sent [sockCh=" + sockCh + ", cnt=" + cnt + ']');
 
-                    if (metricsLsnr != null)
+                    if (metricsLsnr != null) {
                         metricsLsnr.onBytesSent(cnt);
 
+                        if (msgCnt > 0)
+                            metricsLsnr.onMessagesSent(ses, msgCnt, waitTime);
+                    }
+
                     ses.bytesSent(cnt);
                 }
                 else {
@@ -805,10 +837,43 @@ public class GridNioServer<T> {
 
                     break;
                 }
-                else
+                else {
                     buf.clear();
+
+                    // Socket accepted full buffer while messages keep queueing up, so
+                    // put more messages into each write call.
+                    if (full && buf.capacity() < MAX_WRITE_BUF_SIZE)
+                        buf = growWriteBuffer(ses, buf);
+                }
             }
         }
+
+        /**
+         * Replaces drained session write buffer with a twice larger one.
+         *
+         * @param ses Session.
+         * @param buf Current write buffer, must be empty.
+         * @return New write buffer.
+         */
+        private ByteBuffer growWriteBuffer(GridSelectorNioSessionImpl ses, ByteBuffer buf) {
+            assert buf.position() == 0;
+
+            int size = Math.min(buf.capacity() * 2, MAX_WRITE_BUF_SIZE);
+
+            ByteBuffer newBuf = directBuf ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+
+            newBuf.order(buf.order());
+
+            ses.writeBuffer(newBuf);
+
+            if (directBuf)
+                ((DirectBuffer)buf).cleaner().clean();
+
+            if (log.isDebugEnabled())
+                log.debug("Increased session write buffer size [ses=" + ses + ", size=" + size + ']');
+
+            return newBuf;
+        }
     }
 
     /**
@@ -1093,8 +1158,10 @@ public class GridNioServer<T> {
                 ByteBuffer readBuf = null;
 
                 if (directMode) {
-                    writeBuf = directBuf ? ByteBuffer.allocateDirect(8 << 10) : ByteBuffer.allocate(8 << 10);
-                    readBuf = directBuf ? ByteBuffer.allocateDirect(8 << 10) : ByteBuffer.allocate(8 << 10);
+                    writeBuf = directBuf ? ByteBuffer.allocateDirect(INIT_BUF_SIZE) :
+                        ByteBuffer.allocate(INIT_BUF_SIZE);
+                    readBuf = directBuf ? ByteBuffer.allocateDirect(INIT_BUF_SIZE) :
+                        ByteBuffer.allocate(INIT_BUF_SIZE);
 
                     writeBuf.order(order);
                     readBuf.order(order);
@@ -1447,6 +1514,9 @@ public class GridNioServer<T> {
         /** */
         private Map<Integer, ?> meta;
 
+        /** Time write request was enqueued to session, in nanoseconds. */
+        private long enqueueTime;
+
         /**
          * Creates registration request for a given socket channel.
          *
@@ -1572,6 +1642,20 @@ public class GridNioServer<T> {
             return meta;
         }
 
+        /**
+         * @return Time write request was enqueued to session, in nanoseconds.
+         */
+        private long enqueueTime() {
+            return enqueueTime;
+        }
+
+        /**
+         * @param enqueueTime Time write request was enqueued to session, in nanoseconds.
+         */
+        private void enqueueTime(long enqueueTime) {
+            this.enqueueTime = enqueueTime;
+        }
+
         /**
          * Applicable to write futures only. Fails future with corresponding IOException.
          */
@@ -128,6 +128,17 @@ class GridSelectorNioSessionImpl extends GridNioSessionImpl {
         return writeBuf;
     }
 
+    /**
+     * Replaces write buffer. Must be called from selector thread only.
+     *
+     * @param writeBuf New write buffer.
+     */
+    void writeBuffer(ByteBuffer writeBuf) {
+        assert writeBuf != null;
+
+        this.writeBuf = writeBuf;
+    }
+
     /**
      * @return Read buffer.
      */